@@ -0,0 +1,343 @@
+package lsq;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Minimal benchmark harness for the data structures in src, for the
+ * benchmarks that are not JMH benchmarks like CollectionsBench.
+ *
+ * Each benchmark is measured for a fixed wall-clock time after a warmup
+ * period. The harness reports throughput in operations per second and the
+ * allocation rate in bytes per operation, read from the per-thread
+ * allocation counter of the HotSpot ThreadMXBean (the same counter the JMH
+ * GC profiler reads).
+ *
+ * Multi-threaded benchmarks share one operation between all threads and
+ * report the combined throughput.
+ *
+ * Settings are read from system properties:
+ * bench.sizes (comma separated, default 10,1000,100000,10000000),
+ * bench.threads (comma separated, default 1,2,4,8,16,32,64),
+ * bench.warmup and bench.time (milliseconds, default 500 and 1000).
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public final class Bench {
+
+    /**
+     * The sizes benchmarks are run at when bench.sizes is not set.
+     */
+    public static final int[] DEFAULT_SIZES = {10, 1_000, 100_000, 10_000_000};
+
+    /**
+     * The thread counts multi-threaded benchmarks are run at when
+     * bench.threads is not set.
+     */
+    public static final int[] DEFAULT_THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    private static final long WARMUP_MS = Long.getLong("bench.warmup", 500);
+    private static final long MEASURE_MS = Long.getLong("bench.time", 1000);
+    private static final long BATCH_NANOS = 10_000_000L;
+    private static final int THREAD_BATCH = 256;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Results are folded into this field so the JIT cannot remove the
+     * measured work as dead code.
+     */
+    private static volatile long sink;
+
+    /**
+     * A benchmarked operation.
+     */
+    public interface Op {
+
+        /**
+         * Runs the operation the given number of times.
+         *
+         * @param reps the number of operations to run
+         * @return any value derived from the results
+         */
+        long run(int reps);
+    }
+
+    /**
+     * Creates a fresh, prefilled operation for a given size.
+     */
+    public interface Setup {
+
+        /**
+         * Creates the operation to measure.
+         *
+         * @param size the number of elements the structure should hold
+         * @return the operation to measure
+         */
+        Op create(int size);
+    }
+
+    private final String filter;
+
+    /**
+     * Constructs a new Bench.
+     *
+     * @param args the command line arguments; the first one, if present,
+     *             only runs benchmarks whose name contains it
+     */
+    public Bench(String[] args) {
+        filter = args.length > 0 ? args[0] : "";
+        System.out.printf(Locale.ROOT, "%-48s %10s %16s %12s%n",
+                "Benchmark", "size/thr", "ops/s", "B/op");
+    }
+
+    /**
+     * Returns the sizes to run the benchmarks at.
+     *
+     * @return the configured sizes
+     */
+    public static int[] sizes() {
+        return intsProperty("bench.sizes", DEFAULT_SIZES);
+    }
+
+    /**
+     * Returns the thread counts to run multi-threaded benchmarks at.
+     *
+     * @return the configured thread counts
+     */
+    public static int[] threads() {
+        return intsProperty("bench.threads", DEFAULT_THREADS);
+    }
+
+    /**
+     * Parses a comma separated list of ints from a system property.
+     *
+     * @param name     the name of the property
+     * @param defaults the values to use when the property is not set
+     * @return the parsed values
+     */
+    private static int[] intsProperty(String name, int[] defaults) {
+        String property = System.getProperty(name);
+        if (property == null) {
+            return defaults.clone();
+        }
+        String[] parts = property.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Integer.parseInt(parts[i].trim().replace("_", ""));
+        }
+        return values;
+    }
+
+    /**
+     * Runs a benchmark at every configured size.
+     *
+     * @param name  the name of the benchmark
+     * @param setup creates the operation for each size
+     */
+    public void run(String name, Setup setup) {
+        for (int size : sizes()) {
+            run(name, size, setup);
+        }
+    }
+
+    /**
+     * Runs a benchmark at a single size.
+     *
+     * A failing benchmark is reported and skipped so the remaining
+     * benchmarks still run.
+     *
+     * @param name  the name of the benchmark
+     * @param size  the number of elements
+     * @param setup creates the operation
+     */
+    public void run(String name, int size, Setup setup) {
+        if (!name.contains(filter)) {
+            return;
+        }
+        try {
+            Op op = setup.create(size);
+            measure(op, WARMUP_MS);
+            long allocatedBefore = allocatedBytes();
+            long[] result = measure(op, MEASURE_MS);
+            long allocated = allocatedBytes() - allocatedBefore;
+            double opsPerSecond = result[0] * 1e9 / result[1];
+            System.out.printf(Locale.ROOT, "%-48s %10d %16.1f %12.1f%n",
+                    name, size, opsPerSecond, (double) allocated / result[0]);
+        } catch (RuntimeException | OutOfMemoryError e) {
+            System.out.printf(Locale.ROOT, "%-48s %10d FAILED: %s%n", name, size, e);
+        }
+    }
+
+    /**
+     * Runs a multi-threaded benchmark at every configured thread count.
+     *
+     * The operation is created once per thread count and shared by all of
+     * the threads.
+     *
+     * @param name  the name of the benchmark
+     * @param setup creates the shared operation, given the thread count
+     */
+    public void runThreads(String name, Setup setup) {
+        if (!name.contains(filter)) {
+            return;
+        }
+        for (int threads : threads()) {
+            try {
+                Op[] ops = new Op[threads];
+                Arrays.fill(ops, setup.create(threads));
+                measureThreads(ops, false, WARMUP_MS);
+                long[] result = measureThreads(ops, false, MEASURE_MS);
+                double opsPerSecond = result[0] * 1e9 / result[1];
+                System.out.printf(Locale.ROOT, "%-48s %10d %16.1f %12.1f%n",
+                        name, threads, opsPerSecond, (double) result[2] / result[0]);
+            } catch (RuntimeException | OutOfMemoryError | InterruptedException e) {
+                System.out.printf(Locale.ROOT, "%-48s %10d FAILED: %s%n", name, threads, e);
+            }
+        }
+    }
+
+    /**
+     * Runs a producer/consumer benchmark with one thread on each side.
+     *
+     * Both operations must not block: the producer tries to hand off reps
+     * elements and the consumer tries to take reps elements, returning how
+     * many it actually took. Throughput counts the elements taken.
+     *
+     * @param name     the name of the benchmark
+     * @param producer the operation run by the producer thread
+     * @param consumer the operation run by the consumer thread
+     */
+    public void runPair(String name, Op producer, Op consumer) {
+        if (!name.contains(filter)) {
+            return;
+        }
+        try {
+            Op[] ops = {reps -> {
+                sink += producer.run(reps);
+                return 0;
+            }, consumer};
+            measureThreads(ops, true, WARMUP_MS);
+            long[] result = measureThreads(ops, true, MEASURE_MS);
+            double opsPerSecond = result[0] * 1e9 / result[1];
+            System.out.printf(Locale.ROOT, "%-48s %10d %16.1f %12.1f%n",
+                    name, 2, opsPerSecond, (double) result[2] / Math.max(1, result[0]));
+        } catch (RuntimeException | OutOfMemoryError | InterruptedException e) {
+            System.out.printf(Locale.ROOT, "%-48s %10d FAILED: %s%n", name, 2, e);
+        }
+    }
+
+    /**
+     * Calls the operations, one per thread, until the time budget is used.
+     *
+     * @param ops       the operation each thread runs
+     * @param transfers true to count the values the operations return
+     *                  instead of the number of calls
+     * @param millis    the time budget
+     * @return the number of operations run, the nanoseconds they took and
+     *         the bytes all threads allocated
+     * @throws InterruptedException if interrupted while waiting for threads
+     */
+    private static long[] measureThreads(Op[] ops, boolean transfers, long millis)
+            throws InterruptedException {
+        int threads = ops.length;
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] counts = new long[threads];
+        long[] allocated = new long[threads];
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            final Op op = ops[t];
+            workers[t] = new Thread(() -> {
+                long result = 0;
+                long count = 0;
+                try {
+                    ready.countDown();
+                    start.await();
+                    long allocatedBefore = allocatedBytes();
+                    while (!stop.get()) {
+                        if (transfers) {
+                            count += op.run(THREAD_BATCH);
+                        } else {
+                            result += op.run(THREAD_BATCH);
+                            count += THREAD_BATCH;
+                        }
+                    }
+                    allocated[id] = allocatedBytes() - allocatedBefore;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                }
+                counts[id] = count;
+                sink += result;
+            });
+            workers[t].start();
+        }
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        Thread.sleep(millis);
+        stop.set(true);
+        long elapsed = System.nanoTime() - begin;
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        long totalOps = 0;
+        long totalAllocated = 0;
+        for (int t = 0; t < threads; t++) {
+            totalOps += counts[t];
+            totalAllocated += allocated[t];
+        }
+        return new long[] {totalOps, elapsed, totalAllocated};
+    }
+
+    /**
+     * Calls the operation in growing batches until the time budget is used.
+     *
+     * @param op     the operation
+     * @param millis the time budget
+     * @return the number of operations run and the nanoseconds they took
+     */
+    private static long[] measure(Op op, long millis) {
+        long budget = millis * 1_000_000L;
+        long ops = 0;
+        long elapsed = 0;
+        int batch = 1;
+        long result = 0;
+        while (elapsed < budget) {
+            long start = System.nanoTime();
+            result += op.run(batch);
+            long took = System.nanoTime() - start;
+            elapsed += took;
+            ops += batch;
+            // Slow operations (O(n) shifts at large sizes) keep a small batch
+            if (took < BATCH_NANOS && batch < (1 << 20)) {
+                batch <<= 1;
+            }
+        }
+        sink += result;
+        return new long[] {ops, elapsed};
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far.
+     *
+     * @return the allocated bytes
+     */
+    private static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
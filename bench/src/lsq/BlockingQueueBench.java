@@ -0,0 +1,146 @@
+package lsq;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of BlockingLinkedQueue against
+ * java.util.concurrent.LinkedBlockingQueue, listed as jdk LinkedBlockingQueue.
+ *
+ * The pair benchmarks run one producer and one consumer on a bounded queue
+ * with timed offer and poll, so a side that finds the queue full or empty
+ * waits for the other instead of spinning. The thread benchmarks have
+ * every thread run put+take pairs on one shared queue, prefilled so a take
+ * never finds it empty and sized so a put never finds it full.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public final class BlockingQueueBench {
+
+    private static final int CAPACITY = 1 << 14;
+    private static final int PREFILL = 1_000;
+    private static final Integer VALUE = 42;
+    private static final long WAIT_MS = 10;
+
+    /**
+     * Utility class, not instantiated.
+     */
+    private BlockingQueueBench() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args an optional filter on the benchmark names
+     */
+    public static void main(String[] args) {
+        Bench bench = new Bench(args);
+
+        BlockingLinkedQueue<Integer> blocking = new BlockingLinkedQueue<>(CAPACITY);
+        bench.runPair("BlockingLinkedQueue.offer/poll(timed)", reps -> {
+            long offered = 0;
+            for (int i = 0; i < reps; i++) {
+                if (uninterruptibly(() -> blocking.offer(VALUE, WAIT_MS, TimeUnit.MILLISECONDS))) {
+                    offered++;
+                }
+            }
+            return offered;
+        }, reps -> {
+            long taken = 0;
+            for (int i = 0; i < reps; i++) {
+                if (uninterruptibly(() -> blocking.poll(WAIT_MS, TimeUnit.MILLISECONDS) != null)) {
+                    taken++;
+                }
+            }
+            return taken;
+        });
+
+        java.util.concurrent.LinkedBlockingQueue<Integer> jdk = new java.util.concurrent.LinkedBlockingQueue<>(CAPACITY);
+        bench.runPair("jdk LinkedBlockingQueue.offer/poll(timed)", reps -> {
+            long offered = 0;
+            for (int i = 0; i < reps; i++) {
+                if (uninterruptibly(() -> jdk.offer(VALUE, WAIT_MS, TimeUnit.MILLISECONDS))) {
+                    offered++;
+                }
+            }
+            return offered;
+        }, reps -> {
+            long taken = 0;
+            for (int i = 0; i < reps; i++) {
+                if (uninterruptibly(() -> jdk.poll(WAIT_MS, TimeUnit.MILLISECONDS) != null)) {
+                    taken++;
+                }
+            }
+            return taken;
+        });
+
+        bench.runThreads("BlockingLinkedQueue.put+take", threads -> {
+            BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>(PREFILL + threads);
+            for (int i = 0; i < PREFILL; i++) {
+                queue.offer(VALUE);
+            }
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    uninterruptibly(() -> {
+                        queue.put(VALUE);
+                        return true;
+                    });
+                    result += uninterruptibly(queue::take);
+                }
+                return result;
+            };
+        });
+        bench.runThreads("jdk LinkedBlockingQueue.put+take", threads -> {
+            java.util.concurrent.LinkedBlockingQueue<Integer> queue =
+                    new java.util.concurrent.LinkedBlockingQueue<>(PREFILL + threads);
+            for (int i = 0; i < PREFILL; i++) {
+                queue.offer(VALUE);
+            }
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    uninterruptibly(() -> {
+                        queue.put(VALUE);
+                        return true;
+                    });
+                    result += uninterruptibly(queue::take);
+                }
+                return result;
+            };
+        });
+    }
+
+    /**
+     * A call that may be interrupted while it waits.
+     *
+     * @param <R> the type of the result
+     */
+    private interface Blocking<R> {
+
+        /**
+         * Makes the call.
+         *
+         * @return the result
+         * @throws InterruptedException if interrupted while waiting
+         */
+        R call() throws InterruptedException;
+    }
+
+    /**
+     * Makes a blocking call, turning an interrupt into a failure of the
+     * benchmark.
+     *
+     * @param call the call to make
+     * @param <R>  the type of the result
+     * @return the result of the call
+     */
+    private static <R> R uninterruptibly(Blocking<R> call) {
+        try {
+            return call.call();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting", e);
+        }
+    }
+}
@@ -0,0 +1,716 @@
+package lsq;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH throughput benchmarks for ArrayList, GapArrayList, ArrayStack,
+ * LinkedQueue, DoublyLinkedList, UnrolledLinkedList and IndexedLinkedList,
+ * with java.util.ArrayList, ArrayDeque and LinkedList as baselines.
+ *
+ * Structures are prefilled to the size parameter and operations are run in
+ * pairs (an add and a remove) so the size stays constant while measuring.
+ * The growth benchmarks instead fill the structure up to the size and start
+ * over with a new, empty one. The batch benchmarks count every element of
+ * the batch as an operation.
+ *
+ * Run with the GC profiler, -prof gc, for the allocation rate; the
+ * gc.alloc.rate.norm column is the bytes allocated per operation.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class CollectionsBench {
+
+    private static final int MASK = 1023;
+    private static final int BATCH = 256;
+    private static final int POOL_SIZE = 1024;
+    private static final int NEAR = 16;
+    private static final Integer[] VALUES = new Integer[MASK + 1];
+
+    static {
+        for (int i = 0; i < VALUES.length; i++) {
+            VALUES[i] = i;
+        }
+    }
+
+    /**
+     * A structure of the benchmark size, filled with size elements before
+     * the first measurement.
+     */
+    @State(Scope.Thread)
+    public abstract static class Filled {
+
+        /**
+         * The number of elements in the structure.
+         */
+        @Param({"10", "1000", "100000", "10000000"})
+        public int size;
+
+        private int next;
+        private int[] randomIndices;
+        private int[] nearIndices;
+
+        /**
+         * Fills the structure and picks the indices.
+         */
+        @Setup
+        public void fill() {
+            randomIndices = randomIndices(size);
+            nearIndices = nearIndices(size);
+            for (int i = 0; i < size; i++) {
+                add(VALUES[i & MASK]);
+            }
+        }
+
+        /**
+         * Adds a value to the back of the structure.
+         *
+         * @param value the value
+         */
+        abstract void add(Integer value);
+
+        /**
+         * Returns the value for the next operation.
+         *
+         * @return the value
+         */
+        Integer value() {
+            return VALUES[next++ & MASK];
+        }
+
+        /**
+         * Returns the index for the next operation, at random.
+         *
+         * @return an index between 0 and size - 1
+         */
+        int randomIndex() {
+            return randomIndices[next++ & MASK];
+        }
+
+        /**
+         * Returns the index for the next operation, at most NEAR places
+         * away from the middle.
+         *
+         * @return an index between 0 and size - 1
+         */
+        int nearIndex() {
+            return nearIndices[next++ & MASK];
+        }
+    }
+
+    /**
+     * An ArrayList of the benchmark size.
+     */
+    public static class ArrayListState extends Filled {
+        ArrayList<Integer> list = new ArrayList<>();
+
+        @Override
+        void add(Integer value) {
+            list.addToBack(value);
+        }
+    }
+
+    /**
+     * A GapArrayList of the benchmark size.
+     */
+    public static class GapArrayListState extends Filled {
+        GapArrayList<Integer> list = new GapArrayList<>();
+
+        @Override
+        void add(Integer value) {
+            list.addToBack(value);
+        }
+    }
+
+    /**
+     * An IntArrayList of the benchmark size.
+     */
+    public static class IntArrayListState extends Filled {
+        IntArrayList list = new IntArrayList();
+
+        @Override
+        void add(Integer value) {
+            list.addToBack(value);
+        }
+    }
+
+    /**
+     * A java.util.ArrayList of the benchmark size.
+     */
+    public static class JavaArrayListState extends Filled {
+        java.util.ArrayList<Integer> list = new java.util.ArrayList<>();
+
+        @Override
+        void add(Integer value) {
+            list.add(value);
+        }
+    }
+
+    /**
+     * An ArrayDeque of the benchmark size.
+     */
+    public static class ArrayDequeState extends Filled {
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+
+        @Override
+        void add(Integer value) {
+            deque.addLast(value);
+        }
+    }
+
+    /**
+     * A LinkedList of the benchmark size.
+     */
+    public static class LinkedListState extends Filled {
+        LinkedList<Integer> list = new LinkedList<>();
+
+        @Override
+        void add(Integer value) {
+            list.add(value);
+        }
+    }
+
+    /**
+     * An ArrayStack of the benchmark size.
+     */
+    public static class ArrayStackState extends Filled {
+        ArrayStack<Integer> stack = new ArrayStack<>();
+        final Integer[] batch = Arrays.copyOf(VALUES, BATCH);
+        final Integer[] out = new Integer[BATCH];
+
+        @Override
+        void add(Integer value) {
+            stack.push(value);
+        }
+    }
+
+    /**
+     * An ArrayStack that shrinks, and whether it is being filled or
+     * emptied.
+     */
+    public static class AutoShrinkStackState extends Filled {
+        final ArrayStack<Integer> stack = new ArrayStack<>(ArrayStack.INITIAL_CAPACITY,
+                GrowthPolicy.DOUBLING, true);
+        boolean pushing;
+
+        @Override
+        void add(Integer value) {
+            stack.push(value);
+        }
+    }
+
+    /**
+     * A ChunkedArrayStack of the benchmark size.
+     */
+    public static class ChunkedArrayStackState extends Filled {
+        ChunkedArrayStack<Integer> stack = new ChunkedArrayStack<>();
+
+        @Override
+        void add(Integer value) {
+            stack.push(value);
+        }
+    }
+
+    /**
+     * A LinkedQueue of the benchmark size.
+     */
+    public static class LinkedQueueState extends Filled {
+        final LinkedQueue<Integer> queue = new LinkedQueue<>();
+        final Integer[] batch = Arrays.copyOf(VALUES, BATCH);
+        long sum;
+
+        @Override
+        void add(Integer value) {
+            queue.enqueue(value);
+        }
+    }
+
+    /**
+     * A LinkedQueue of the benchmark size that reuses POOL_SIZE nodes.
+     */
+    public static class PooledLinkedQueueState extends Filled {
+        final LinkedQueue<Integer> queue = new LinkedQueue<>(POOL_SIZE);
+
+        @Override
+        void add(Integer value) {
+            queue.enqueue(value);
+        }
+    }
+
+    /**
+     * A LongLinkedQueue of the benchmark size.
+     */
+    public static class LongLinkedQueueState extends Filled {
+        final LongLinkedQueue queue = new LongLinkedQueue();
+
+        @Override
+        void add(Integer value) {
+            queue.enqueue(value);
+        }
+    }
+
+    /**
+     * An ArrayQueue of the benchmark size.
+     */
+    public static class ArrayQueueState extends Filled {
+        final ArrayQueue<Integer> queue = new ArrayQueue<>();
+
+        @Override
+        void add(Integer value) {
+            queue.enqueue(value);
+        }
+    }
+
+    /**
+     * A DoublyLinkedList of the benchmark size, with a cursor and an
+     * index that walk over it.
+     */
+    public static class DoublyLinkedListState extends Filled {
+        final DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        DoublyLinkedList<Integer>.Cursor cursor;
+        int index;
+
+        @Override
+        void add(Integer value) {
+            list.addToBack(value);
+        }
+    }
+
+    /**
+     * A DoublyLinkedList of the benchmark size that reuses POOL_SIZE nodes.
+     */
+    public static class PooledDoublyLinkedListState extends Filled {
+        final DoublyLinkedList<Integer> list = new DoublyLinkedList<>(POOL_SIZE);
+
+        @Override
+        void add(Integer value) {
+            list.addToBack(value);
+        }
+    }
+
+    /**
+     * An UnrolledLinkedList of the benchmark size.
+     */
+    public static class UnrolledLinkedListState extends Filled {
+        final UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+
+        @Override
+        void add(Integer value) {
+            list.addToBack(value);
+        }
+    }
+
+    /**
+     * An IndexedLinkedList of the benchmark size.
+     */
+    public static class IndexedLinkedListState extends Filled {
+        final IndexedLinkedList<Integer> list = new IndexedLinkedList<>();
+
+        @Override
+        void add(Integer value) {
+            list.addToBack(value);
+        }
+    }
+
+    // ArrayList
+
+    @Benchmark
+    public int arrayListAddToBack(ArrayListState state) {
+        if (state.list.size() == state.size) {
+            state.list = new ArrayList<>();
+        }
+        state.list.addToBack(state.value());
+        return state.list.size();
+    }
+
+    @Benchmark
+    public int javaUtilArrayListAdd(JavaArrayListState state) {
+        if (state.list.size() == state.size) {
+            state.list = new java.util.ArrayList<>();
+        }
+        state.list.add(state.value());
+        return state.list.size();
+    }
+
+    @Benchmark
+    public int arrayListEnsureCapacityAddToBack(ArrayListState state) {
+        if (state.list.size() == state.size) {
+            state.list = new ArrayList<>();
+            state.list.ensureCapacity(state.size);
+        }
+        state.list.addToBack(state.value());
+        return state.list.size();
+    }
+
+    @Benchmark
+    public int arrayListOneAndAHalfAddToBack(ArrayListState state) {
+        if (state.list.size() == state.size) {
+            state.list = new ArrayList<>(ArrayList.INITIAL_CAPACITY, GrowthPolicy.ONE_AND_A_HALF, false);
+        }
+        state.list.addToBack(state.value());
+        return state.list.size();
+    }
+
+    @Benchmark
+    public int intArrayListAddToBack(IntArrayListState state) {
+        if (state.list.size() == state.size) {
+            state.list = new IntArrayList();
+        }
+        state.list.addToBack(state.value());
+        return state.list.size();
+    }
+
+    @Benchmark
+    public Integer arrayListAddRemoveMiddle(ArrayListState state) {
+        int middle = state.size / 2;
+        state.list.addAtIndex(middle, state.value());
+        return state.list.removeAtIndex(middle);
+    }
+
+    @Benchmark
+    public Integer gapArrayListAddRemoveMiddle(GapArrayListState state) {
+        int middle = state.size / 2;
+        state.list.addAtIndex(middle, state.value());
+        return state.list.removeAtIndex(middle);
+    }
+
+    @Benchmark
+    public Integer arrayListAddRemoveNearMiddle(ArrayListState state) {
+        int index = state.nearIndex();
+        state.list.addAtIndex(index, state.value());
+        return state.list.removeAtIndex(index);
+    }
+
+    @Benchmark
+    public Integer gapArrayListAddRemoveNearMiddle(GapArrayListState state) {
+        int index = state.nearIndex();
+        state.list.addAtIndex(index, state.value());
+        return state.list.removeAtIndex(index);
+    }
+
+    @Benchmark
+    public Integer javaUtilArrayListAddRemoveMiddle(JavaArrayListState state) {
+        int middle = state.size / 2;
+        state.list.add(middle, state.value());
+        return state.list.remove(middle);
+    }
+
+    @Benchmark
+    public Integer arrayListRemoveFromFrontAddToBack(ArrayListState state) {
+        Integer value = state.list.removeFromFront();
+        state.list.addToBack(value);
+        return value;
+    }
+
+    @Benchmark
+    public Integer javaUtilArrayListRemoveFirstAdd(JavaArrayListState state) {
+        Integer value = state.list.remove(0);
+        state.list.add(value);
+        return value;
+    }
+
+    @Benchmark
+    public Integer arrayListAddToFrontRemoveFromFront(ArrayListState state) {
+        state.list.addToFront(state.value());
+        return state.list.removeFromFront();
+    }
+
+    @Benchmark
+    public Integer javaUtilArrayListAddFirstRemoveFirst(JavaArrayListState state) {
+        state.list.add(0, state.value());
+        return state.list.remove(0);
+    }
+
+    @Benchmark
+    public Integer arrayDequePollFirstAddLast(ArrayDequeState state) {
+        Integer value = state.deque.pollFirst();
+        state.deque.addLast(value);
+        return value;
+    }
+
+    // ArrayStack
+
+    @Benchmark
+    public int arrayStackPush(ArrayStackState state) {
+        if (state.stack.size() == state.size) {
+            state.stack = new ArrayStack<>();
+        }
+        state.stack.push(state.value());
+        return state.stack.size();
+    }
+
+    @Benchmark
+    public int chunkedArrayStackPush(ChunkedArrayStackState state) {
+        if (state.stack.size() == state.size) {
+            state.stack = new ChunkedArrayStack<>();
+        }
+        state.stack.push(state.value());
+        return state.stack.size();
+    }
+
+    @Benchmark
+    public int arrayDequePush(ArrayDequeState state) {
+        if (state.deque.size() == state.size) {
+            state.deque = new ArrayDeque<>();
+        }
+        state.deque.push(state.value());
+        return state.deque.size();
+    }
+
+    @Benchmark
+    public Integer arrayStackPushPop(ArrayStackState state) {
+        state.stack.push(state.value());
+        return state.stack.pop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void arrayStackPushPopBatch(ArrayStackState state, Blackhole blackhole) {
+        for (int j = 0; j < BATCH; j++) {
+            state.stack.push(VALUES[j]);
+        }
+        for (int j = 0; j < BATCH; j++) {
+            blackhole.consume(state.stack.pop());
+        }
+    }
+
+    @Benchmark
+    public Integer autoShrinkArrayStackBurst(AutoShrinkStackState state) {
+        if (state.pushing) {
+            state.stack.push(state.value());
+            state.pushing = state.stack.size() < state.size;
+            return null;
+        }
+        Integer value = state.stack.pop();
+        state.pushing = state.stack.size() == 0;
+        return value;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int arrayStackPushAllPopN(ArrayStackState state) {
+        state.stack.pushAll(state.batch);
+        return state.stack.popN(state.out);
+    }
+
+    @Benchmark
+    public Integer chunkedArrayStackPushPop(ChunkedArrayStackState state) {
+        state.stack.push(state.value());
+        return state.stack.pop();
+    }
+
+    @Benchmark
+    public Integer arrayDequePushPop(ArrayDequeState state) {
+        state.deque.push(state.value());
+        return state.deque.pop();
+    }
+
+    // LinkedQueue
+
+    @Benchmark
+    public Integer linkedQueueEnqueueDequeue(LinkedQueueState state) {
+        state.queue.enqueue(state.value());
+        return state.queue.dequeue();
+    }
+
+    @Benchmark
+    public Integer pooledLinkedQueueEnqueueDequeue(PooledLinkedQueueState state) {
+        state.queue.enqueue(state.value());
+        return state.queue.dequeue();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void linkedQueueEnqueueDequeueBatch(LinkedQueueState state, Blackhole blackhole) {
+        for (int j = 0; j < BATCH; j++) {
+            state.queue.enqueue(VALUES[j]);
+        }
+        for (int j = 0; j < BATCH; j++) {
+            blackhole.consume(state.queue.dequeue());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long linkedQueueEnqueueAllDrainTo(LinkedQueueState state) {
+        state.queue.enqueueAll(state.batch);
+        state.queue.drainTo(value -> state.sum += value, BATCH);
+        return state.sum;
+    }
+
+    @Benchmark
+    public long longLinkedQueueEnqueueDequeue(LongLinkedQueueState state) {
+        state.queue.enqueue(state.value());
+        return state.queue.dequeue();
+    }
+
+    @Benchmark
+    public Integer arrayQueueEnqueueDequeue(ArrayQueueState state) {
+        state.queue.enqueue(state.value());
+        return state.queue.dequeue();
+    }
+
+    @Benchmark
+    public Integer arrayDequeOfferPoll(ArrayDequeState state) {
+        state.deque.offer(state.value());
+        return state.deque.poll();
+    }
+
+    @Benchmark
+    public Integer linkedListOfferPoll(LinkedListState state) {
+        state.list.offer(state.value());
+        return state.list.poll();
+    }
+
+    // DoublyLinkedList
+
+    @Benchmark
+    public Integer doublyLinkedListGetRandom(DoublyLinkedListState state) {
+        return state.list.get(state.randomIndex());
+    }
+
+    @Benchmark
+    public Integer linkedListGetRandom(LinkedListState state) {
+        return state.list.get(state.randomIndex());
+    }
+
+    @Benchmark
+    public Integer doublyLinkedListAddRemoveRandom(DoublyLinkedListState state) {
+        int index = state.randomIndex();
+        state.list.addAtIndex(index, state.value());
+        return state.list.removeAtIndex(index);
+    }
+
+    @Benchmark
+    public Integer doublyLinkedListAddToBackRemoveFromFront(DoublyLinkedListState state) {
+        state.list.addToBack(state.value());
+        return state.list.removeFromFront();
+    }
+
+    @Benchmark
+    public Integer pooledDoublyLinkedListAddToBackRemoveFromFront(PooledDoublyLinkedListState state) {
+        state.list.addToBack(state.value());
+        return state.list.removeFromFront();
+    }
+
+    @Benchmark
+    public Integer doublyLinkedListCursor(DoublyLinkedListState state) {
+        if (state.cursor == null || !state.cursor.hasNext()) {
+            state.cursor = state.list.cursor();
+        }
+        Integer data = state.cursor.next();
+        state.cursor.remove();
+        state.cursor.add(data);
+        return data;
+    }
+
+    @Benchmark
+    public Integer doublyLinkedListGetRemoveAddSequential(DoublyLinkedListState state) {
+        if (state.index == state.size) {
+            state.index = 0;
+        }
+        Integer data = state.list.get(state.index);
+        state.list.removeAtIndex(state.index);
+        state.list.addAtIndex(state.index, data);
+        state.index++;
+        return data;
+    }
+
+    @Benchmark
+    public Integer unrolledLinkedListGetRandom(UnrolledLinkedListState state) {
+        return state.list.get(state.randomIndex());
+    }
+
+    @Benchmark
+    public Integer unrolledLinkedListAddRemoveRandom(UnrolledLinkedListState state) {
+        int index = state.randomIndex();
+        state.list.addAtIndex(index, state.value());
+        return state.list.removeAtIndex(index);
+    }
+
+    @Benchmark
+    public Integer unrolledLinkedListAddToBackRemoveFromFront(UnrolledLinkedListState state) {
+        state.list.addToBack(state.value());
+        return state.list.removeFromFront();
+    }
+
+    @Benchmark
+    public Integer indexedLinkedListGetRandom(IndexedLinkedListState state) {
+        return state.list.get(state.randomIndex());
+    }
+
+    @Benchmark
+    public Integer indexedLinkedListAddRemoveRandom(IndexedLinkedListState state) {
+        int index = state.randomIndex();
+        state.list.addAtIndex(index, state.value());
+        return state.list.removeAtIndex(index);
+    }
+
+    @Benchmark
+    public Integer indexedLinkedListAddToBackRemoveFromFront(IndexedLinkedListState state) {
+        state.list.addToBack(state.value());
+        return state.list.removeFromFront();
+    }
+
+    @Benchmark
+    public Integer linkedListAddRemoveRandom(LinkedListState state) {
+        int index = state.randomIndex();
+        state.list.add(index, state.value());
+        return state.list.remove(index);
+    }
+
+    /**
+     * Returns a fixed sequence of random indices into a structure.
+     *
+     * @param size the size of the structure
+     * @return MASK + 1 indices between 0 and size - 1
+     */
+    static int[] randomIndices(int size) {
+        Random random = new Random(42);
+        int[] indices = new int[MASK + 1];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = random.nextInt(size);
+        }
+        return indices;
+    }
+
+    /**
+     * Returns MASK + 1 indices that are at most NEAR places away from the
+     * middle of a list of the given size, like the cursor of an editor.
+     *
+     * @param size the size of the list
+     * @return the indices
+     */
+    static int[] nearIndices(int size) {
+        Random random = new Random(42);
+        int[] indices = new int[MASK + 1];
+        for (int i = 0; i < indices.length; i++) {
+            int index = size / 2 + random.nextInt(2 * NEAR + 1) - NEAR;
+            indices[i] = Math.max(0, Math.min(index, size - 1));
+        }
+        return indices;
+    }
+}
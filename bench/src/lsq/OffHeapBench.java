@@ -0,0 +1,153 @@
+package lsq;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * Benchmarks for OffHeapArrayList against an ArrayList of the same
+ * records.
+ *
+ * The records are points of two longs. Besides adding and reading, the
+ * gc benchmarks time a full System.gc() while a filled list is reachable,
+ * so their ops/s is the number of full collections per second: the higher,
+ * the less the list costs the collector.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public final class OffHeapBench {
+
+    private static final int MASK = 1023;
+
+    /**
+     * Stores a point, a long[] of length 2, in 16 bytes.
+     */
+    private static final RecordCodec<long[]> POINT_CODEC = new RecordCodec<long[]>() {
+        @Override
+        public int recordSize() {
+            return 16;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, long[] record) {
+            buffer.putLong(offset, record[0]);
+            buffer.putLong(offset + 8, record[1]);
+        }
+
+        @Override
+        public long[] read(ByteBuffer buffer, int offset) {
+            return new long[]{buffer.getLong(offset), buffer.getLong(offset + 8)};
+        }
+    };
+
+    /**
+     * Utility class, not instantiated.
+     */
+    private OffHeapBench() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args an optional filter on the benchmark names
+     */
+    public static void main(String[] args) {
+        Bench bench = new Bench(args);
+        long[] point = {1, 2};
+
+        bench.run("ArrayList<long[]>.addToBack", size -> new Bench.Op() {
+            private ArrayList<long[]> list = new ArrayList<>();
+
+            public long run(int reps) {
+                for (int i = 0; i < reps; i++) {
+                    if (list.size() == size) {
+                        list = new ArrayList<>();
+                    }
+                    list.addToBack(new long[]{i, i});
+                }
+                return list.size();
+            }
+        });
+        bench.run("OffHeapArrayList.addToBack", size -> new Bench.Op() {
+            private OffHeapArrayList<long[]> list = new OffHeapArrayList<>(POINT_CODEC);
+
+            public long run(int reps) {
+                for (int i = 0; i < reps; i++) {
+                    if (list.size() == size) {
+                        list.clear();
+                    }
+                    point[0] = i;
+                    list.addToBack(point);
+                }
+                return list.size();
+            }
+        });
+        bench.run("ArrayList<long[]>.get(random)", size -> {
+            ArrayList<long[]> list = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                list.addToBack(new long[]{i, i});
+            }
+            int[] indices = randomIndices(size);
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    result += list.get(indices[i & MASK])[1];
+                }
+                return result;
+            };
+        });
+        bench.run("OffHeapArrayList.get(random)", size -> {
+            OffHeapArrayList<long[]> list = new OffHeapArrayList<>(POINT_CODEC);
+            for (int i = 0; i < size; i++) {
+                list.addToBack(new long[]{i, i});
+            }
+            int[] indices = randomIndices(size);
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    result += list.get(indices[i & MASK])[1];
+                }
+                return result;
+            };
+        });
+        bench.run("ArrayList<long[]> live, System.gc", size -> {
+            ArrayList<long[]> list = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                list.addToBack(new long[]{i, i});
+            }
+            return reps -> {
+                for (int i = 0; i < reps; i++) {
+                    System.gc();
+                }
+                return list.size();
+            };
+        });
+        bench.run("OffHeapArrayList live, System.gc", size -> {
+            OffHeapArrayList<long[]> list = new OffHeapArrayList<>(POINT_CODEC);
+            for (int i = 0; i < size; i++) {
+                list.addToBack(new long[]{i, i});
+            }
+            return reps -> {
+                for (int i = 0; i < reps; i++) {
+                    System.gc();
+                }
+                return list.size();
+            };
+        });
+    }
+
+    /**
+     * Returns a fixed sequence of random indices into a list.
+     *
+     * @param size the size of the list
+     * @return MASK + 1 indices between 0 and size - 1
+     */
+    private static int[] randomIndices(int size) {
+        Random random = new Random(42);
+        int[] indices = new int[MASK + 1];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = random.nextInt(size);
+        }
+        return indices;
+    }
+}
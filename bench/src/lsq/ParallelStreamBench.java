@@ -0,0 +1,129 @@
+package lsq;
+
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Sequential and parallel map/reduce benchmarks over the stream of each
+ * structure, with java.util.ArrayList as a baseline.
+ *
+ * Every operation is one full pass that maps each element and sums the
+ * results, so ops/s is passes per second. The parallel passes run on the
+ * common fork-join pool and only scale with the number of cores.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public final class ParallelStreamBench {
+
+    private static final int SIZE = Integer.getInteger("bench.size", 10_000_000);
+    private static final int MASK = 1023;
+    private static final Integer[] VALUES = new Integer[MASK + 1];
+
+    static {
+        for (int i = 0; i < VALUES.length; i++) {
+            VALUES[i] = i;
+        }
+    }
+
+    /**
+     * Utility class, not instantiated.
+     */
+    private ParallelStreamBench() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args an optional filter on the benchmark names
+     */
+    public static void main(String[] args) {
+        Bench bench = new Bench(args);
+
+        run(bench, "ArrayList", size -> {
+            ArrayList<Integer> list = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                list.addToBack(VALUES[i & MASK]);
+            }
+            // Moves the front so the list wraps around the backing array
+            for (int i = 0; i < size / 2; i++) {
+                list.addToBack(list.removeFromFront());
+            }
+            return list::stream;
+        });
+        run(bench, "ArrayStack", size -> {
+            ArrayStack<Integer> stack = new ArrayStack<>();
+            for (int i = 0; i < size; i++) {
+                stack.push(VALUES[i & MASK]);
+            }
+            return stack::stream;
+        });
+        run(bench, "LinkedQueue", size -> {
+            LinkedQueue<Integer> queue = new LinkedQueue<>();
+            for (int i = 0; i < size; i++) {
+                queue.enqueue(VALUES[i & MASK]);
+            }
+            return queue::stream;
+        });
+        run(bench, "DoublyLinkedList", size -> {
+            DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+            for (int i = 0; i < size; i++) {
+                list.addToBack(VALUES[i & MASK]);
+            }
+            return list::stream;
+        });
+        run(bench, "java.util.ArrayList", size -> {
+            java.util.ArrayList<Integer> list = new java.util.ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                list.add(VALUES[i & MASK]);
+            }
+            return list::stream;
+        });
+    }
+
+    /**
+     * A structure under test, filled to a size.
+     */
+    private interface Source {
+
+        /**
+         * Fills a new structure and returns a supplier of its streams.
+         *
+         * @param size the number of elements
+         * @return creates a new sequential stream over the structure
+         */
+        Supplier<Stream<Integer>> create(int size);
+    }
+
+    /**
+     * Runs the sequential and the parallel map/reduce pass over a structure.
+     *
+     * @param bench  the harness
+     * @param name   the name of the structure
+     * @param source fills the structure
+     */
+    private static void run(Bench bench, String name, Source source) {
+        ToLongFunction<Integer> mapper = value -> value * 31L + 7;
+        bench.run(name + ".stream().map+sum", SIZE, size -> {
+            Supplier<Stream<Integer>> streams = source.create(size);
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    result += streams.get().mapToLong(mapper).sum();
+                }
+                return result;
+            };
+        });
+        bench.run(name + ".stream().parallel().map+sum", SIZE, size -> {
+            Supplier<Stream<Integer>> streams = source.create(size);
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    result += streams.get().parallel().mapToLong(mapper).sum();
+                }
+                return result;
+            };
+        });
+    }
+}
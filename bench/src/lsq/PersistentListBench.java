@@ -0,0 +1,209 @@
+package lsq;
+
+import java.util.Arrays;
+
+/**
+ * Benchmarks for handing versions of a list or stack to another thread.
+ *
+ * Every handoff benchmark changes one element and then takes a version of
+ * the structure that later changes cannot affect: a copy of the backing
+ * array for ArrayList and ArrayStack, and the new version itself for
+ * PersistentArrayList and PersistentArrayStack. The remaining benchmarks
+ * compare random reads and building a list from scratch, with and without
+ * a Builder.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public final class PersistentListBench {
+
+    private static final int MASK = 1023;
+    private static final Integer[] VALUES = new Integer[MASK + 1];
+
+    static {
+        for (int i = 0; i < VALUES.length; i++) {
+            VALUES[i] = i;
+        }
+    }
+
+    /**
+     * Utility class, not instantiated.
+     */
+    private PersistentListBench() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args an optional filter on the benchmark names
+     */
+    public static void main(String[] args) {
+        Bench bench = new Bench(args);
+
+        // Handoffs
+        bench.run("ArrayList.addToBack+removeFromBack+copy", size -> {
+            ArrayList<Integer> list = new ArrayList<>(size + 1);
+            for (int i = 0; i < size; i++) {
+                list.addToBack(VALUES[i & MASK]);
+            }
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    if ((i & 1) == 0) {
+                        list.addToBack(VALUES[i & MASK]);
+                    } else {
+                        list.removeFromBack();
+                    }
+                    Object[] backingArray = list.getBackingArray();
+                    result += Arrays.copyOf(backingArray, list.size()).length;
+                }
+                return result;
+            };
+        });
+        bench.run("PersistentArrayList.addToBack+removeFromBack", size -> {
+            PersistentArrayList<Integer> list = build(size);
+            return new Bench.Op() {
+                private PersistentArrayList<Integer> version = list;
+
+                public long run(int reps) {
+                    long result = 0;
+                    for (int i = 0; i < reps; i++) {
+                        if ((i & 1) == 0) {
+                            version = version.addToBack(VALUES[i & MASK]);
+                        } else {
+                            version = version.removeFromBack();
+                        }
+                        result += version.size();
+                    }
+                    return result;
+                }
+            };
+        });
+        bench.run("PersistentArrayList.set(random)", size -> {
+            PersistentArrayList<Integer> list = build(size);
+            int[] indices = CollectionsBench.randomIndices(size);
+            return new Bench.Op() {
+                private PersistentArrayList<Integer> version = list;
+
+                public long run(int reps) {
+                    for (int i = 0; i < reps; i++) {
+                        version = version.set(indices[i & MASK], VALUES[i & MASK]);
+                    }
+                    return version.size();
+                }
+            };
+        });
+        bench.run("ArrayStack.push+pop+copy", size -> {
+            ArrayStack<Integer> stack = new ArrayStack<>(size + 1);
+            for (int i = 0; i < size; i++) {
+                stack.push(VALUES[i & MASK]);
+            }
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    if ((i & 1) == 0) {
+                        stack.push(VALUES[i & MASK]);
+                    } else {
+                        stack.pop();
+                    }
+                    Object[] backingArray = stack.getBackingArray();
+                    result += Arrays.copyOf(backingArray, stack.size()).length;
+                }
+                return result;
+            };
+        });
+        bench.run("PersistentArrayStack.push+pop", size -> {
+            PersistentArrayStack<Integer> stack = PersistentArrayStack.empty();
+            for (int i = 0; i < size; i++) {
+                stack = stack.push(VALUES[i & MASK]);
+            }
+            PersistentArrayStack<Integer> filled = stack;
+            return new Bench.Op() {
+                private PersistentArrayStack<Integer> version = filled;
+
+                public long run(int reps) {
+                    long result = 0;
+                    for (int i = 0; i < reps; i++) {
+                        if ((i & 1) == 0) {
+                            version = version.push(VALUES[i & MASK]);
+                        } else {
+                            version = version.pop();
+                        }
+                        result += version.size();
+                    }
+                    return result;
+                }
+            };
+        });
+
+        // Reads
+        bench.run("ArrayList.get(random)", size -> {
+            ArrayList<Integer> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.addToBack(VALUES[i & MASK]);
+            }
+            int[] indices = CollectionsBench.randomIndices(size);
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    result += list.get(indices[i & MASK]);
+                }
+                return result;
+            };
+        });
+        bench.run("PersistentArrayList.get(random)", size -> {
+            PersistentArrayList<Integer> list = build(size);
+            int[] indices = CollectionsBench.randomIndices(size);
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    result += list.get(indices[i & MASK]);
+                }
+                return result;
+            };
+        });
+
+        // Building
+        bench.run("PersistentArrayList.addToBack", size -> new Bench.Op() {
+            private PersistentArrayList<Integer> list = PersistentArrayList.empty();
+
+            public long run(int reps) {
+                for (int i = 0; i < reps; i++) {
+                    if (list.size() == size) {
+                        list = PersistentArrayList.empty();
+                    }
+                    list = list.addToBack(VALUES[i & MASK]);
+                }
+                return list.size();
+            }
+        });
+        bench.run("PersistentArrayList.Builder.addToBack", size -> new Bench.Op() {
+            private PersistentArrayList.Builder<Integer> builder = PersistentArrayList.<Integer>empty().toBuilder();
+
+            public long run(int reps) {
+                for (int i = 0; i < reps; i++) {
+                    if (builder.size() == size) {
+                        builder.build();
+                        builder = PersistentArrayList.<Integer>empty().toBuilder();
+                    }
+                    builder.addToBack(VALUES[i & MASK]);
+                }
+                return builder.size();
+            }
+        });
+    }
+
+    /**
+     * Returns a PersistentArrayList holding size elements.
+     *
+     * @param size the number of elements
+     * @return the list
+     */
+    private static PersistentArrayList<Integer> build(int size) {
+        PersistentArrayList.Builder<Integer> builder = PersistentArrayList.<Integer>empty().toBuilder();
+        for (int i = 0; i < size; i++) {
+            builder.addToBack(VALUES[i & MASK]);
+        }
+        return builder.build();
+    }
+}
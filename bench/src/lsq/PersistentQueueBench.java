@@ -0,0 +1,95 @@
+package lsq;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Throughput benchmarks for PersistentQueue at several sync intervals,
+ * with the heap-only LinkedQueue as a baseline.
+ *
+ * Every operation is an enqueue+dequeue pair on a queue prefilled with
+ * PREFILL short strings. The size column is the number of operations
+ * between two syncs, where 0 only leaves the flushing to the OS. The queues
+ * live in a temporary directory that is deleted on exit.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public final class PersistentQueueBench {
+
+    private static final int PREFILL = 1_000;
+    private static final int[] SYNC_EVERY = {0, 10_000, 1_000, 100, 1};
+    private static final String VALUE = "A short queued message";
+
+    /**
+     * Utility class, not instantiated.
+     */
+    private PersistentQueueBench() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args an optional filter on the benchmark names
+     * @throws IOException if the temporary directory cannot be created
+     */
+    public static void main(String[] args) throws IOException {
+        Bench bench = new Bench(args);
+        Path root = Files.createTempDirectory("persistent-queue-bench");
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> delete(root)));
+
+        for (int syncEvery : SYNC_EVERY) {
+            bench.run("PersistentQueue.enqueue+dequeue", syncEvery, size -> {
+                PersistentQueue<String> queue;
+                try {
+                    queue = new PersistentQueue<>(Files.createTempDirectory(root, "queue"),
+                        ElementCodec.UTF_8, PersistentQueue.DEFAULT_SEGMENT_SIZE, size);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                for (int i = 0; i < PREFILL; i++) {
+                    queue.enqueue(VALUE);
+                }
+                return reps -> {
+                    long result = 0;
+                    for (int i = 0; i < reps; i++) {
+                        queue.enqueue(VALUE);
+                        result += queue.dequeue().length();
+                    }
+                    return result;
+                };
+            });
+        }
+        bench.run("LinkedQueue.enqueue+dequeue", PREFILL, size -> {
+            LinkedQueue<String> queue = new LinkedQueue<>();
+            for (int i = 0; i < size; i++) {
+                queue.enqueue(VALUE);
+            }
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    queue.enqueue(VALUE);
+                    result += queue.dequeue().length();
+                }
+                return result;
+            };
+        });
+    }
+
+    /**
+     * Deletes a directory and everything in it.
+     *
+     * @param directory the directory
+     */
+    private static void delete(Path directory) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("Could not delete " + directory + ": " + e);
+        }
+    }
+}
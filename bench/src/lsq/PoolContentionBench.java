@@ -0,0 +1,95 @@
+package lsq;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Contention benchmarks for stacks used as shared object pools at 1 to 64
+ * threads.
+ *
+ * Every thread runs pop+push pairs on one shared pool, prefilled so a pop
+ * never finds it empty, the way a thread borrows an object and gives it
+ * back. StripedArrayStack is compared against an ArrayStack guarded by a
+ * single lock and against java.util.concurrent.ConcurrentLinkedDeque.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public final class PoolContentionBench {
+
+    private static final int PREFILL = 1_000;
+    private static final Integer VALUE = 42;
+
+    /**
+     * Utility class, not instantiated.
+     */
+    private PoolContentionBench() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args an optional filter on the benchmark names
+     */
+    public static void main(String[] args) {
+        Bench bench = new Bench(args);
+
+        bench.runThreads("StripedArrayStack.pop+push", threads -> {
+            StripedArrayStack<Integer> pool = new StripedArrayStack<>();
+            for (int i = 0; i < PREFILL; i++) {
+                pool.push(VALUE);
+            }
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    Integer borrowed = pool.pop();
+                    result += borrowed;
+                    pool.push(borrowed);
+                }
+                return result;
+            };
+        });
+        bench.runThreads("locked ArrayStack.pop+push", threads -> {
+            ArrayStack<Integer> pool = new ArrayStack<>();
+            for (int i = 0; i < PREFILL; i++) {
+                pool.push(VALUE);
+            }
+            ReentrantLock lock = new ReentrantLock();
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    Integer borrowed;
+                    lock.lock();
+                    try {
+                        borrowed = pool.pop();
+                    } finally {
+                        lock.unlock();
+                    }
+                    result += borrowed;
+                    lock.lock();
+                    try {
+                        pool.push(borrowed);
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+                return result;
+            };
+        });
+        bench.runThreads("java.util.concurrent.ConcurrentLinkedDeque", threads -> {
+            ConcurrentLinkedDeque<Integer> pool = new ConcurrentLinkedDeque<>();
+            for (int i = 0; i < PREFILL; i++) {
+                pool.push(VALUE);
+            }
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    Integer borrowed = pool.pop();
+                    result += borrowed;
+                    pool.push(borrowed);
+                }
+                return result;
+            };
+        });
+    }
+}
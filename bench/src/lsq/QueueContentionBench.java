@@ -0,0 +1,83 @@
+package lsq;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Contention benchmarks for the thread-safe queues at 1 to 64 threads.
+ *
+ * Every thread runs enqueue+dequeue pairs on one shared queue, prefilled so
+ * a dequeue never finds it empty. LockFreeLinkedQueue is compared against
+ * a LinkedQueue guarded by a single lock and against
+ * java.util.concurrent.ConcurrentLinkedQueue.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public final class QueueContentionBench {
+
+    private static final int PREFILL = 1_000;
+    private static final Integer VALUE = 42;
+
+    /**
+     * Utility class, not instantiated.
+     */
+    private QueueContentionBench() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args an optional filter on the benchmark names
+     */
+    public static void main(String[] args) {
+        Bench bench = new Bench(args);
+
+        bench.runThreads("LockFreeLinkedQueue.enqueue+dequeue", threads -> {
+            LockFreeLinkedQueue<Integer> queue = new LockFreeLinkedQueue<>();
+            for (int i = 0; i < PREFILL; i++) {
+                queue.enqueue(VALUE);
+            }
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    queue.enqueue(VALUE);
+                    result += queue.dequeue();
+                }
+                return result;
+            };
+        });
+        bench.runThreads("locked LinkedQueue.enqueue+dequeue", threads -> {
+            LinkedQueue<Integer> queue = new LinkedQueue<>();
+            for (int i = 0; i < PREFILL; i++) {
+                queue.enqueue(VALUE);
+            }
+            Object lock = new Object();
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    synchronized (lock) {
+                        queue.enqueue(VALUE);
+                    }
+                    synchronized (lock) {
+                        result += queue.dequeue();
+                    }
+                }
+                return result;
+            };
+        });
+        bench.runThreads("java.util.concurrent.ConcurrentLinkedQueue", threads -> {
+            ConcurrentLinkedQueue<Integer> queue = new ConcurrentLinkedQueue<>();
+            for (int i = 0; i < PREFILL; i++) {
+                queue.offer(VALUE);
+            }
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    queue.offer(VALUE);
+                    result += queue.poll();
+                }
+                return result;
+            };
+        });
+    }
+}
@@ -0,0 +1,117 @@
+package lsq;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Read-mostly benchmarks at 1 to 64 threads: every thread reads random
+ * indices of one shared list of SIZE elements and, once every WRITE_EVERY
+ * reads, adds an element to the back and removes it again.
+ *
+ * ReadMostlyArrayList is compared against an ArrayList guarded by a
+ * read/write lock. The batch benchmark adds and removes 16 elements per
+ * write with a single copy.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public final class ReadMostlyBench {
+
+    private static final int SIZE = 1_000;
+    private static final int WRITE_EVERY = 10_000;
+    private static final int BATCH = 16;
+    private static final Integer VALUE = 42;
+
+    /**
+     * Utility class, not instantiated.
+     */
+    private ReadMostlyBench() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args an optional filter on the benchmark names
+     */
+    public static void main(String[] args) {
+        Bench bench = new Bench(args);
+
+        bench.runThreads("ReadMostlyArrayList.get(+rare write)", threads -> {
+            ReadMostlyArrayList<Integer> list = new ReadMostlyArrayList<>();
+            list.batch(copy -> {
+                for (int i = 0; i < SIZE; i++) {
+                    copy.addToBack(VALUE);
+                }
+            });
+            return reps -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    if (random.nextInt(WRITE_EVERY) == 0) {
+                        list.addToBack(VALUE);
+                        list.removeFromBack();
+                    }
+                    result += list.get(random.nextInt(SIZE));
+                }
+                return result;
+            };
+        });
+        bench.runThreads("ReadMostlyArrayList.get(+rare batch)", threads -> {
+            ReadMostlyArrayList<Integer> list = new ReadMostlyArrayList<>();
+            list.batch(copy -> {
+                for (int i = 0; i < SIZE; i++) {
+                    copy.addToBack(VALUE);
+                }
+            });
+            return reps -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    if (random.nextInt(WRITE_EVERY * BATCH) == 0) {
+                        list.batch(copy -> {
+                            for (int j = 0; j < BATCH; j++) {
+                                copy.addToBack(VALUE);
+                            }
+                        });
+                        list.batch(copy -> {
+                            for (int j = 0; j < BATCH; j++) {
+                                copy.removeFromBack();
+                            }
+                        });
+                    }
+                    result += list.get(random.nextInt(SIZE));
+                }
+                return result;
+            };
+        });
+        bench.runThreads("rwlocked ArrayList.get(+rare write)", threads -> {
+            ArrayList<Integer> list = new ArrayList<>();
+            for (int i = 0; i < SIZE; i++) {
+                list.addToBack(VALUE);
+            }
+            ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+            return reps -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    if (random.nextInt(WRITE_EVERY) == 0) {
+                        lock.writeLock().lock();
+                        try {
+                            list.addToBack(VALUE);
+                            list.removeFromBack();
+                        } finally {
+                            lock.writeLock().unlock();
+                        }
+                    }
+                    lock.readLock().lock();
+                    try {
+                        result += list.get(random.nextInt(SIZE));
+                    } finally {
+                        lock.readLock().unlock();
+                    }
+                }
+                return result;
+            };
+        });
+    }
+}
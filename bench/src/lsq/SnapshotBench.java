@@ -0,0 +1,183 @@
+package lsq;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Benchmarks for writing and restoring binary snapshots of ArrayList and
+ * DoublyLinkedList.
+ *
+ * Every operation writes or restores a whole list of short strings, so
+ * ops/s is lists per second. Reading the raw bytes of a snapshot file
+ * shows the speed of the disk, and calling addToBack for every element of
+ * an in-memory array shows the cost of the list alone, with no decoding.
+ * Restores allocate every element anew, so give the JVM a young
+ * generation that holds a whole list (-Xmn) or the numbers measure full
+ * collections. The snapshot files live in a temporary directory that is
+ * deleted on exit.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public final class SnapshotBench {
+
+    private static final int MASK = 1023;
+    private static final String[] VALUES = new String[MASK + 1];
+
+    static {
+        for (int i = 0; i < VALUES.length; i++) {
+            VALUES[i] = "value-" + i;
+        }
+    }
+
+    /**
+     * Utility class, not instantiated.
+     */
+    private SnapshotBench() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args an optional filter on the benchmark names
+     * @throws IOException if the temporary directory cannot be created
+     */
+    public static void main(String[] args) throws IOException {
+        Bench bench = new Bench(args);
+        Path directory = Files.createTempDirectory("snapshot-bench");
+        directory.toFile().deleteOnExit();
+
+        bench.run("ArrayList.writeTo(file)", size -> {
+            ArrayList<String> list = filledArrayList(size);
+            Path file = newFile(directory);
+            return reps -> {
+                for (int i = 0; i < reps; i++) {
+                    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+                        list.writeTo(channel, ElementCodec.UTF_8);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return list.size();
+            };
+        });
+        bench.run("ArrayList.readFrom(mapped file)", size -> {
+            Path file = snapshot(directory, size);
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    try {
+                        result += ArrayList.readFrom(file, ElementCodec.UTF_8).size();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return result;
+            };
+        });
+        bench.run("ArrayList.readFrom(stream channel)", size -> {
+            Path file = snapshot(directory, size);
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    try (InputStream in = Files.newInputStream(file)) {
+                        result += ArrayList.readFrom(Channels.newChannel(in),
+                            ElementCodec.UTF_8).size();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return result;
+            };
+        });
+        bench.run("Files.readAllBytes(snapshot file)", size -> {
+            Path file = snapshot(directory, size);
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    try {
+                        result += Files.readAllBytes(file).length;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return result;
+            };
+        });
+        bench.run("ArrayList.addToBack(rebuild)", size -> reps -> {
+            long result = 0;
+            for (int i = 0; i < reps; i++) {
+                result += filledArrayList(size).size();
+            }
+            return result;
+        });
+        bench.run("DoublyLinkedList.readFrom(mapped file)", size -> {
+            Path file = snapshot(directory, size);
+            return reps -> {
+                long result = 0;
+                for (int i = 0; i < reps; i++) {
+                    try {
+                        result += DoublyLinkedList.readFrom(file, ElementCodec.UTF_8).size();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return result;
+            };
+        });
+    }
+
+    /**
+     * Returns an ArrayList holding size elements.
+     *
+     * @param size the number of elements
+     * @return the filled list
+     */
+    private static ArrayList<String> filledArrayList(int size) {
+        ArrayList<String> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.addToBack(VALUES[i & MASK]);
+        }
+        return list;
+    }
+
+    /**
+     * Writes a snapshot of a list of size elements to a new file.
+     *
+     * @param directory the directory of the file
+     * @param size      the number of elements
+     * @return the file
+     */
+    private static Path snapshot(Path directory, int size) {
+        Path file = newFile(directory);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            filledArrayList(size).writeTo(channel, ElementCodec.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return file;
+    }
+
+    /**
+     * Creates a new empty file that is deleted on exit.
+     *
+     * @param directory the directory of the file
+     * @return the file
+     */
+    private static Path newFile(Path directory) {
+        try {
+            Path file = Files.createTempFile(directory, "snapshot", ".bin");
+            file.toFile().deleteOnExit();
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package lsq;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Producer/consumer benchmarks with one thread on each side of the queue.
+ *
+ * SpscArrayQueue is compared against the multi-producer queues in src and
+ * in java.util.concurrent. A side that finds the queue full or empty
+ * yields and moves on, so neither thread blocks. The unbounded queues are
+ * held to the same capacity through a shared backlog counter, updated once
+ * per batch.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public final class SpscQueueBench {
+
+    private static final int CAPACITY = 1 << 14;
+    private static final Integer VALUE = 42;
+
+    /**
+     * Utility class, not instantiated.
+     */
+    private SpscQueueBench() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args an optional filter on the benchmark names
+     */
+    public static void main(String[] args) {
+        Bench bench = new Bench(args);
+
+        SpscArrayQueue<Integer> spsc = new SpscArrayQueue<>(CAPACITY);
+        bench.runPair("SpscArrayQueue.offer/poll", reps -> {
+            long offered = 0;
+            for (int i = 0; i < reps; i++) {
+                if (spsc.offer(VALUE)) {
+                    offered++;
+                } else {
+                    Thread.yield();
+                }
+            }
+            return offered;
+        }, reps -> {
+            long taken = 0;
+            for (int i = 0; i < reps; i++) {
+                if (spsc.poll() != null) {
+                    taken++;
+                } else {
+                    Thread.yield();
+                }
+            }
+            return taken;
+        });
+
+        LockFreeLinkedQueue<Integer> lockFree = new LockFreeLinkedQueue<>();
+        AtomicLong backlog = new AtomicLong();
+        bench.runPair("LockFreeLinkedQueue.enqueue/dequeue", reps -> {
+            if (backlog.get() > CAPACITY) {
+                Thread.yield();
+                return 0;
+            }
+            for (int i = 0; i < reps; i++) {
+                lockFree.enqueue(VALUE);
+            }
+            backlog.addAndGet(reps);
+            return reps;
+        }, reps -> {
+            long taken = 0;
+            for (int i = 0; i < reps; i++) {
+                if (!lockFree.isEmpty()) {
+                    lockFree.dequeue();
+                    taken++;
+                } else {
+                    Thread.yield();
+                }
+            }
+            backlog.addAndGet(-taken);
+            return taken;
+        });
+
+        ConcurrentLinkedQueue<Integer> concurrent = new ConcurrentLinkedQueue<>();
+        AtomicLong concurrentBacklog = new AtomicLong();
+        bench.runPair("java.util.concurrent.ConcurrentLinkedQueue", reps -> {
+            if (concurrentBacklog.get() > CAPACITY) {
+                Thread.yield();
+                return 0;
+            }
+            for (int i = 0; i < reps; i++) {
+                concurrent.offer(VALUE);
+            }
+            concurrentBacklog.addAndGet(reps);
+            return reps;
+        }, reps -> {
+            long taken = 0;
+            for (int i = 0; i < reps; i++) {
+                if (concurrent.poll() != null) {
+                    taken++;
+                } else {
+                    Thread.yield();
+                }
+            }
+            concurrentBacklog.addAndGet(-taken);
+            return taken;
+        });
+
+        ArrayBlockingQueue<Integer> blocking = new ArrayBlockingQueue<>(CAPACITY);
+        bench.runPair("java.util.concurrent.ArrayBlockingQueue", reps -> {
+            long offered = 0;
+            for (int i = 0; i < reps; i++) {
+                if (blocking.offer(VALUE)) {
+                    offered++;
+                } else {
+                    Thread.yield();
+                }
+            }
+            return offered;
+        }, reps -> {
+            long taken = 0;
+            for (int i = 0; i < reps; i++) {
+                if (blocking.poll() != null) {
+                    taken++;
+                } else {
+                    Thread.yield();
+                }
+            }
+            return taken;
+        });
+    }
+}
@@ -0,0 +1,74 @@
+package lsq;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Measures the worst single push while filling ArrayStack and
+ * ChunkedArrayStack from empty, next to the total time of the fill.
+ *
+ * ArrayStack copies the whole stack every time it doubles, so its worst
+ * push grows with the size, while ChunkedArrayStack only ever allocates one
+ * chunk. Every push is timed with System.nanoTime, which adds a few tens of
+ * nanoseconds to each.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public final class StackGrowthBench {
+
+    private static final int SIZE = Integer.getInteger("bench.size", 50_000_000);
+    private static final int ROUNDS = Integer.getInteger("bench.rounds", 5);
+    private static final int MASK = 1023;
+    private static final Integer[] VALUES = new Integer[MASK + 1];
+
+    static {
+        for (int i = 0; i < VALUES.length; i++) {
+            VALUES[i] = i;
+        }
+    }
+
+    /**
+     * Utility class, not instantiated.
+     */
+    private StackGrowthBench() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args an optional filter on the benchmark names
+     */
+    public static void main(String[] args) {
+        String filter = args.length > 0 ? args[0] : "";
+        System.out.printf("%-30s %12s %14s %14s%n", "Benchmark", "size", "fill ms", "max push us");
+        for (int round = 0; round < ROUNDS; round++) {
+            if ("ArrayStack".contains(filter)) {
+                ArrayStack<Integer> stack = new ArrayStack<>();
+                fill("ArrayStack", i -> stack.push(VALUES[i & MASK]));
+            }
+            if ("ChunkedArrayStack".contains(filter)) {
+                ChunkedArrayStack<Integer> stack = new ChunkedArrayStack<>();
+                fill("ChunkedArrayStack", i -> stack.push(VALUES[i & MASK]));
+            }
+        }
+    }
+
+    /**
+     * Pushes SIZE elements and prints the total and the worst push.
+     *
+     * @param name the name of the benchmark
+     * @param push pushes the element for an index
+     */
+    private static void fill(String name, IntConsumer push) {
+        long worst = 0;
+        long start = System.nanoTime();
+        long last = start;
+        for (int i = 0; i < SIZE; i++) {
+            push.accept(i);
+            long now = System.nanoTime();
+            worst = Math.max(worst, now - last);
+            last = now;
+        }
+        System.out.printf("%-30s %12d %14.1f %14.1f%n", name, SIZE, (last - start) / 1e6, worst / 1e3);
+    }
+}
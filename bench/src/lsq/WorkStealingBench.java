@@ -0,0 +1,163 @@
+package lsq;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs a recursive task tree on 1 to N worker threads, each with its own
+ * WorkStealingDeque, and prints the speedup over one worker.
+ *
+ * Every task above the leaves pushes its two children onto its worker's
+ * deque; every leaf does a fixed amount of arithmetic. A worker pops its
+ * own deque and, when that is empty, steals from random other workers.
+ * The root starts on worker 0, so every other worker only gets work by
+ * stealing. Speedup can only approach the thread count when that many
+ * cores are free.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public final class WorkStealingBench {
+
+    private static final int DEPTH = Integer.getInteger("bench.depth", 18);
+    private static final int LEAF_WORK = Integer.getInteger("bench.leafWork", 2_000);
+    private static final int ROUNDS = Integer.getInteger("bench.rounds", 5);
+
+    private static volatile long sink;
+
+    /**
+     * Utility class, not instantiated.
+     */
+    private WorkStealingBench() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args unused
+     * @throws InterruptedException if interrupted while waiting for workers
+     */
+    public static void main(String[] args) throws InterruptedException {
+        System.out.printf("%-30s %10s %14s %10s %12s%n", "Benchmark", "threads", "best ms", "speedup", "steals");
+        double baseline = 0;
+        for (int threads : Bench.threads()) {
+            long best = Long.MAX_VALUE;
+            long steals = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                long[] result = runTree(threads);
+                if (result[0] < best) {
+                    best = result[0];
+                    steals = result[1];
+                }
+            }
+            if (baseline == 0) {
+                // Speedups are relative to the first, and normally single, thread count
+                baseline = best;
+            }
+            System.out.printf("%-30s %10d %14.1f %10.2f %12d%n", "WorkStealingDeque(tree)", threads,
+                    best / 1e6, baseline / best, steals);
+        }
+    }
+
+    /**
+     * Runs the whole task tree once.
+     *
+     * @param threads the number of workers
+     * @return the nanoseconds it took and the number of tasks stolen
+     * @throws InterruptedException if interrupted while waiting for workers
+     */
+    private static long[] runTree(int threads) throws InterruptedException {
+        WorkStealingDeque<Task>[] deques = (WorkStealingDeque<Task>[]) new WorkStealingDeque<?>[threads];
+        for (int i = 0; i < threads; i++) {
+            deques[i] = new WorkStealingDeque<>();
+        }
+        AtomicLong pending = new AtomicLong(1);
+        AtomicLong steals = new AtomicLong();
+        deques[0].push(new Task(DEPTH, 1));
+
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            final int id = i;
+            workers[i] = new Thread(() -> work(id, deques, pending, steals));
+        }
+        long start = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return new long[] {System.nanoTime() - start, steals.get()};
+    }
+
+    /**
+     * The loop of one worker, run until no task is left anywhere.
+     *
+     * @param id      the index of the worker's own deque
+     * @param deques  the deques of all of the workers
+     * @param pending the number of tasks not yet finished
+     * @param steals  counts the tasks stolen
+     */
+    private static void work(int id, WorkStealingDeque<Task>[] deques, AtomicLong pending, AtomicLong steals) {
+        WorkStealingDeque<Task> own = deques[id];
+        long result = 0;
+        while (pending.get() > 0) {
+            Task task = own.pop();
+            if (task == null && deques.length > 1) {
+                int victim = ThreadLocalRandom.current().nextInt(deques.length - 1);
+                task = deques[victim >= id ? victim + 1 : victim].steal();
+                if (task != null) {
+                    steals.incrementAndGet();
+                }
+            }
+            if (task == null) {
+                Thread.onSpinWait();
+            } else if (task.depth == 0) {
+                result += leaf(task.seed);
+                pending.decrementAndGet();
+            } else {
+                // Two new tasks replace this one
+                pending.incrementAndGet();
+                own.push(new Task(task.depth - 1, 2 * task.seed));
+                own.push(new Task(task.depth - 1, 2 * task.seed + 1));
+            }
+        }
+        sink += result;
+    }
+
+    /**
+     * The work of one leaf task.
+     *
+     * @param seed a value unique to the leaf
+     * @return a value derived from the seed
+     */
+    private static long leaf(long seed) {
+        long x = seed;
+        for (int i = 0; i < LEAF_WORK; i++) {
+            x ^= x << 13;
+            x ^= x >>> 7;
+            x ^= x << 17;
+        }
+        return x;
+    }
+
+    /**
+     * A node of the task tree.
+     */
+    private static final class Task {
+
+        private final int depth;
+        private final long seed;
+
+        /**
+         * Constructs a new Task.
+         *
+         * @param depth the number of levels below this task
+         * @param seed  a value unique to the task
+         */
+        private Task(int depth, long seed) {
+            this.depth = depth;
+            this.seed = seed;
+        }
+    }
+}
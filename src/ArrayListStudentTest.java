@@ -1,216 +0,0 @@
-import static org.junit.Assert.assertArrayEquals;
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertSame;
-import static org.junit.Assert.assertTrue;
-
-import org.junit.Before;
-import org.junit.Test;
-
-/**
- * This is a basic set of unit tests for ArrayList.
- */
-public class ArrayListStudentTest {
-
-    private static final int TIMEOUT = 200;
-    private ArrayList<String> list;
-
-    @Before
-    public void setUp() {
-        list = new ArrayList<>();
-    }
-
-    @Test(timeout = TIMEOUT)
-    public void testInitialization() {
-        assertEquals(0, list.size());
-        assertArrayEquals(new Object[ArrayList.INITIAL_CAPACITY],
-                list.getBackingArray());
-    }
-
-    @Test(timeout = TIMEOUT)
-    public void testAddAtIndex() {
-        list.addAtIndex(0, "2a");   // 2a
-        list.addAtIndex(0, "1a");   // 1a, 2a
-        list.addAtIndex(2, "4a");   // 1a, 2a, 4a
-        list.addAtIndex(2, "3a");   // 1a, 2a, 3a, 4a
-        list.addAtIndex(0, "0a");   // 0a, 1a, 2a, 3a, 4a
-
-        assertEquals(5, list.size());
-
-        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
-        expected[0] = "0a";
-        expected[1] = "1a";
-        expected[2] = "2a";
-        expected[3] = "3a";
-        expected[4] = "4a";
-        assertArrayEquals(expected, list.getBackingArray());
-    }
-
-    @Test(timeout = TIMEOUT)
-    public void testAddToFront() {
-        list.addToFront("4a");  // 4a
-        list.addToFront("3a");  // 3a, 4a
-        list.addToFront("2a");  // 2a, 3a, 4a
-        list.addToFront("1a");  // 1a, 2a, 3a, 4a
-        list.addToFront("0a");  // 0a, 1a, 2a, 3a, 4a
-
-        assertEquals(5, list.size());
-
-        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
-        expected[0] = "0a";
-        expected[1] = "1a";
-        expected[2] = "2a";
-        expected[3] = "3a";
-        expected[4] = "4a";
-        assertArrayEquals(expected, list.getBackingArray());
-    }
-
-    @Test(timeout = TIMEOUT)
-    public void testAddToBack() {
-        list.addToBack("0a");   // 0a
-        list.addToBack("1a");   // 0a, 1a
-        list.addToBack("2a");   // 0a, 1a, 2a
-        list.addToBack("3a");   // 0a, 1a, 2a, 3a
-        list.addToBack("4a");   // 0a, 1a, 2a, 3a, 4a
-
-        assertEquals(5, list.size());
-
-        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
-        expected[0] = "0a";
-        expected[1] = "1a";
-        expected[2] = "2a";
-        expected[3] = "3a";
-        expected[4] = "4a";
-        assertArrayEquals(expected, list.getBackingArray());
-    }
-
-    @Test(timeout = TIMEOUT)
-    public void testRemoveAtIndex() {
-        String temp = "2a"; // For equality checking.
-
-        list.addAtIndex(0, "0a");   // 0a
-        list.addAtIndex(1, "1a");   // 0a, 1a
-        list.addAtIndex(2, temp);   // 0a, 1a, 2a
-        list.addAtIndex(3, "3a");   // 0a, 1a, 2a, 3a
-        list.addAtIndex(4, "4a");   // 0a, 1a, 2a, 3a, 4a
-        list.addAtIndex(5, "5a");   // 0a, 1a, 2a, 3a, 4a, 5a
-        assertEquals(6, list.size());
-
-        // assertSame checks for reference equality whereas assertEquals checks
-        // value equality.
-        assertSame(temp, list.removeAtIndex(2));    // 0a, 1a, 3a, 4a, 5a
-
-        assertEquals(5, list.size());
-
-        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
-        expected[0] = "0a";
-        expected[1] = "1a";
-        expected[2] = "3a";
-        expected[3] = "4a";
-        expected[4] = "5a";
-        assertArrayEquals(expected, list.getBackingArray());
-    }
-
-    @Test(timeout = TIMEOUT)
-    public void testRemoveFromFront() {
-        String temp = "0a"; // For equality checking.
-
-        list.addAtIndex(0, temp);   // 0a
-        list.addAtIndex(1, "1a");   // 0a, 1a
-        list.addAtIndex(2, "2a");   // 0a, 1a, 2a
-        list.addAtIndex(3, "3a");   // 0a, 1a, 2a, 3a
-        list.addAtIndex(4, "4a");   // 0a, 1a, 2a, 3a, 4a
-        list.addAtIndex(5, "5a");   // 0a, 1a, 2a, 3a, 4a, 5a
-        assertEquals(6, list.size());
-
-        // assertSame checks for reference equality whereas assertEquals checks
-        // value equality.
-        assertSame(temp, list.removeFromFront());   // 1a, 2a, 3a, 4a, 5a
-
-        assertEquals(5, list.size());
-
-        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
-        expected[0] = "1a";
-        expected[1] = "2a";
-        expected[2] = "3a";
-        expected[3] = "4a";
-        expected[4] = "5a";
-        assertArrayEquals(expected, list.getBackingArray());
-    }
-
-    @Test(timeout = TIMEOUT)
-    public void testRemoveFromBack() {
-        String temp = "5a"; // For equality checking.
-
-        list.addAtIndex(0, "0a");   // 0a
-        list.addAtIndex(1, "1a");   // 0a, 1a
-        list.addAtIndex(2, "2a");   // 0a, 1a, 2a
-        list.addAtIndex(3, "3a");   // 0a, 1a, 2a, 3a
-        list.addAtIndex(4, "4a");   // 0a, 1a, 2a, 3a, 4a
-        list.addAtIndex(5, temp);   // 0a, 1a, 2a, 3a, 4a, 5a
-        assertEquals(6, list.size());
-
-        // assertSame checks for reference equality whereas assertEquals checks
-        // value equality.
-        assertSame(temp, list.removeFromBack());    // 0a, 1a, 2a, 3a, 4a
-
-        assertEquals(5, list.size());
-
-        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
-        expected[0] = "0a";
-        expected[1] = "1a";
-        expected[2] = "2a";
-        expected[3] = "3a";
-        expected[4] = "4a";
-        assertArrayEquals(expected, list.getBackingArray());
-    }
-
-    @Test(timeout = TIMEOUT)
-    public void testGet() {
-        list.addAtIndex(0, "0a");   // 0a
-        list.addAtIndex(1, "1a");   // 0a, 1a
-        list.addAtIndex(2, "2a");   // 0a, 1a, 2a
-        list.addAtIndex(3, "3a");   // 0a, 1a, 2a, 3a
-        list.addAtIndex(4, "4a");   // 0a, 1a, 2a, 3a, 4a
-        assertEquals(5, list.size());
-
-        assertEquals("0a", list.get(0));
-        assertEquals("1a", list.get(1));
-        assertEquals("2a", list.get(2));
-        assertEquals("3a", list.get(3));
-        assertEquals("4a", list.get(4));
-    }
-
-    @Test(timeout = TIMEOUT)
-    public void testIsEmpty() {
-        // Should be empty at initialization
-        assertTrue(list.isEmpty());
-
-        // Should not be empty after adding elements
-        list.addAtIndex(0, "0a");   // 0a
-        list.addAtIndex(1, "1a");   // 0a, 1a
-        list.addAtIndex(2, "2a");   // 0a, 1a, 2a
-        list.addAtIndex(3, "3a");   // 0a, 1a, 2a, 3a
-        list.addAtIndex(4, "4a");   // 0a, 1a, 2a, 3a, 4a
-        assertEquals(5, list.size());
-
-        assertFalse(list.isEmpty());
-    }
-
-    @Test(timeout = TIMEOUT)
-    public void testClear() {
-        list.addAtIndex(0, "0a");   // 0a
-        list.addAtIndex(1, "1a");   // 0a, 1a
-        list.addAtIndex(2, "2a");   // 0a, 1a, 2a
-        list.addAtIndex(3, "3a");   // 0a, 1a, 2a, 3a
-        list.addAtIndex(4, "4a");   // 0a, 1a, 2a, 3a, 4a
-        assertEquals(5, list.size());
-
-        // Clearing the list should empty the array and reset size
-        list.clear();
-
-        assertEquals(0, list.size());
-        assertArrayEquals(new Object[ArrayList.INITIAL_CAPACITY],
-                list.getBackingArray());
-    }
-}
\ No newline at end of file
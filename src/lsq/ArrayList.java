@@ -0,0 +1,719 @@
+package lsq;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementation of an ArrayList backed by a circular array.
+ *
+ * The front of the list is stored at index head of the backing array and
+ * the list wraps around the end of the array, so both ends can be added to
+ * and removed from without shifting.
+ *
+ * The list must not be modified while it is being iterated.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ *
+ */
+public class ArrayList<T> implements Iterable<T> {
+
+    /**
+     * The initial capacity of the ArrayList.
+     *
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    private T[] backingArray;
+    private int head;
+    private int size;
+    private final int initialCapacity;
+    private final GrowthPolicy growthPolicy;
+    private final boolean autoShrink;
+
+    /**
+     * Constructs a new ArrayList.
+     *
+     * Java does not allow for regular generic array creation, so we will have
+     * to cast an Object[] to a T[] to get the generic typing.
+     */
+    public ArrayList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new ArrayList that doubles its backing array when full
+     * and never shrinks it on its own.
+     *
+     * @param initialCapacity the initial length of the backing array
+     * @throws java.lang.IllegalArgumentException if initialCapacity < 0
+     */
+    public ArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DOUBLING, false);
+    }
+
+    /**
+     * Constructs a new ArrayList.
+     *
+     * With autoShrink, a removal that leaves the list less than a quarter
+     * full halves the backing array, but never below initialCapacity. The
+     * gap between the two thresholds keeps a list that hovers around one
+     * size from growing and shrinking over and over.
+     *
+     * @param initialCapacity the initial length of the backing array
+     * @param growthPolicy    decides the new length of a full backing array
+     * @param autoShrink      whether removals shrink a sparse backing array
+     * @throws java.lang.IllegalArgumentException if initialCapacity < 0 or
+     *                                            growthPolicy is null
+     */
+    public ArrayList(int initialCapacity, GrowthPolicy growthPolicy, boolean autoShrink) {
+        //The Exception
+        if (initialCapacity < 0 || initialCapacity > GrowthPolicy.MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException("The initial capacity should be between 0 and "
+                    + GrowthPolicy.MAX_ARRAY_LENGTH + ", but was " + initialCapacity + ".");
+        } else if (growthPolicy == null) {
+            throw new IllegalArgumentException("The growth policy entered was null");
+        }
+        this.initialCapacity = initialCapacity;
+        this.growthPolicy = growthPolicy;
+        this.autoShrink = autoShrink;
+        backingArray = (T[]) new Object[initialCapacity];
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds the element to the specified index.
+     *
+     * May require elements to be shifted. Shifts whichever side of the index
+     * holds fewer elements.
+     *
+     * Must be amortized O(1) for indices 0 and size and O(min(index,
+     * size - index)) for all other cases.
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        // The exceptions
+        if (data == null) {
+            throw new IllegalArgumentException("The data is null, use a T type data");
+        } else if (index < 0) {
+            throw new IndexOutOfBoundsException("The index is a negative number, use an "
+                    + "index inside the range of 0 and " + size + ".");
+        } else if (index > size) {
+            throw new IndexOutOfBoundsException("The index is greater than " + size + ", use an index"
+                    + " inside the range of 0 and " + size + ".");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.ARRAY_LIST.add();
+            CollectionMetrics.ARRAY_LIST.shift(Math.min(index, size - index));
+        }
+
+        if (size + 1 > backingArray.length) {
+            // Expanding the ArrayList leaves the spot at index open
+            grow(index);
+        } else if (index < size - index) {
+            // Closer to the front, "shifts" the front elements to the left
+            head = physicalIndex(backingArray.length - 1);
+            copy(1, 0, index);
+        } else {
+            // Closer to the back, "shifts" the back elements to the right
+            copy(index, index + 1, size - index);
+        }
+        backingArray[physicalIndex(index)] = data;
+        size++;
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Moves the head back one spot instead of shifting elements.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the front of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        // The exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data is null, use a T type data");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.ARRAY_LIST.add();
+        }
+
+        // Grows the backing array and copies over data
+        if (size + 1 > backingArray.length) {
+            grow(0);
+        } else {
+            head = physicalIndex(backingArray.length - 1);
+        }
+
+        // Adding to the front
+        backingArray[head] = data;
+        size++;
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        // The exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data is null, use a T type data");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.ARRAY_LIST.add();
+        }
+
+        // Grows the backing array and copies over data
+        if (size + 1 > backingArray.length) {
+            grow(size);
+        }
+
+        // Adding to the back
+        backingArray[physicalIndex(size)] = data;
+        size++;
+    }
+
+    /**
+     * Removes and returns the element at the specified index.
+     *
+     * May require elements to be shifted. Shifts whichever side of the index
+     * holds fewer elements.
+     *
+     * Must be O(1) for indices 0 and size - 1 and O(min(index,
+     * size - index)) for all other cases.
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T removeAtIndex(int index) {
+        // The exception
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index should be > 0 and <= " + size + ".");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.ARRAY_LIST.remove();
+            CollectionMetrics.ARRAY_LIST.shift(Math.min(index, size - index - 1));
+        }
+
+        final T dataRemoved = backingArray[physicalIndex(index)];
+        if (index < size - index - 1) {
+            // Closer to the front, "shifts" the front elements to the right
+            copy(0, 1, index);
+            backingArray[head] = null;
+            head = physicalIndex(1);
+        } else {
+            // Closer to the back, "shifts" the back elements to the left
+            copy(index + 1, index, size - index - 1);
+            backingArray[physicalIndex(size - 1)] = null;
+        }
+        size--;
+        shrinkIfSparse();
+        return dataRemoved;
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * Moves the head forward one spot instead of shifting elements.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromFront() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is already empty");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.ARRAY_LIST.remove();
+        }
+
+        //Removing from front
+        final T dataRemoved = backingArray[head];
+        backingArray[head] = null;
+        head = physicalIndex(1);
+        size--;
+        shrinkIfSparse();
+        return dataRemoved;
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromBack() {
+        // The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The list is already empty");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.ARRAY_LIST.remove();
+        }
+
+        // Removing from back
+        int last = physicalIndex(size - 1);
+        final T dataRemoved = backingArray[last];
+        backingArray[last] = null;
+        size--;
+        shrinkIfSparse();
+        return dataRemoved;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        // The exception
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index should be > 0 and <= " + size + ".");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.ARRAY_LIST.read();
+        }
+        return backingArray[physicalIndex(index)];
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list.
+     *
+     * Resets the backing array to a new array of the initial capacity and resets the size.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        size = 0;
+        head = 0;
+        backingArray = (T[]) new Object[initialCapacity];
+    }
+
+    /**
+     * Grows the backing array, if needed, so it holds at least minCapacity
+     * elements. Call it before a bulk load to allocate once instead of
+     * growing over and over.
+     *
+     * Must be O(n) when it grows and O(1) otherwise.
+     *
+     * @param minCapacity the number of elements the list should hold
+     * @throws java.lang.IllegalStateException if minCapacity is larger than
+     *                                         GrowthPolicy.MAX_ARRAY_LENGTH
+     */
+    public void ensureCapacity(int minCapacity) {
+        //The Exception
+        if (minCapacity > GrowthPolicy.MAX_ARRAY_LENGTH) {
+            throw new IllegalStateException("The array cannot hold " + minCapacity + " elements.");
+        }
+
+        if (minCapacity > backingArray.length) {
+            // At least one regular step, so a run of small calls stays amortized
+            int step = growthPolicy.grow(backingArray.length, backingArray.length + 1);
+            resize(Math.max(minCapacity, step), size);
+        }
+    }
+
+    /**
+     * Shrinks the backing array to exactly the size of the list.
+     *
+     * Must be O(n).
+     */
+    public void trimToSize() {
+        if (backingArray.length > size) {
+            resize(size, size);
+        }
+    }
+
+    /**
+     * Returns a new ArrayList holding a copy of the elements, exactly full.
+     * Copies the array in one go and records no metrics.
+     *
+     * @param elements the elements, none of them null
+     * @param <T>      the type of the elements
+     * @return the list
+     */
+    static <T> ArrayList<T> copyOf(T[] elements) {
+        ArrayList<T> list = new ArrayList<>(elements.length);
+        System.arraycopy(elements, 0, list.backingArray, 0, elements.length);
+        list.size = elements.length;
+        return list;
+    }
+
+    /**
+     * Takes the elements out of the list as an array of exactly its size,
+     * from the front to the back, and leaves the list empty.
+     *
+     * The backing array itself is handed over when it already is such an
+     * array, so nothing is copied; otherwise the elements are copied once
+     * into a trimmed array.
+     *
+     * Must be O(1) when the backing array is handed over and O(n)
+     * otherwise.
+     *
+     * @return the array
+     */
+    T[] takeArray() {
+        T[] anArray = backingArray;
+        if (head != 0 || size != backingArray.length) {
+            anArray = (T[]) new Object[size];
+            int firstRun = Math.min(size, backingArray.length - head);
+            // Unwraps the two runs of the circular array
+            System.arraycopy(backingArray, head, anArray, 0, firstRun);
+            System.arraycopy(backingArray, 0, anArray, firstRun, size - firstRun);
+        }
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        head = 0;
+        size = 0;
+        return anArray;
+    }
+
+    /**
+     * Returns an iterator over the list, from the front to the back.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a spliterator over the list, from the front to the back.
+     *
+     * Splits the range of list indices exactly in half, so it is SIZED and
+     * SUBSIZED even when the list wraps around the end of the backing array.
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new RingSpliterator<>(backingArray, head, 0, size);
+    }
+
+    /**
+     * Returns a sequential stream over the list, from the front to the
+     * back. Call parallel on it to process it on several threads.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Translates an index of the list into an index of the backing array.
+     *
+     * @param index the index in the list, between 0 and 2 * capacity - 1
+     * @return the index in the backing array
+     */
+    private int physicalIndex(int index) {
+        int physical = head + index;
+        if (physical >= backingArray.length) {
+            physical -= backingArray.length;
+        }
+        return physical;
+    }
+
+    /**
+     * Copies a range of the list onto another range of the list, wrapping
+     * around the end of the backing array as needed.
+     *
+     * The ranges may overlap; the copy runs in the direction that reads
+     * every element before it is overwritten.
+     *
+     * @param from  the list index of the first element to copy
+     * @param to    the list index the first element is copied to
+     * @param count the number of elements to copy
+     */
+    private void copy(int from, int to, int count) {
+        int length = backingArray.length;
+        if (to < from) {
+            while (count > 0) {
+                int source = physicalIndex(from);
+                int destination = physicalIndex(to);
+                int run = Math.min(count, Math.min(length - source, length - destination));
+                System.arraycopy(backingArray, source, backingArray, destination, run);
+                from += run;
+                to += run;
+                count -= run;
+            }
+        } else {
+            while (count > 0) {
+                int source = physicalIndex(from + count - 1);
+                int destination = physicalIndex(to + count - 1);
+                int run = Math.min(count, Math.min(source + 1, destination + 1));
+                System.arraycopy(backingArray, source - run + 1, backingArray, destination - run + 1, run);
+                count -= run;
+            }
+        }
+    }
+
+    /**
+     * Makes a new Array with room for one more element, as chosen by the
+     * growth policy, leaving the spot at gap open.
+     *
+     * @param gap the list index to leave open in the new array
+     */
+    private void grow(int gap) {
+        resize(growthPolicy.grow(backingArray.length, size + 1), gap);
+    }
+
+    /**
+     * Halves the backing array when autoShrink is on and the list has
+     * dropped below a quarter of it, but never below the initial capacity.
+     */
+    private void shrinkIfSparse() {
+        if (autoShrink && size < backingArray.length / 4 && backingArray.length > initialCapacity) {
+            resize(Math.max(initialCapacity, backingArray.length / 2), size);
+        }
+    }
+
+    /**
+     * Makes a new Array of the given capacity and copies over the data so
+     * the list starts at index 0 again, leaving the spot at gap open.
+     *
+     * @param capacity the length of the new array
+     * @param gap      the list index to leave open, or size to leave none
+     */
+    private void resize(int capacity, int gap) {
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.ARRAY_LIST.resize(backingArray.length, capacity, size);
+        }
+        T[] anArray = (T[]) new Object[capacity];
+        int firstRun = Math.min(size, backingArray.length - head);
+        // Unwraps the two runs of the circular array around the gap
+        System.arraycopy(backingArray, head, anArray, 0, firstRun);
+        System.arraycopy(backingArray, 0, anArray, firstRun, size - firstRun);
+        if (gap < size) {
+            System.arraycopy(anArray, gap, anArray, gap + 1, size - gap);
+            anArray[gap] = null;
+        }
+        backingArray = anArray;
+        head = 0;
+    }
+
+    /**
+     * A spliterator over a range of list indices of a circular array.
+     */
+    private static final class RingSpliterator<T> implements Spliterator<T> {
+
+        private final T[] array;
+        private final int head;
+        private int index;
+        private final int fence;
+
+        /**
+         * Constructs a new RingSpliterator.
+         *
+         * @param array the circular array
+         * @param head  the array index of list index 0
+         * @param index the first list index covered
+         * @param fence one past the last list index covered
+         */
+        private RingSpliterator(T[] array, int head, int index, int fence) {
+            this.array = array;
+            this.head = head;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= fence) {
+                return false;
+            }
+            int physical = head + index;
+            if (physical >= array.length) {
+                physical -= array.length;
+            }
+            index++;
+            action.accept(array[physical]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            // Runs over the part before the wrap, then the part after it
+            int physical = head + index;
+            if (physical >= array.length) {
+                physical -= array.length;
+            }
+            int remaining = fence - index;
+            int firstRun = Math.min(remaining, array.length - physical);
+            for (int i = physical; i < physical + firstRun; i++) {
+                action.accept(array[i]);
+            }
+            for (int i = 0; i < remaining - firstRun; i++) {
+                action.accept(array[i]);
+            }
+            index = fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            Spliterator<T> prefix = new RingSpliterator<>(array, head, index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+
+    /**
+     * Writes a binary snapshot of the list to the channel, from the front
+     * to the back, through a direct buffer.
+     *
+     * Must be O(n).
+     *
+     * @param channel the channel to write to
+     * @param codec   the codec that encodes the elements
+     * @throws java.lang.IllegalArgumentException if channel or codec is null
+     * @throws java.io.IOException                if the channel cannot be written to
+     */
+    public void writeTo(WritableByteChannel channel, ElementCodec<T> codec) throws IOException {
+        Snapshot.write(channel, codec, size, this);
+    }
+
+    /**
+     * Reads a list from a snapshot written by writeTo. A FileChannel is
+     * mapped into memory from its position on instead of being read.
+     *
+     * Must be O(n).
+     *
+     * @param channel the channel to read from
+     * @param codec   the codec that decodes the elements
+     * @param <T>     the type of the elements
+     * @return the list
+     * @throws java.lang.IllegalArgumentException if channel or codec is null
+     * @throws java.io.IOException                if the channel cannot be read or holds no valid snapshot
+     */
+    public static <T> ArrayList<T> readFrom(ReadableByteChannel channel, ElementCodec<T> codec) throws IOException {
+        return readFrom(Snapshot.Reader.open(channel, codec));
+    }
+
+    /**
+     * Reads a list from a snapshot file written by writeTo, mapping the
+     * file into memory.
+     *
+     * Must be O(n).
+     *
+     * @param path  the path of the file
+     * @param codec the codec that decodes the elements
+     * @param <T>   the type of the elements
+     * @return the list
+     * @throws java.lang.IllegalArgumentException if path or codec is null
+     * @throws java.io.IOException                if the file cannot be read or holds no valid snapshot
+     */
+    public static <T> ArrayList<T> readFrom(Path path, ElementCodec<T> codec) throws IOException {
+        return readFrom(Snapshot.Reader.open(path, codec));
+    }
+
+    /**
+     * Builds a list from the elements of a snapshot.
+     *
+     * @param reader the reader of the snapshot
+     * @param <T>    the type of the elements
+     * @return the list
+     * @throws java.io.IOException if the snapshot is corrupt
+     */
+    private static <T> ArrayList<T> readFrom(Snapshot.Reader<T> reader) throws IOException {
+        ArrayList<T> list = new ArrayList<>();
+        // One backing array of exactly the right size, when the count can be trusted
+        if (reader.initialCapacity() > INITIAL_CAPACITY) {
+            list.backingArray = (T[]) new Object[reader.initialCapacity()];
+        }
+        for (int i = 0; i < reader.size(); i++) {
+            T element = reader.next();
+            if (i == list.backingArray.length) {
+                // Otherwise grows as the elements actually arrive
+                list.grow(i);
+            }
+            list.backingArray[i] = element;
+            list.size = i + 1;
+        }
+        return list;
+    }
+
+    /**
+     * Returns the backing array of the list.
+     *
+     * For grading and benchmarking purposes only. The front of the list is
+     * not necessarily at index 0 of the array.
+     *
+     * @return the backing array of the list
+     */
+    public T[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+}
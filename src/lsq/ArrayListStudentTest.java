@@ -0,0 +1,496 @@
+package lsq;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Spliterator;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * This is a basic set of unit tests for ArrayList.
+ */
+public class ArrayListStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private ArrayList<String> list;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        list = new ArrayList<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, list.size());
+        assertArrayEquals(new Object[ArrayList.INITIAL_CAPACITY],
+                list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAtIndex() {
+        list.addAtIndex(0, "2a");   // 2a
+        list.addAtIndex(0, "1a");   // 1a, 2a
+        list.addAtIndex(2, "4a");   // 1a, 2a, 4a
+        list.addAtIndex(2, "3a");   // 1a, 2a, 3a, 4a
+        list.addAtIndex(0, "0a");   // 0a, 1a, 2a, 3a, 4a
+
+        assertEquals(5, list.size());
+
+        // Adds at the front wrap around to the end of the backing array
+        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
+        expected[7] = "0a";
+        expected[8] = "1a";
+        expected[0] = "2a";
+        expected[1] = "3a";
+        expected[2] = "4a";
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAtIndexResize() {
+        for (int i = 0; i < ArrayList.INITIAL_CAPACITY; i++) {
+            list.addToBack(i + "a");
+        }
+        list.addAtIndex(4, "new");   // 0a, 1a, 2a, 3a, new, 4a, ..., 8a
+
+        assertEquals(ArrayList.INITIAL_CAPACITY + 1, list.size());
+
+        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY * 2];
+        for (int i = 0; i < 4; i++) {
+            expected[i] = i + "a";
+        }
+        expected[4] = "new";
+        for (int i = 4; i < ArrayList.INITIAL_CAPACITY; i++) {
+            expected[i + 1] = i + "a";
+        }
+        assertArrayEquals(expected, list.getBackingArray());
+
+        // Removing from a filled array must not read past its end
+        assertEquals("0a", list.removeFromFront());
+        assertEquals("8a", list.removeAtIndex(list.size() - 1));
+        assertEquals(ArrayList.INITIAL_CAPACITY - 1, list.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testWrapAround() {
+        java.util.ArrayList<String> reference = new java.util.ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            String data = i + "a";
+            if (i % 3 == 0) {
+                list.addToFront(data);
+                reference.add(0, data);
+            } else {
+                int index = (i * 7) % (list.size() + 1);
+                list.addAtIndex(index, data);
+                reference.add(index, data);
+            }
+            if (i % 5 == 4) {
+                int index = (i * 11) % list.size();
+                assertSame(reference.remove(index), list.removeAtIndex(index));
+                assertSame(reference.remove(0), list.removeFromFront());
+            }
+        }
+
+        assertEquals(reference.size(), list.size());
+        for (int i = 0; i < reference.size(); i++) {
+            assertSame(reference.get(i), list.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddToFront() {
+        list.addToFront("4a");  // 4a
+        list.addToFront("3a");  // 3a, 4a
+        list.addToFront("2a");  // 2a, 3a, 4a
+        list.addToFront("1a");  // 1a, 2a, 3a, 4a
+        list.addToFront("0a");  // 0a, 1a, 2a, 3a, 4a
+
+        assertEquals(5, list.size());
+
+        // Adds at the front wrap around to the end of the backing array
+        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
+        expected[4] = "0a";
+        expected[5] = "1a";
+        expected[6] = "2a";
+        expected[7] = "3a";
+        expected[8] = "4a";
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddToBack() {
+        list.addToBack("0a");   // 0a
+        list.addToBack("1a");   // 0a, 1a
+        list.addToBack("2a");   // 0a, 1a, 2a
+        list.addToBack("3a");   // 0a, 1a, 2a, 3a
+        list.addToBack("4a");   // 0a, 1a, 2a, 3a, 4a
+
+        assertEquals(5, list.size());
+
+        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
+        expected[0] = "0a";
+        expected[1] = "1a";
+        expected[2] = "2a";
+        expected[3] = "3a";
+        expected[4] = "4a";
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveAtIndex() {
+        String temp = "2a"; // For equality checking.
+
+        list.addAtIndex(0, "0a");   // 0a
+        list.addAtIndex(1, "1a");   // 0a, 1a
+        list.addAtIndex(2, temp);   // 0a, 1a, 2a
+        list.addAtIndex(3, "3a");   // 0a, 1a, 2a, 3a
+        list.addAtIndex(4, "4a");   // 0a, 1a, 2a, 3a, 4a
+        list.addAtIndex(5, "5a");   // 0a, 1a, 2a, 3a, 4a, 5a
+        assertEquals(6, list.size());
+
+        // assertSame checks for reference equality whereas assertEquals checks
+        // value equality.
+        assertSame(temp, list.removeAtIndex(2));    // 0a, 1a, 3a, 4a, 5a
+
+        assertEquals(5, list.size());
+
+        // The front side is shorter, so it is the one shifted
+        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
+        expected[1] = "0a";
+        expected[2] = "1a";
+        expected[3] = "3a";
+        expected[4] = "4a";
+        expected[5] = "5a";
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveFromFront() {
+        String temp = "0a"; // For equality checking.
+
+        list.addAtIndex(0, temp);   // 0a
+        list.addAtIndex(1, "1a");   // 0a, 1a
+        list.addAtIndex(2, "2a");   // 0a, 1a, 2a
+        list.addAtIndex(3, "3a");   // 0a, 1a, 2a, 3a
+        list.addAtIndex(4, "4a");   // 0a, 1a, 2a, 3a, 4a
+        list.addAtIndex(5, "5a");   // 0a, 1a, 2a, 3a, 4a, 5a
+        assertEquals(6, list.size());
+
+        // assertSame checks for reference equality whereas assertEquals checks
+        // value equality.
+        assertSame(temp, list.removeFromFront());   // 1a, 2a, 3a, 4a, 5a
+
+        assertEquals(5, list.size());
+
+        // Removing from the front moves the head instead of shifting
+        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
+        expected[1] = "1a";
+        expected[2] = "2a";
+        expected[3] = "3a";
+        expected[4] = "4a";
+        expected[5] = "5a";
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveFromBack() {
+        String temp = "5a"; // For equality checking.
+
+        list.addAtIndex(0, "0a");   // 0a
+        list.addAtIndex(1, "1a");   // 0a, 1a
+        list.addAtIndex(2, "2a");   // 0a, 1a, 2a
+        list.addAtIndex(3, "3a");   // 0a, 1a, 2a, 3a
+        list.addAtIndex(4, "4a");   // 0a, 1a, 2a, 3a, 4a
+        list.addAtIndex(5, temp);   // 0a, 1a, 2a, 3a, 4a, 5a
+        assertEquals(6, list.size());
+
+        // assertSame checks for reference equality whereas assertEquals checks
+        // value equality.
+        assertSame(temp, list.removeFromBack());    // 0a, 1a, 2a, 3a, 4a
+
+        assertEquals(5, list.size());
+
+        Object[] expected = new Object[ArrayList.INITIAL_CAPACITY];
+        expected[0] = "0a";
+        expected[1] = "1a";
+        expected[2] = "2a";
+        expected[3] = "3a";
+        expected[4] = "4a";
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGet() {
+        list.addAtIndex(0, "0a");   // 0a
+        list.addAtIndex(1, "1a");   // 0a, 1a
+        list.addAtIndex(2, "2a");   // 0a, 1a, 2a
+        list.addAtIndex(3, "3a");   // 0a, 1a, 2a, 3a
+        list.addAtIndex(4, "4a");   // 0a, 1a, 2a, 3a, 4a
+        assertEquals(5, list.size());
+
+        assertEquals("0a", list.get(0));
+        assertEquals("1a", list.get(1));
+        assertEquals("2a", list.get(2));
+        assertEquals("3a", list.get(3));
+        assertEquals("4a", list.get(4));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIsEmpty() {
+        // Should be empty at initialization
+        assertTrue(list.isEmpty());
+
+        // Should not be empty after adding elements
+        list.addAtIndex(0, "0a");   // 0a
+        list.addAtIndex(1, "1a");   // 0a, 1a
+        list.addAtIndex(2, "2a");   // 0a, 1a, 2a
+        list.addAtIndex(3, "3a");   // 0a, 1a, 2a, 3a
+        list.addAtIndex(4, "4a");   // 0a, 1a, 2a, 3a, 4a
+        assertEquals(5, list.size());
+
+        assertFalse(list.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        list.addAtIndex(0, "0a");   // 0a
+        list.addAtIndex(1, "1a");   // 0a, 1a
+        list.addAtIndex(2, "2a");   // 0a, 1a, 2a
+        list.addAtIndex(3, "3a");   // 0a, 1a, 2a, 3a
+        list.addAtIndex(4, "4a");   // 0a, 1a, 2a, 3a, 4a
+        assertEquals(5, list.size());
+
+        // Clearing the list should empty the array and reset size
+        list.clear();
+
+        assertEquals(0, list.size());
+        assertArrayEquals(new Object[ArrayList.INITIAL_CAPACITY],
+                list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIterationAndStream() {
+        for (int i = 0; i < 5; i++) {
+            list.addToBack(i + "a");
+        }
+        list.addToFront("9z"); // Wraps around the end of the backing array
+        list.removeFromFront();
+
+        Object[] expected = {"0a", "1a", "2a", "3a", "4a"};
+        java.util.List<String> iterated = new java.util.ArrayList<>();
+        for (String data : list) {
+            iterated.add(data);
+        }
+        assertArrayEquals(expected, iterated.toArray());
+        assertArrayEquals(expected, list.stream().parallel().toArray());
+
+        Spliterator<String> right = list.spliterator();
+        Spliterator<String> left = right.trySplit();
+        assertEquals(2, left.getExactSizeIfKnown());
+        assertEquals(3, right.getExactSizeIfKnown());
+        assertTrue(right.hasCharacteristics(Spliterator.SUBSIZED));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSnapshot() throws IOException {
+        for (int i = 0; i < 12; i++) {
+            list.addToBack(i + "a");
+        }
+        list.removeFromFront();
+        list.addToBack("12a"); // Wraps around the end of the backing array
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(bytes), ElementCodec.UTF_8);
+        ArrayList<String> copy = ArrayList.readFrom(
+            Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), ElementCodec.UTF_8);
+        assertEquals(12, copy.size());
+        Object[] backingArray = copy.getBackingArray();
+        assertEquals(12, backingArray.length);
+        for (int i = 0; i < 12; i++) {
+            assertEquals(list.get(i), copy.get(i));
+        }
+
+        Path file = folder.newFile().toPath();
+        Files.write(file, bytes.toByteArray());
+        copy = ArrayList.readFrom(file, ElementCodec.UTF_8);
+        assertEquals(12, copy.size());
+        assertEquals("12a", copy.get(11));
+    }
+
+    @Test(timeout = TIMEOUT, expected = IOException.class)
+    public void testSnapshotTruncated() throws IOException {
+        list.addToBack("0a");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(bytes), ElementCodec.UTF_8);
+        byte[] truncated = java.util.Arrays.copyOf(bytes.toByteArray(), bytes.size() - 1);
+        ArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(truncated)), ElementCodec.UTF_8);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSnapshotLarge() throws IOException {
+        // More elements than are allocated for up front, and one longer than the read buffer
+        for (int i = 0; i < 20000; i++) {
+            list.addToBack(i + "a");
+        }
+        char[] chars = new char[100000];
+        java.util.Arrays.fill(chars, 'b');
+        list.addToBack(new String(chars));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(bytes), ElementCodec.UTF_8);
+        Path file = folder.newFile().toPath();
+        Files.write(file, bytes.toByteArray());
+        ArrayList<String> streamed = ArrayList.readFrom(
+            Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), ElementCodec.UTF_8);
+        ArrayList<String> mapped = ArrayList.readFrom(file, ElementCodec.UTF_8);
+        assertArrayEquals(list.stream().toArray(), streamed.stream().toArray());
+        assertArrayEquals(list.stream().toArray(), mapped.stream().toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSnapshotCorrupt() throws IOException {
+        list.addToBack("0a");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(bytes), ElementCodec.UTF_8);
+
+        // A huge element count or length must fail with an IOException, not allocate
+        byte[] count = bytes.toByteArray();
+        ByteBuffer.wrap(count).putInt(4, Integer.MAX_VALUE);
+        byte[] length = bytes.toByteArray();
+        ByteBuffer.wrap(length).putInt(8, Integer.MAX_VALUE);
+        Path file = folder.newFile().toPath();
+        for (byte[] corrupt : new byte[][] {count, length}) {
+            Files.write(file, corrupt);
+            assertReadFails(() -> ArrayList.readFrom(file, ElementCodec.UTF_8));
+            assertReadFails(() -> ArrayList.readFrom(
+                Channels.newChannel(new ByteArrayInputStream(corrupt)), ElementCodec.UTF_8));
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalStateException.class)
+    public void testEnsureCapacityTooLarge() {
+        list.ensureCapacity(GrowthPolicy.MAX_ARRAY_LENGTH + 1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCapacityAndTrim() {
+        list = new ArrayList<>(4);
+        list.addToBack("1a");
+        list.addToBack("2a");
+        list.addToFront("0a");      // 0a, 1a, 2a, wrapped around the end
+        assertArrayEquals(new Object[] {"1a", "2a", null, "0a"}, list.getBackingArray());
+
+        // Growing unwraps the list to index 0
+        list.ensureCapacity(6);
+        assertArrayEquals(new Object[] {"0a", "1a", "2a", null, null, null, null, null},
+                list.getBackingArray());
+        list.ensureCapacity(3);
+        assertEquals(8, capacity());
+
+        list.trimToSize();
+        assertArrayEquals(new Object[] {"0a", "1a", "2a"}, list.getBackingArray());
+        list.addAtIndex(1, "0b");   // 0a, 0b, 1a, 2a
+        assertArrayEquals(new Object[] {"0a", "0b", "1a", "2a", null, null},
+                list.getBackingArray());
+
+        list.clear();
+        assertArrayEquals(new Object[4], list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGrowthPolicies() {
+        list = new ArrayList<>(4, GrowthPolicy.ONE_AND_A_HALF, false);
+        for (int i = 0; i < 5; i++) {
+            list.addToFront(i + "a");
+        }
+        assertEquals(6, capacity());
+        assertEquals("4a", list.get(0));
+        assertEquals("0a", list.get(4));
+
+        list = new ArrayList<>(4, GrowthPolicy.chunked(100), false);
+        for (int i = 0; i < 5; i++) {
+            list.addToBack(i + "a");
+        }
+        assertEquals(104, capacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAutoShrink() {
+        list = new ArrayList<>(4, GrowthPolicy.DOUBLING, true);
+        for (int i = 0; i < 64; i++) {
+            list.addToBack(i + "a");
+        }
+        assertEquals(64, capacity());
+
+        // Shrinks only once below a quarter full, and then only by half
+        for (int i = 0; i < 48; i++) {
+            list.removeFromFront();
+        }
+        assertEquals(64, capacity());
+        list.removeFromBack();
+        assertEquals(32, capacity());
+        assertEquals("48a", list.get(0));
+        assertEquals("62a", list.get(14));
+
+        // Never below the initial capacity
+        while (list.size() > 0) {
+            list.removeAtIndex(list.size() / 2);
+        }
+        assertEquals(4, capacity());
+    }
+
+    /**
+     * Returns the length of the backing array, which is an Object[] at runtime.
+     *
+     * @return the capacity of list
+     */
+    private int capacity() {
+        Object[] backingArray = list.getBackingArray();
+        return backingArray.length;
+    }
+
+    /**
+     * A read of a snapshot.
+     */
+    private interface Read {
+
+        /**
+         * Reads the snapshot.
+         *
+         * @throws IOException if the snapshot is not valid
+         */
+        void run() throws IOException;
+    }
+
+    /**
+     * Asserts that a read of a snapshot throws an IOException.
+     *
+     * @param read the read
+     */
+    private static void assertReadFails(Read read) {
+        boolean thrown = false;
+        try {
+            read.run();
+        } catch (IOException e) {
+            thrown = true;
+        }
+        assertTrue(thrown);
+    }
+}
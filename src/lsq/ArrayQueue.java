@@ -0,0 +1,221 @@
+package lsq;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Implementation of an array-backed queue with an optional capacity bound.
+ *
+ * The queue is stored in a circular array whose length is always a power
+ * of two, so indices wrap with a bit mask instead of a division. Unlike
+ * LinkedQueue, enqueue does not allocate a node per element.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public class ArrayQueue<T> {
+
+    /**
+     * The initial capacity of the ArrayQueue. Must be a power of two.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    private static final int MAX_ARRAY_LENGTH = 1 << 30;
+
+    private T[] backingArray;
+    private int mask;
+    private int head;
+    private int size;
+    private final int bound;
+
+    /**
+     * Constructs a new, unbounded ArrayQueue.
+     *
+     * Java does not allow for regular generic array creation, so we will have
+     * to cast an Object[] to a T[] to get the generic typing.
+     */
+    public ArrayQueue() {
+        this(MAX_ARRAY_LENGTH);
+    }
+
+    /**
+     * Constructs a new ArrayQueue that holds at most bound elements.
+     *
+     * The backing array grows as needed until it can hold bound elements.
+     *
+     * @param bound the maximum number of elements in the queue
+     * @throws java.lang.IllegalArgumentException if bound < 1 or bound > 2^30
+     */
+    public ArrayQueue(int bound) {
+        if (bound < 1 || bound > MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException("The bound must be between 1 and "
+                    + MAX_ARRAY_LENGTH + ", but was " + bound + ".");
+        }
+        this.bound = bound;
+        backingArray = (T[]) new Object[Math.min(INITIAL_CAPACITY, nextPowerOfTwo(bound))];
+        mask = backingArray.length - 1;
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds the data to the back of the queue.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the back of the queue
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.IllegalStateException    if the queue is full
+     */
+    public void enqueue(T data) {
+        if (!offer(data)) {
+            throw new IllegalStateException("The queue is full, it holds " + bound + " elements.");
+        }
+    }
+
+    /**
+     * Adds the data to the back of the queue unless the queue is full.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the back of the queue
+     * @return true if the data was added, false if the queue is full
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        if (size == bound) {
+            return false;
+        } else if (size == backingArray.length) {
+            grow();
+        }
+
+        //Enqueue
+        backingArray[(head + size) & mask] = data;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T dequeue() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The queue is already empty");
+        }
+
+        return poll();
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue, or returns
+     * null if the queue is empty.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the queue, or null
+     */
+    public T poll() {
+        if (size == 0) {
+            return null;
+        }
+
+        //Dequeue
+        final T removedData = backingArray[head];
+        backingArray[head] = null;
+        head = (head + 1) & mask;
+        size--;
+        return removedData;
+    }
+
+    /**
+     * Returns the data from the front of the queue without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the data located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T peek() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The queue is already empty");
+        }
+
+        //Peeking
+        return backingArray[head];
+    }
+
+    /**
+     * Returns whether or not the queue is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the maximum number of elements the queue can hold.
+     *
+     * @return the bound of the queue
+     */
+    public int bound() {
+        return bound;
+    }
+
+    /**
+     * Makes a new Array of double capacity and copies over the data so the
+     * queue starts at index 0 again.
+     */
+    private void grow() {
+        T[] newArray = (T[]) new Object[2 * backingArray.length];
+        int firstRun = backingArray.length - head;
+        System.arraycopy(backingArray, head, newArray, 0, firstRun);
+        System.arraycopy(backingArray, 0, newArray, firstRun, head);
+        backingArray = newArray;
+        mask = newArray.length - 1;
+        head = 0;
+    }
+
+    /**
+     * Returns the smallest power of two that is at least value.
+     *
+     * @param value a value between 1 and 2^30
+     * @return the power of two
+     */
+    private static int nextPowerOfTwo(int value) {
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * Returns the backing array of the queue.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the backing array of the queue
+     */
+    public T[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the size of the queue.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        return size;
+    }
+}
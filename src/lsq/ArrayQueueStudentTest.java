@@ -0,0 +1,114 @@
+package lsq;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for ArrayQueue.
+ */
+public class ArrayQueueStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private ArrayQueue<String> queue;
+
+    @Before
+    public void setup() {
+        queue = new ArrayQueue<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, queue.size());
+        assertArrayEquals(new Object[ArrayQueue.INITIAL_CAPACITY],
+                queue.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEnqueueDequeue() {
+        String temp = "0a";
+
+        queue.enqueue(temp);    // 0a
+        queue.enqueue("1a");    // 0a, 1a
+        queue.enqueue("2a");    // 0a, 1a, 2a
+        assertEquals(3, queue.size());
+
+        assertSame(temp, queue.peek());
+        assertSame(temp, queue.dequeue());  // 1a, 2a
+        assertEquals(2, queue.size());
+
+        Object[] expected = new Object[ArrayQueue.INITIAL_CAPACITY];
+        expected[1] = "1a";
+        expected[2] = "2a";
+        assertArrayEquals(expected, queue.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testWrapAroundAndResize() {
+        for (int i = 0; i < 10; i++) {
+            queue.enqueue(i + "a");
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i + "a", queue.dequeue());
+        }
+
+        // Wraps around the end of the array, then grows
+        for (int i = 0; i < ArrayQueue.INITIAL_CAPACITY + 1; i++) {
+            queue.enqueue(i + "b");
+        }
+        assertEquals(ArrayQueue.INITIAL_CAPACITY * 2, capacity());
+        for (int i = 0; i < ArrayQueue.INITIAL_CAPACITY + 1; i++) {
+            assertEquals(i + "b", queue.dequeue());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBounded() {
+        queue = new ArrayQueue<>(3);
+        assertTrue(queue.offer("0a"));
+        assertTrue(queue.offer("1a"));
+        assertTrue(queue.offer("2a"));
+        assertFalse(queue.offer("3a"));
+        assertEquals(3, queue.size());
+
+        assertEquals("0a", queue.poll());
+        assertTrue(queue.offer("3a"));
+        assertEquals(4, capacity());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalStateException.class)
+    public void testEnqueueFull() {
+        queue = new ArrayQueue<>(1);
+        queue.enqueue("0a");
+        queue.enqueue("1a");
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPollEmpty() {
+        assertNull(queue.poll());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testDequeueEmpty() {
+        queue.dequeue();
+    }
+
+    /**
+     * Returns the length of the backing array of the queue.
+     *
+     * @return the capacity of the queue
+     */
+    private int capacity() {
+        Object[] array = queue.getBackingArray();
+        return array.length;
+    }
+}
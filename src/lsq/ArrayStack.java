@@ -0,0 +1,347 @@
+package lsq;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementation of an ArrayStack.
+ *
+ * Iterates and streams from the bottom of the stack to the top. The stack
+ * must not be modified while it is being iterated.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ * 
+ */
+public class ArrayStack<T> implements Iterable<T> {
+
+    /*
+     * The initial capacity of the ArrayStack.
+     *
+     */
+    public static final int INITIAL_CAPACITY = 9;
+    private T[] backingArray;
+    private int size;
+    private final int initialCapacity;
+    private final GrowthPolicy growthPolicy;
+    private final boolean autoShrink;
+
+    /**
+     * Constructs a new ArrayStack.
+     */
+    public ArrayStack() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new ArrayStack that doubles its backing array when full
+     * and never shrinks it on its own.
+     *
+     * @param initialCapacity the initial length of the backing array
+     * @throws java.lang.IllegalArgumentException if initialCapacity < 0
+     */
+    public ArrayStack(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DOUBLING, false);
+    }
+
+    /**
+     * Constructs a new ArrayStack.
+     *
+     * With autoShrink, a pop that leaves the stack less than a quarter full
+     * halves the backing array, but never below initialCapacity, so memory
+     * taken by a burst of pushes is given back afterwards.
+     *
+     * @param initialCapacity the initial length of the backing array
+     * @param growthPolicy    decides the new length of a full backing array
+     * @param autoShrink      whether pops shrink a sparse backing array
+     * @throws java.lang.IllegalArgumentException if initialCapacity < 0 or
+     *                                            growthPolicy is null
+     */
+    public ArrayStack(int initialCapacity, GrowthPolicy growthPolicy, boolean autoShrink) {
+        //The Exception
+        if (initialCapacity < 0 || initialCapacity > GrowthPolicy.MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException("The initial capacity should be between 0 and "
+                    + GrowthPolicy.MAX_ARRAY_LENGTH + ", but was " + initialCapacity + ".");
+        } else if (growthPolicy == null) {
+            throw new IllegalArgumentException("The growth policy entered was null");
+        }
+        this.initialCapacity = initialCapacity;
+        this.growthPolicy = growthPolicy;
+        this.autoShrink = autoShrink;
+        backingArray = (T[]) new Object[initialCapacity];
+        size = 0;
+    }
+
+    /**
+     * Adds the data to the top of the stack.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the top of the stack
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void push(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.ARRAY_STACK.add();
+        }
+
+        //Expanding the ArrayStack
+        if (size + 1 > backingArray.length) {
+            resize(growthPolicy.grow(backingArray.length, size + 1));
+        }
+
+        // Pushing the data
+        backingArray[size] = data;
+        size++;
+    }
+
+    /**
+     * Adds all of the data to the top of the stack, in array order, so the
+     * last element ends up on top.
+     *
+     * The backing array is grown at most once for the whole batch.
+     *
+     * Must be amortized O(k) for k elements.
+     *
+     * @param data the data to add to the top of the stack
+     * @throws java.lang.IllegalArgumentException if data or any element is null
+     * @throws java.lang.IllegalStateException    if the stack would hold more
+     *                                            than GrowthPolicy.MAX_ARRAY_LENGTH
+     *                                            elements
+     */
+    public void pushAll(T[] data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+        for (T element : data) {
+            if (element == null) {
+                throw new IllegalArgumentException("The data entered contained null");
+            }
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.ARRAY_STACK.add();
+        }
+
+        if (data.length > GrowthPolicy.MAX_ARRAY_LENGTH - size) {
+            throw new IllegalStateException("The array cannot hold " + ((long) size + data.length)
+                + " elements.");
+        }
+
+        //Expanding the ArrayStack once, to the first growth step that fits
+        if (size + data.length > backingArray.length) {
+            resize(growthPolicy.grow(backingArray.length, size + data.length));
+        }
+
+        // Pushing the data
+        System.arraycopy(data, 0, backingArray, size, data.length);
+        size += data.length;
+    }
+
+    /**
+     * Removes and returns the data from the top of the stack.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the top of the stack
+     * @throws java.util.NoSuchElementException if the stack is empty
+     */
+    public T pop() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The ArrayStack is already empty");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.ARRAY_STACK.remove();
+        }
+
+        //Popping
+        final T removedData = backingArray[size - 1];
+        backingArray[size - 1] = null;
+        size--;
+        shrinkIfSparse();
+        return removedData;
+    }
+
+    /**
+     * Removes up to out.length elements from the top of the stack into out,
+     * so out[0] holds the former top.
+     *
+     * Must be O(k) for k elements removed.
+     *
+     * @param out the array to fill with the removed data
+     * @return the number of elements removed
+     * @throws java.lang.IllegalArgumentException if out is null
+     */
+    public int popN(T[] out) {
+        //The Exception
+        if (out == null) {
+            throw new IllegalArgumentException("The array entered was null");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.ARRAY_STACK.remove();
+        }
+
+        //Popping, the top of the stack is the end of the backing array
+        int count = Math.min(out.length, size);
+        for (int i = 0; i < count; i++) {
+            out[i] = backingArray[size - 1 - i];
+        }
+        Arrays.fill(backingArray, size - count, size, null);
+        size -= count;
+        shrinkIfSparse();
+        return count;
+    }
+
+    /**
+     * Grows the backing array, if needed, so it holds at least minCapacity
+     * elements. Call it before a bulk load to allocate once instead of
+     * growing over and over.
+     *
+     * Must be O(n) when it grows and O(1) otherwise.
+     *
+     * @param minCapacity the number of elements the stack should hold
+     * @throws java.lang.IllegalStateException if minCapacity is larger than
+     *                                         GrowthPolicy.MAX_ARRAY_LENGTH
+     */
+    public void ensureCapacity(int minCapacity) {
+        //The Exception
+        if (minCapacity > GrowthPolicy.MAX_ARRAY_LENGTH) {
+            throw new IllegalStateException("The array cannot hold " + minCapacity + " elements.");
+        }
+
+        if (minCapacity > backingArray.length) {
+            // At least one regular step, so a run of small calls stays amortized
+            int step = growthPolicy.grow(backingArray.length, backingArray.length + 1);
+            resize(Math.max(minCapacity, step));
+        }
+    }
+
+    /**
+     * Shrinks the backing array to exactly the size of the stack.
+     *
+     * Must be O(n).
+     */
+    public void trimToSize() {
+        if (backingArray.length > size) {
+            resize(size);
+        }
+    }
+
+    /**
+     * Halves the backing array when autoShrink is on and the stack has
+     * dropped below a quarter of it, but never below the initial capacity.
+     * Halves as many times as needed, since popN can remove a lot at once.
+     */
+    private void shrinkIfSparse() {
+        int length = backingArray.length;
+        while (autoShrink && size < length / 4 && length > initialCapacity) {
+            length = Math.max(initialCapacity, length / 2);
+        }
+        if (length < backingArray.length) {
+            resize(length);
+        }
+    }
+
+    /**
+     * Makes a new Array of the given capacity and copies over the data.
+     *
+     * @param capacity the length of the new array, at least size
+     */
+    private void resize(int capacity) {
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.ARRAY_STACK.resize(backingArray.length, capacity, size);
+        }
+        backingArray = Arrays.copyOf(backingArray, capacity);
+    }
+
+    /**
+     * Returns the data from the top of the stack without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the data from the top of the stack
+     * @throws java.util.NoSuchElementException if the stack is empty
+     */
+    public T peek() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The ArrayStack is empty, no data can be retrieved");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.ARRAY_STACK.read();
+        }
+
+        // Peeking
+        return backingArray[size - 1];
+    }
+
+    /**
+     * Returns an iterator over the stack, from the bottom to the top.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a spliterator over the stack, from the bottom to the top.
+     *
+     * Splits the range of the backing array exactly in half, so it is
+     * SIZED and SUBSIZED.
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(backingArray, 0, size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential stream over the stack, from the bottom to the
+     * top. Call parallel on it to process it on several threads.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns the backing array of the stack.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the backing array of the stack
+     */
+    public T[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the size of the stack.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the size of the stack
+     */
+    public int size() {
+        return size;
+    }
+}
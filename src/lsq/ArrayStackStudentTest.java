@@ -0,0 +1,225 @@
+package lsq;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for ArrayStack.
+ */
+public class ArrayStackStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private ArrayStack<String> array;
+
+    @Before
+    public void setup() {
+        array = new ArrayStack<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, array.size());
+        assertArrayEquals(new Object[ArrayStack.INITIAL_CAPACITY],
+            array.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testArrayPush() {
+        array.push("0a");  // 0a
+        array.push("1a");  // 0a, 1a
+        array.push("2a");  // 0a, 1a, 2a
+        array.push("3a");  // 0a, 1a, 2a, 3a
+        array.push("4a");  // 0a, 1a, 2a, 3a, 4a
+
+        assertEquals(5, array.size());
+
+        Object[] expected = new Object[ArrayStack.INITIAL_CAPACITY];
+        expected[0] = "0a";
+        expected[1] = "1a";
+        expected[2] = "2a";
+        expected[3] = "3a";
+        expected[4] = "4a";
+        assertArrayEquals(expected, array.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testArrayPop() {
+        String temp = "5a";
+
+        array.push("0a");  // 0a
+        array.push("1a");  // 0a, 1a
+        array.push("2a");  // 0a, 1a, 2a
+        array.push("3a");  // 0a, 1a, 2a, 3a
+        array.push("4a");  // 0a, 1a, 2a, 3a, 4a
+        array.push(temp);  // 0a, 1a, 2a, 3a, 4a, 5a
+        assertEquals(6, array.size());
+
+        assertSame(temp, array.pop()); // 0a, 1a, 2a, 3a, 4a
+
+        assertEquals(5, array.size());
+
+        Object[] expected = new Object[ArrayStack.INITIAL_CAPACITY];
+        expected[0] = "0a";
+        expected[1] = "1a";
+        expected[2] = "2a";
+        expected[3] = "3a";
+        expected[4] = "4a";
+        assertArrayEquals(expected, array.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testArrayStackResize() {
+        Object[] expected = {"0a", "1a", "2a", "3a", "4a", "5a", "6a", "7a", "8a", "9a", "10a", null, null, null, null, null, null, null};
+        array.push("0a");
+        array.push("1a");
+        array.push("2a");
+        array.push("3a");
+        array.push("4a");
+        array.push("5a");
+        array.push("6a");
+        array.push("7a");
+        array.push("8a");
+        array.push("9a");
+        array.push("10a");
+        assertArrayEquals(expected, array.getBackingArray());
+    }
+    @Test(timeout = TIMEOUT)
+    public void testArrayPeek() {
+        String temp = "4a";
+
+        array.push("0a");  // 0a
+        array.push("1a");  // 0a, 1a
+        array.push("2a");  // 0a, 1a, 2a
+        array.push("3a");  // 0a, 1a, 2a, 3a
+        array.push(temp);  // 0a, 1a, 2a, 3a, 4a
+        assertEquals(5, array.size());
+
+        assertSame(temp, array.peek());
+    }
+
+
+    @Test(timeout = TIMEOUT)
+    public void testPushAllPopN() {
+        array.push("0a");                                               // 0a
+        array.pushAll(new String[] {"1a", "2a", "3a", "4a", "5a", "6a",
+            "7a", "8a", "9a", "10a"});                                  // 0a, ..., 10a
+        assertEquals(11, array.size());
+
+        // Grown once, straight to the first doubling that fits
+        Object[] expected = {"0a", "1a", "2a", "3a", "4a", "5a", "6a", "7a", "8a", "9a", "10a", null, null, null, null, null, null, null};
+        assertArrayEquals(expected, array.getBackingArray());
+
+        String[] out = new String[3];
+        assertEquals(3, array.popN(out));       // 0a, ..., 7a
+        assertArrayEquals(new String[] {"10a", "9a", "8a"}, out);
+        assertEquals(8, array.size());
+        assertSame("7a", array.peek());
+
+        out = new String[20];
+        assertEquals(8, array.popN(out));
+        assertEquals("0a", out[7]);
+        assertEquals(0, array.size());
+        assertArrayEquals(new Object[18], array.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIterationAndStream() {
+        for (int i = 0; i < 5; i++) {
+            array.push(i + "a");
+        }
+
+        Object[] expected = {"0a", "1a", "2a", "3a", "4a"};
+        java.util.List<String> iterated = new java.util.ArrayList<>();
+        for (String data : array) {
+            iterated.add(data);
+        }
+        assertArrayEquals(expected, iterated.toArray());
+        assertArrayEquals(expected, array.stream().parallel().toArray());
+        assertEquals(5, array.spliterator().getExactSizeIfKnown());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalStateException.class)
+    public void testEnsureCapacityTooLarge() {
+        array.ensureCapacity(GrowthPolicy.MAX_ARRAY_LENGTH + 1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCapacityAndTrim() {
+        array = new ArrayStack<>(2);
+        assertEquals(2, capacity());
+        array.ensureCapacity(100);
+        assertEquals(100, capacity());
+        array.ensureCapacity(50);
+        assertEquals(100, capacity());
+
+        array.push("0a");
+        array.push("1a");
+        array.push("2a");
+        array.trimToSize();
+        assertArrayEquals(new Object[] {"0a", "1a", "2a"}, array.getBackingArray());
+        array.push("3a");                               // 0a, 1a, 2a, 3a
+        assertEquals(6, capacity());
+        assertSame("3a", array.peek());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGrowthPolicies() {
+        array = new ArrayStack<>(4, GrowthPolicy.ONE_AND_A_HALF, false);
+        for (int i = 0; i < 5; i++) {
+            array.push(i + "a");
+        }
+        assertEquals(6, capacity());
+
+        array = new ArrayStack<>(4, GrowthPolicy.chunked(100), false);
+        for (int i = 0; i < 5; i++) {
+            array.push(i + "a");
+        }
+        assertEquals(104, capacity());
+        String[] batch = new String[100];
+        Arrays.fill(batch, "5a");
+        array.pushAll(batch);
+        assertEquals(204, capacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAutoShrink() {
+        array = new ArrayStack<>(4, GrowthPolicy.DOUBLING, true);
+        for (int i = 0; i < 64; i++) {
+            array.push(i + "a");
+        }
+        assertEquals(64, capacity());
+
+        // Shrinks only once below a quarter full, and then only by half
+        while (array.size() > 16) {
+            array.pop();
+        }
+        assertEquals(64, capacity());
+        array.pop();
+        assertEquals(32, capacity());
+        assertEquals("14a", array.peek());
+
+        // Never below the initial capacity
+        String[] out = new String[15];
+        assertEquals(15, array.popN(out));
+        assertEquals(4, capacity());
+        assertEquals(0, array.size());
+    }
+
+    /**
+     * Returns the length of the backing array, which is an Object[] at runtime.
+     *
+     * @return the capacity of array
+     */
+    private int capacity() {
+        Object[] backingArray = array.getBackingArray();
+        return backingArray.length;
+    }
+}
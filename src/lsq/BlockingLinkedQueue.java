@@ -0,0 +1,399 @@
+package lsq;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of a thread-safe LinkedQueue whose consumers can wait for
+ * elements and whose producers can wait for space, with an optional
+ * capacity bound.
+ *
+ * Uses two locks: producers take the tail lock and consumers take the head
+ * lock, so a producer and a consumer contend only on the signal handoff,
+ * when one briefly takes the other's lock to wake a waiter.
+ * head always points to a dummy node whose next node holds the front of the
+ * queue, so the two ends never share a node. The element count is atomic
+ * and is the only state both sides write; it also publishes each linked
+ * node to the consumers. The locks are ReentrantLocks rather than
+ * synchronized blocks, so a waiting virtual thread does not pin its
+ * carrier thread.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public class BlockingLinkedQueue<T> {
+
+    private final int capacity;
+    private final AtomicInteger count = new AtomicInteger();
+
+    private LinkedNode<T> head;
+    private LinkedNode<T> tail;
+
+    private final ReentrantLock headLock = new ReentrantLock();
+    private final Condition notEmpty = headLock.newCondition();
+    private final ReentrantLock tailLock = new ReentrantLock();
+    private final Condition notFull = tailLock.newCondition();
+
+    /**
+     * Constructs a new, unbounded BlockingLinkedQueue.
+     */
+    public BlockingLinkedQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a new BlockingLinkedQueue that holds at most capacity
+     * elements.
+     *
+     * @param capacity the maximum number of elements in the queue
+     * @throws java.lang.IllegalArgumentException if capacity < 1
+     */
+    public BlockingLinkedQueue(int capacity) {
+        //The Exception
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity should be >= 1, but was " + capacity + ".");
+        }
+        this.capacity = capacity;
+        head = new LinkedNode<>(null);
+        tail = head;
+    }
+
+    /**
+     * Adds the data to the back of the queue, waiting for space if the
+     * queue is full.
+     *
+     * Must be O(1) when uncontended.
+     *
+     * @param data the data to add to the back of the queue
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.InterruptedException     if interrupted while waiting
+     */
+    public void put(T data) throws InterruptedException {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        int oldCount;
+        tailLock.lockInterruptibly();
+        try {
+            while (count.get() == capacity) {
+                notFull.await();
+            }
+            oldCount = link(data);
+        } finally {
+            tailLock.unlock();
+        }
+        if (oldCount == 0) {
+            signalNotEmpty();
+        }
+    }
+
+    /**
+     * Adds the data to the back of the queue unless the queue is full.
+     *
+     * Must be O(1) when uncontended.
+     *
+     * @param data the data to add to the back of the queue
+     * @return true if the data was added, false if the queue is full
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        if (count.get() == capacity) {
+            return false;
+        }
+        int oldCount;
+        tailLock.lock();
+        try {
+            if (count.get() == capacity) {
+                return false;
+            }
+            oldCount = link(data);
+        } finally {
+            tailLock.unlock();
+        }
+        if (oldCount == 0) {
+            signalNotEmpty();
+        }
+        return true;
+    }
+
+    /**
+     * Adds the data to the back of the queue, waiting up to the timeout for
+     * space if the queue is full.
+     *
+     * Must be O(1) when uncontended.
+     *
+     * @param data    the data to add to the back of the queue
+     * @param timeout how long to wait, in units of unit
+     * @param unit    the unit of the timeout
+     * @return true if the data was added, false if the timeout ran out
+     * @throws java.lang.IllegalArgumentException if data or unit is null
+     * @throws java.lang.InterruptedException     if interrupted while waiting
+     */
+    public boolean offer(T data, long timeout, TimeUnit unit) throws InterruptedException {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        } else if (unit == null) {
+            throw new IllegalArgumentException("The unit entered was null");
+        }
+
+        long nanos = unit.toNanos(timeout);
+        int oldCount;
+        tailLock.lockInterruptibly();
+        try {
+            while (count.get() == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            oldCount = link(data);
+        } finally {
+            tailLock.unlock();
+        }
+        if (oldCount == 0) {
+            signalNotEmpty();
+        }
+        return true;
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue, waiting for
+     * an element if the queue is empty.
+     *
+     * Must be O(1) when uncontended.
+     *
+     * @return the data formerly located at the front of the queue
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public T take() throws InterruptedException {
+        T removedData;
+        int oldCount;
+        headLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                notEmpty.await();
+            }
+            removedData = unlink();
+            oldCount = count.getAndDecrement();
+            if (oldCount > 1) {
+                // Wakes the next consumer without waiting for a producer
+                notEmpty.signal();
+            }
+        } finally {
+            headLock.unlock();
+        }
+        if (oldCount == capacity) {
+            signalNotFull();
+        }
+        return removedData;
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue, or returns
+     * null if the queue is empty.
+     *
+     * Must be O(1) when uncontended.
+     *
+     * @return the data formerly located at the front of the queue, or null
+     */
+    public T poll() {
+        if (count.get() == 0) {
+            return null;
+        }
+        T removedData;
+        int oldCount;
+        headLock.lock();
+        try {
+            if (count.get() == 0) {
+                return null;
+            }
+            removedData = unlink();
+            oldCount = count.getAndDecrement();
+            if (oldCount > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            headLock.unlock();
+        }
+        if (oldCount == capacity) {
+            signalNotFull();
+        }
+        return removedData;
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue, waiting up
+     * to the timeout for an element if the queue is empty.
+     *
+     * Must be O(1) when uncontended.
+     *
+     * @param timeout how long to wait, in units of unit
+     * @param unit    the unit of the timeout
+     * @return the data formerly located at the front of the queue, or null
+     *         if the timeout ran out
+     * @throws java.lang.IllegalArgumentException if unit is null
+     * @throws java.lang.InterruptedException     if interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        //The Exception
+        if (unit == null) {
+            throw new IllegalArgumentException("The unit entered was null");
+        }
+
+        long nanos = unit.toNanos(timeout);
+        T removedData;
+        int oldCount;
+        headLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            removedData = unlink();
+            oldCount = count.getAndDecrement();
+            if (oldCount > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            headLock.unlock();
+        }
+        if (oldCount == capacity) {
+            signalNotFull();
+        }
+        return removedData;
+    }
+
+    /**
+     * Returns the data from the front of the queue without removing it.
+     *
+     * Must be O(1) when uncontended.
+     *
+     * @return the data located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T peek() {
+        headLock.lock();
+        try {
+            //The Exception
+            if (count.get() == 0) {
+                throw new NoSuchElementException("The queue is already empty");
+            }
+
+            //Peeking
+            return head.getNext().getData();
+        } finally {
+            headLock.unlock();
+        }
+    }
+
+    /**
+     * Returns whether or not the queue is empty at the moment of the call.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return count.get() == 0;
+    }
+
+    /**
+     * Returns the number of elements that can be added before the queue is
+     * full, at the moment of the call.
+     *
+     * @return the remaining capacity of the queue
+     */
+    public int remainingCapacity() {
+        return capacity - count.get();
+    }
+
+    /**
+     * Returns the maximum number of elements the queue can hold.
+     *
+     * @return the capacity of the queue
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the size of the queue at the moment of the call.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        return count.get();
+    }
+
+    /**
+     * Links a new node to the tail. The tail lock must be held and the
+     * queue must not be full.
+     *
+     * @param data the data to add
+     * @return the count before the node was added
+     */
+    private int link(T data) {
+        LinkedNode<T> newNode = new LinkedNode<>(data);
+        tail.setNext(newNode);
+        tail = newNode;
+        // Publishes the new node to the consumers, and wakes the next producer
+        int oldCount = count.getAndIncrement();
+        if (oldCount + 1 < capacity) {
+            notFull.signal();
+        }
+        return oldCount;
+    }
+
+    /**
+     * Unlinks the front node, which becomes the new dummy node. The head
+     * lock must be held and the queue must not be empty.
+     *
+     * @return the data of the front node
+     */
+    private T unlink() {
+        LinkedNode<T> first = head.getNext();
+        final T removedData = first.getData();
+        first.setData(null);
+        // Drops the old dummy node's link so it is not kept alive by the queue
+        head.setNext(head);
+        head = first;
+        return removedData;
+    }
+
+    /**
+     * Wakes a waiting consumer. Called by producers that added to an empty
+     * queue.
+     */
+    private void signalNotEmpty() {
+        headLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            headLock.unlock();
+        }
+    }
+
+    /**
+     * Wakes a waiting producer. Called by consumers that removed from a full
+     * queue.
+     */
+    private void signalNotFull() {
+        tailLock.lock();
+        try {
+            notFull.signal();
+        } finally {
+            tailLock.unlock();
+        }
+    }
+}
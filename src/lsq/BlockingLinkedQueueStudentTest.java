@@ -0,0 +1,164 @@
+package lsq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for BlockingLinkedQueue.
+ */
+public class BlockingLinkedQueueStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int CONCURRENT_TIMEOUT = 5000;
+    private BlockingLinkedQueue<String> queue;
+
+    @Before
+    public void setup() {
+        queue = new BlockingLinkedQueue<>(3);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, queue.size());
+        assertTrue(queue.isEmpty());
+        assertEquals(3, queue.capacity());
+        assertEquals(3, queue.remainingCapacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPutTake() throws InterruptedException {
+        String temp = "0a";
+
+        queue.put(temp);            // 0a
+        queue.put("1a");            // 0a, 1a
+        assertTrue(queue.offer("2a"));  // 0a, 1a, 2a
+        assertFalse(queue.offer("3a"));
+        assertEquals(3, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+
+        assertSame(temp, queue.peek());
+        assertSame(temp, queue.take()); // 1a, 2a
+        assertEquals("1a", queue.poll()); // 2a
+        assertEquals("2a", queue.take());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTimedOfferPoll() throws InterruptedException {
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(queue.offer(i + "a", 10, TimeUnit.MILLISECONDS));
+        }
+        assertFalse(queue.offer("3a", 10, TimeUnit.MILLISECONDS));
+        assertEquals("0a", queue.poll(10, TimeUnit.MILLISECONDS));
+        assertTrue(queue.offer("3a", 0, TimeUnit.MILLISECONDS));
+        assertEquals(3, queue.size());
+    }
+
+    @Test(timeout = TIMEOUT * 5)
+    public void testTakeWaitsForPut() throws InterruptedException {
+        String[] taken = new String[1];
+        Thread consumer = new Thread(() -> {
+            try {
+                taken[0] = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        Thread.sleep(20);
+        queue.put("0a");
+        consumer.join();
+        assertEquals("0a", taken[0]);
+    }
+
+    @Test(timeout = TIMEOUT * 5)
+    public void testPutWaitsForTake() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            queue.put(i + "a");
+        }
+        Thread producer = new Thread(() -> {
+            try {
+                queue.put("3a");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        Thread.sleep(20);
+        assertEquals(3, queue.size());
+        assertEquals("0a", queue.take());
+        producer.join();
+        assertEquals(3, queue.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = InterruptedException.class)
+    public void testTakeInterrupted() throws InterruptedException {
+        Thread.currentThread().interrupt();
+        queue.take();
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testPeekEmpty() {
+        queue.peek();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testPutNull() throws InterruptedException {
+        queue.put(null);
+    }
+
+    @Test(timeout = CONCURRENT_TIMEOUT)
+    public void testConcurrentProducersAndConsumers() throws InterruptedException {
+        final int threads = 4;
+        final int perThread = 10_000;
+        BlockingLinkedQueue<Integer> shared = new BlockingLinkedQueue<>(16);
+        AtomicIntegerArray seen = new AtomicIntegerArray(threads * perThread);
+
+        Thread[] workers = new Thread[threads * 2];
+        for (int t = 0; t < threads; t++) {
+            final int offset = t * perThread;
+            workers[t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < perThread; i++) {
+                        shared.put(offset + i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            workers[threads + t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < perThread; i++) {
+                        seen.incrementAndGet(shared.take());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // Every element was taken exactly once
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals(1, seen.get(i));
+        }
+        assertEquals(0, shared.size());
+    }
+}
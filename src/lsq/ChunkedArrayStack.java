@@ -0,0 +1,214 @@
+package lsq;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Implementation of an ArrayStack stored in fixed-size chunks.
+ *
+ * The chunks are linked from the top of the stack down, so growing never
+ * copies the stack: a push onto a full chunk only allocates one new chunk.
+ * The chunk emptied by the latest pop is kept as a spare, so pushing and
+ * popping across a chunk boundary does not allocate over and over. Every
+ * chunk is small enough that it is never a humongous allocation in G1.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public class ChunkedArrayStack<T> {
+
+    /**
+     * The default number of elements per chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private final int chunkSize;
+    private Chunk<T> top;
+    private int topCount;
+    private Chunk<T> spare;
+    private int chunkCount;
+    private int size;
+
+    /**
+     * Constructs a new ChunkedArrayStack with the default chunk size.
+     */
+    public ChunkedArrayStack() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs a new ChunkedArrayStack.
+     *
+     * @param chunkSize the number of elements per chunk
+     * @throws java.lang.IllegalArgumentException if chunkSize < 1
+     */
+    public ChunkedArrayStack(int chunkSize) {
+        //The Exception
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size should be >= 1, but was " + chunkSize + ".");
+        }
+        this.chunkSize = chunkSize;
+        top = new Chunk<>(chunkSize, null);
+        topCount = 0;
+        chunkCount = 1;
+        size = 0;
+    }
+
+    /**
+     * Adds the data to the top of the stack.
+     *
+     * Must be O(1), also when the stack grows.
+     *
+     * @param data the data to add to the top of the stack
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void push(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        //Linking a new chunk, the spare one if there is one
+        if (topCount == chunkSize) {
+            Chunk<T> chunk = spare;
+            if (chunk == null) {
+                chunk = new Chunk<>(chunkSize, top);
+            } else {
+                chunk.below = top;
+                spare = null;
+            }
+            top = chunk;
+            topCount = 0;
+            chunkCount++;
+        }
+
+        // Pushing the data
+        top.elements[topCount] = data;
+        topCount++;
+        size++;
+    }
+
+    /**
+     * Removes and returns the data from the top of the stack.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the top of the stack
+     * @throws java.util.NoSuchElementException if the stack is empty
+     */
+    public T pop() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The ArrayStack is already empty");
+        }
+
+        //Popping
+        topCount--;
+        final T removedData = top.elements[topCount];
+        top.elements[topCount] = null;
+        size--;
+
+        // Unlinks the emptied chunk and keeps it as the spare
+        if (topCount == 0 && top.below != null) {
+            spare = top;
+            top = top.below;
+            spare.below = null;
+            topCount = chunkSize;
+            chunkCount--;
+        }
+        return removedData;
+    }
+
+    /**
+     * Returns the data from the top of the stack without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the data from the top of the stack
+     * @throws java.util.NoSuchElementException if the stack is empty
+     */
+    public T peek() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The ArrayStack is empty, no data can be retrieved");
+        }
+
+        // Peeking
+        return top.elements[topCount - 1];
+    }
+
+    /**
+     * Returns whether or not the stack is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the stack, keeping only one chunk.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        top = new Chunk<>(chunkSize, null);
+        topCount = 0;
+        spare = null;
+        chunkCount = 1;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of chunks holding the stack, not counting the
+     * spare.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the number of chunks
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Returns whether or not a spare chunk is cached.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return true if there is a spare chunk, false otherwise
+     */
+    public boolean hasSpareChunk() {
+        return spare != null;
+    }
+
+    /**
+     * Returns the size of the stack.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the size of the stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A fixed-size array of elements and the chunk below it.
+     */
+    private static final class Chunk<T> {
+
+        private final T[] elements;
+        private Chunk<T> below;
+
+        /**
+         * Allocates an empty chunk.
+         *
+         * @param chunkSize the number of elements in the chunk
+         * @param below     the chunk below this one, or null at the bottom
+         */
+        private Chunk(int chunkSize, Chunk<T> below) {
+            elements = (T[]) new Object[chunkSize];
+            this.below = below;
+        }
+    }
+}
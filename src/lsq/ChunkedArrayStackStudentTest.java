@@ -0,0 +1,94 @@
+package lsq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for ChunkedArrayStack.
+ */
+public class ChunkedArrayStackStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private ChunkedArrayStack<String> stack;
+
+    @Before
+    public void setup() {
+        stack = new ChunkedArrayStack<>(4);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, stack.size());
+        assertTrue(stack.isEmpty());
+        assertEquals(1, stack.getChunkCount());
+        assertFalse(stack.hasSpareChunk());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPushPopAcrossChunks() {
+        for (int i = 0; i < 10; i++) {
+            stack.push(i + "a");        // 0a, ..., 9a
+        }
+        assertEquals(10, stack.size());
+        assertEquals(3, stack.getChunkCount());
+        assertEquals("9a", stack.peek());
+
+        for (int i = 9; i >= 0; i--) {
+            assertEquals(i + "a", stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+        assertEquals(1, stack.getChunkCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSpareChunk() {
+        for (int i = 0; i < 5; i++) {
+            stack.push(i + "a");        // 0a, ..., 4a
+        }
+        assertEquals(2, stack.getChunkCount());
+
+        // Emptying the top chunk keeps it as the spare
+        assertEquals("4a", stack.pop());
+        assertEquals(1, stack.getChunkCount());
+        assertTrue(stack.hasSpareChunk());
+        assertEquals("3a", stack.peek());
+
+        // Crossing the boundary again reuses the spare
+        stack.push("4b");
+        assertEquals(2, stack.getChunkCount());
+        assertFalse(stack.hasSpareChunk());
+        assertEquals("4b", stack.pop());
+        assertEquals("3a", stack.pop());
+        assertEquals(3, stack.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        for (int i = 0; i < 10; i++) {
+            stack.push(i + "a");
+        }
+        stack.clear();
+        assertEquals(0, stack.size());
+        assertEquals(1, stack.getChunkCount());
+        stack.push("0b");
+        assertEquals("0b", stack.peek());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testPopEmpty() {
+        stack.push("0a");
+        stack.pop();
+        stack.pop();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testPushNull() {
+        stack.push(null);
+    }
+}
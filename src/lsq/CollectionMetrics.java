@@ -0,0 +1,301 @@
+package lsq;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * Opt-in counters for ArrayList, ArrayStack, LinkedQueue and
+ * DoublyLinkedList, shared by every instance of each.
+ *
+ * Off unless the JVM is started with -Dlsq.metrics=true. Every hook in the
+ * collections is guarded by the static final ENABLED flag, which the JIT
+ * treats as a constant, so when it is off the hooks are compiled away and
+ * cost nothing. When it is on, the counters are published as the MBeans
+ * lsq:type=CollectionMetrics,name=<collection>, every resize is recorded
+ * as an lsq.Resize JFR event, and an lsq.CollectionStatistics JFR event
+ * with all of the counters is recorded once per second while a recording
+ * is running.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public final class CollectionMetrics implements CollectionMetricsMBean {
+
+    /**
+     * Whether the collections record metrics, read once at startup.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("lsq.metrics");
+
+    static final CollectionMetrics ARRAY_LIST = new CollectionMetrics("ArrayList");
+    static final CollectionMetrics ARRAY_STACK = new CollectionMetrics("ArrayStack");
+    static final CollectionMetrics LINKED_QUEUE = new CollectionMetrics("LinkedQueue");
+    static final CollectionMetrics DOUBLY_LINKED_LIST = new CollectionMetrics("DoublyLinkedList");
+
+    private static final CollectionMetrics[] ALL = {ARRAY_LIST, ARRAY_STACK, LINKED_QUEUE, DOUBLY_LINKED_LIST};
+    static final int REFERENCE_SIZE = ENABLED ? referenceSize() : 0;
+
+    static {
+        if (ENABLED) {
+            try {
+                for (CollectionMetrics metrics : ALL) {
+                    ManagementFactory.getPlatformMBeanServer().registerMBean(metrics,
+                            new ObjectName("lsq:type=CollectionMetrics,name=" + metrics.collection));
+                }
+            } catch (JMException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+            FlightRecorder.addPeriodicEvent(StatisticsEvent.class, () -> {
+                for (CollectionMetrics metrics : ALL) {
+                    metrics.commitStatistics();
+                }
+            });
+        }
+    }
+
+    private final String collection;
+    private final LongAdder adds = new LongAdder();
+    private final LongAdder removes = new LongAdder();
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder resizes = new LongAdder();
+    private final LongAdder bytesCopied = new LongAdder();
+    private final LongAdder shiftedElements = new LongAdder();
+    private final LongAdder traversedNodes = new LongAdder();
+    private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Constructs the counters of one kind of collection.
+     *
+     * @param collection the name of the collection class
+     */
+    private CollectionMetrics(String collection) {
+        this.collection = collection;
+    }
+
+    /**
+     * Records an add, push or enqueue.
+     */
+    void add() {
+        adds.increment();
+    }
+
+    /**
+     * Records a remove, pop or dequeue.
+     */
+    void remove() {
+        removes.increment();
+    }
+
+    /**
+     * Records a get or peek.
+     */
+    void read() {
+        reads.increment();
+    }
+
+    /**
+     * Records that a backing array was replaced by one of another length.
+     *
+     * @param oldCapacity    the length of the old array
+     * @param newCapacity    the length of the new array
+     * @param elementsCopied the number of elements copied over
+     */
+    void resize(int oldCapacity, int newCapacity, int elementsCopied) {
+        long bytes = (long) elementsCopied * REFERENCE_SIZE;
+        resizes.increment();
+        bytesCopied.add(bytes);
+
+        ResizeEvent event = new ResizeEvent();
+        if (event.shouldCommit()) {
+            event.collection = collection;
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.bytesCopied = bytes;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records the elements shifted to open or close a spot at an index.
+     *
+     * @param elements the number of elements shifted
+     */
+    void shift(int elements) {
+        shiftedElements.add(elements);
+    }
+
+    /**
+     * Records the nodes walked past to reach an index.
+     *
+     * @param nodes the number of nodes traversed
+     */
+    void traverse(int nodes) {
+        traversedNodes.add(nodes);
+    }
+
+    /**
+     * Records the size of a queue after it grew.
+     *
+     * @param depth the size of the queue
+     */
+    void depth(int depth) {
+        maxDepth.accumulate(depth);
+    }
+
+    @Override
+    public long getAdds() {
+        return adds.sum();
+    }
+
+    @Override
+    public long getRemoves() {
+        return removes.sum();
+    }
+
+    @Override
+    public long getReads() {
+        return reads.sum();
+    }
+
+    @Override
+    public long getResizes() {
+        return resizes.sum();
+    }
+
+    @Override
+    public long getBytesCopied() {
+        return bytesCopied.sum();
+    }
+
+    @Override
+    public long getShiftedElements() {
+        return shiftedElements.sum();
+    }
+
+    @Override
+    public long getTraversedNodes() {
+        return traversedNodes.sum();
+    }
+
+    @Override
+    public long getMaxDepth() {
+        return maxDepth.get();
+    }
+
+    @Override
+    public void reset() {
+        adds.reset();
+        removes.reset();
+        reads.reset();
+        resizes.reset();
+        bytesCopied.reset();
+        shiftedElements.reset();
+        traversedNodes.reset();
+        maxDepth.reset();
+    }
+
+    /**
+     * Records the counters as an lsq.CollectionStatistics event.
+     */
+    private void commitStatistics() {
+        StatisticsEvent event = new StatisticsEvent();
+        event.collection = collection;
+        event.adds = getAdds();
+        event.removes = getRemoves();
+        event.reads = getReads();
+        event.resizes = getResizes();
+        event.bytesCopied = getBytesCopied();
+        event.shiftedElements = getShiftedElements();
+        event.traversedNodes = getTraversedNodes();
+        event.maxDepth = getMaxDepth();
+        event.commit();
+    }
+
+    /**
+     * Returns the size of an object reference on this JVM.
+     *
+     * @return 4 with compressed references, 8 otherwise
+     */
+    private static int referenceSize() {
+        try {
+            HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            return Boolean.parseBoolean(hotSpot.getVMOption("UseCompressedOops").getValue()) ? 4 : 8;
+        } catch (IllegalArgumentException e) {
+            // Not a 64-bit HotSpot JVM, where references are 4 bytes
+            return 4;
+        }
+    }
+
+    /**
+     * A JFR event for every backing array that was replaced.
+     */
+    @Name("lsq.Resize")
+    @Label("Collection Resize")
+    @Category("LSQ")
+    @Description("A backing array was replaced by one of another length")
+    @StackTrace(true)
+    static final class ResizeEvent extends Event {
+
+        @Label("Collection")
+        String collection;
+
+        @Label("Old Capacity")
+        int oldCapacity;
+
+        @Label("New Capacity")
+        int newCapacity;
+
+        @Label("Bytes Copied")
+        long bytesCopied;
+    }
+
+    /**
+     * A periodic JFR event with the counters of one kind of collection.
+     */
+    @Name("lsq.CollectionStatistics")
+    @Label("Collection Statistics")
+    @Category("LSQ")
+    @Period("1 s")
+    @StackTrace(false)
+    static final class StatisticsEvent extends Event {
+
+        @Label("Collection")
+        String collection;
+
+        @Label("Adds")
+        long adds;
+
+        @Label("Removes")
+        long removes;
+
+        @Label("Reads")
+        long reads;
+
+        @Label("Resizes")
+        long resizes;
+
+        @Label("Bytes Copied")
+        long bytesCopied;
+
+        @Label("Shifted Elements")
+        long shiftedElements;
+
+        @Label("Traversed Nodes")
+        long traversedNodes;
+
+        @Label("Max Depth")
+        long maxDepth;
+    }
+}
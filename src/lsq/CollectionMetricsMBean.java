@@ -0,0 +1,73 @@
+package lsq;
+
+/**
+ * The management interface of CollectionMetrics, one MBean per kind of
+ * collection.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public interface CollectionMetricsMBean {
+
+    /**
+     * Returns the number of add, push and enqueue calls.
+     *
+     * @return the number of adds
+     */
+    long getAdds();
+
+    /**
+     * Returns the number of remove, pop and dequeue calls.
+     *
+     * @return the number of removes
+     */
+    long getRemoves();
+
+    /**
+     * Returns the number of get and peek calls.
+     *
+     * @return the number of reads
+     */
+    long getReads();
+
+    /**
+     * Returns the number of times a backing array was replaced.
+     *
+     * @return the number of resizes
+     */
+    long getResizes();
+
+    /**
+     * Returns the number of bytes of references copied by resizes.
+     *
+     * @return the bytes copied
+     */
+    long getBytesCopied();
+
+    /**
+     * Returns the number of elements shifted by adds and removes at an
+     * index.
+     *
+     * @return the elements shifted
+     */
+    long getShiftedElements();
+
+    /**
+     * Returns the number of nodes walked past to reach an index.
+     *
+     * @return the nodes traversed
+     */
+    long getTraversedNodes();
+
+    /**
+     * Returns the largest size any queue has reached.
+     *
+     * @return the depth high-water mark
+     */
+    long getMaxDepth();
+
+    /**
+     * Sets all of the counters back to 0.
+     */
+    void reset();
+}
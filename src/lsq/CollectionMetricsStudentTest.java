@@ -0,0 +1,135 @@
+package lsq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for CollectionMetrics.
+ *
+ * The hook tests only run with -Dlsq.metrics=true, as gradle metricsTest
+ * does, since the collections skip the hooks otherwise.
+ */
+public class CollectionMetricsStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private CollectionMetrics metrics;
+
+    @Before
+    public void setUp() {
+        metrics = CollectionMetrics.LINKED_QUEUE;
+        CollectionMetrics.ARRAY_LIST.reset();
+        CollectionMetrics.ARRAY_STACK.reset();
+        CollectionMetrics.LINKED_QUEUE.reset();
+        CollectionMetrics.DOUBLY_LINKED_LIST.reset();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCounters() {
+        metrics.add();
+        metrics.add();
+        metrics.remove();
+        metrics.read();
+        metrics.shift(3);
+        metrics.shift(4);
+        metrics.traverse(5);
+        assertEquals(2, metrics.getAdds());
+        assertEquals(1, metrics.getRemoves());
+        assertEquals(1, metrics.getReads());
+        assertEquals(7, metrics.getShiftedElements());
+        assertEquals(5, metrics.getTraversedNodes());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDepthHighWaterMark() {
+        metrics.depth(3);
+        metrics.depth(10);
+        metrics.depth(4);
+        assertEquals(10, metrics.getMaxDepth());
+
+        metrics.reset();
+        assertEquals(0, metrics.getMaxDepth());
+        assertEquals(0, metrics.getAdds());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testResize() {
+        metrics.resize(9, 18, 9);
+        metrics.resize(18, 36, 18);
+        assertEquals(2, metrics.getResizes());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testArrayListHooks() {
+        assumeTrue(CollectionMetrics.ENABLED);
+        ArrayList<String> list = new ArrayList<>();
+        // The tenth add doubles the initial 9 slots, copying 9 references
+        for (int i = 0; i < 10; i++) {
+            list.addToBack(i + "a");
+        }
+        list.addAtIndex(3, "x");
+        list.get(0);
+        list.removeFromFront();
+
+        CollectionMetrics arrayList = CollectionMetrics.ARRAY_LIST;
+        assertEquals(11, arrayList.getAdds());
+        assertEquals(1, arrayList.getRemoves());
+        assertEquals(1, arrayList.getReads());
+        assertEquals(1, arrayList.getResizes());
+        assertEquals(9L * CollectionMetrics.REFERENCE_SIZE, arrayList.getBytesCopied());
+        assertEquals(3, arrayList.getShiftedElements());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testArrayStackHooks() {
+        assumeTrue(CollectionMetrics.ENABLED);
+        ArrayStack<String> stack = new ArrayStack<>();
+        for (int i = 0; i < 10; i++) {
+            stack.push(i + "a");
+        }
+        stack.peek();
+        stack.pop();
+
+        CollectionMetrics arrayStack = CollectionMetrics.ARRAY_STACK;
+        assertEquals(10, arrayStack.getAdds());
+        assertEquals(1, arrayStack.getRemoves());
+        assertEquals(1, arrayStack.getReads());
+        assertEquals(1, arrayStack.getResizes());
+        assertEquals(9L * CollectionMetrics.REFERENCE_SIZE, arrayStack.getBytesCopied());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLinkedQueueHooks() {
+        assumeTrue(CollectionMetrics.ENABLED);
+        LinkedQueue<String> queue = new LinkedQueue<>();
+        queue.enqueue("0a");
+        queue.enqueue("1a");
+        queue.enqueue("2a");
+        queue.dequeue();
+        queue.enqueue("3a");
+
+        assertEquals(4, metrics.getAdds());
+        assertEquals(1, metrics.getRemoves());
+        assertEquals(3, metrics.getMaxDepth());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDoublyLinkedListHooks() {
+        assumeTrue(CollectionMetrics.ENABLED);
+        DoublyLinkedList<String> list = new DoublyLinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            list.addToBack(i + "a");
+        }
+        // Walks back from the tail, past 2 nodes
+        list.get(7);
+        list.removeFromBack();
+
+        CollectionMetrics doublyLinkedList = CollectionMetrics.DOUBLY_LINKED_LIST;
+        assertEquals(10, doublyLinkedList.getAdds());
+        assertEquals(1, doublyLinkedList.getRemoves());
+        assertEquals(1, doublyLinkedList.getReads());
+        assertEquals(2, doublyLinkedList.getTraversedNodes());
+    }
+}
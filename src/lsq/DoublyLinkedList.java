@@ -0,0 +1,967 @@
+package lsq;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementation of a non-circular DoublyLinkedList with a tail pointer.
+ *
+ * Can optionally recycle the nodes of removed elements: they are kept in a
+ * bounded free list and reused by later adds, so a list whose size stays
+ * within the pool does not allocate. Nodes returned by getHead and getTail
+ * must not be held on to in that mode, since they are reused.
+ *
+ * A Cursor walks the list in both directions and adds, replaces and
+ * removes elements where it stands in O(1). Cursors are fail-fast: once
+ * the list is structurally modified other than through a cursor, that
+ * cursor throws a ConcurrentModificationException.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ *
+ */
+public class DoublyLinkedList<T> implements Iterable<T> {
+
+
+    private DoublyLinkedListNode<T> head;
+    private DoublyLinkedListNode<T> tail;
+    private int size;
+    private int modCount;
+
+    private final int maxPoolSize;
+    private DoublyLinkedListNode<T> pool;
+    private int poolSize;
+
+    /**
+     * Constructs a new DoublyLinkedList that does not recycle nodes.
+     */
+    public DoublyLinkedList() {
+        this(0);
+    }
+
+    /**
+     * Constructs a new DoublyLinkedList that keeps up to maxPoolSize nodes
+     * of removed elements for reuse.
+     *
+     * @param maxPoolSize the maximum number of nodes kept for reuse
+     * @throws java.lang.IllegalArgumentException if maxPoolSize < 0
+     */
+    public DoublyLinkedList(int maxPoolSize) {
+        if (maxPoolSize < 0) {
+            throw new IllegalArgumentException("The pool size should be >= 0, but was "
+                + maxPoolSize + ".");
+        }
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    /**
+     * Adds the element to the specified index. Considers whether
+     * traversing the list from the head or tail is more efficient
+     *
+     * Must be O(1) for indices 0 and size and O(n) for all other cases.
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        // The Exceptions
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("The index is outside the range of the double linked list"
+                + "It must be between 0 and " + size + ".");
+        } else if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.DOUBLY_LINKED_LIST.add();
+        }
+
+        //Creates the new node
+        DoublyLinkedListNode<T> aNode = newNode(data);
+        DoublyLinkedListNode<T> current;
+        if (size == 0 && index == 0) { // Creates the first node in a doubly linked list
+            head = aNode;
+            tail = aNode;
+            size++;
+            modCount++;
+        } else if (index == 0) { //Adds to the front
+            aNode.setNext(head); // THIS HAS TO BE FIRST
+            aNode.setPrevious(null);
+            if (head != null) { //You have to make sure that head isn't null
+                head.setPrevious(aNode);
+            }
+            head = aNode;
+            size++;
+            modCount++;
+        } else if (index == size) { //Adds to the back
+            aNode.setPrevious(tail); // THIS HAS TO BE FIRST
+            aNode.setNext(null);
+            if (tail != null) { //You have to make sure tail isn't null else null point except
+                tail.setNext(aNode);
+            }
+            tail = aNode;
+            size++;
+            modCount++;
+        } else if (size - index >= index) { //Closer to the front
+            current = head;
+            for (int i = 0; i < index; i++) {
+                current = current.getNext();
+            }
+            aNode.setNext(current);
+            aNode.setPrevious(current.getPrevious());
+            current.getPrevious().setNext(aNode);
+            current.setPrevious(aNode);
+            size++;
+            modCount++;
+        } else { //Closer to the back
+            current = tail;
+            for (int i = size; i > index + 1; i--) {
+                current = current.getPrevious();
+            }
+            aNode.setNext(current);
+            aNode.setPrevious(current.getPrevious());
+            current.getPrevious().setNext(aNode);
+            current.setPrevious(aNode);
+            size++;
+            modCount++;
+        }
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the front of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.DOUBLY_LINKED_LIST.add();
+        }
+
+        //Adding to front
+        DoublyLinkedListNode<T> aNode = newNode(data);
+        if (size == 0) { // Creates the first node in a doubly linked list
+            tail = aNode;
+        } else {
+            aNode.setNext(head); // THIS HAS TO BE FIRST
+            aNode.setPrevious(null);
+            if (head != null) { //You have to make sure that head isn't null
+                head.setPrevious(aNode);
+            }
+        }
+        head = aNode;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.DOUBLY_LINKED_LIST.add();
+        }
+
+        //Adding to back
+        DoublyLinkedListNode<T> aNode = newNode(data);
+        if (size == 0) { // Creates the first node in a doubly linked list
+            head = aNode;
+        } else {
+            aNode.setPrevious(tail); // THIS HAS TO BE FIRST
+            aNode.setNext(null);
+            if (tail != null) { //You have to make sure tail isn't null else null point except
+                tail.setNext(aNode);
+            }
+        }
+        tail = aNode;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes and returns the element at the specified index.
+     * Considers whether traversing the list from the head or tail is more
+     * efficient
+     *
+     * Must be O(1) for indices 0 and size - 1 and O(n) for all other cases.
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T removeAtIndex(int index) {
+        //The Exception
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index is outside the range of the double linked list"
+                + "It must be between 0 and " + size + ".");
+        }
+
+        //Creating a new node
+        DoublyLinkedListNode<T> current;
+        T removedData;
+        if (index == 0) { //Removed from front
+            return removeFromFront();
+        } else if (index == size - 1) { //Removed from back
+            return removeFromBack();
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.DOUBLY_LINKED_LIST.remove();
+        }
+        if (size - index >= index) { //Closer to the front
+            current = head;
+            for (int i = 0; i < index; i++) {
+                current = current.getNext();
+            }
+            removedData = current.getData();
+            current.getNext().setPrevious(current.getPrevious());
+            current.getPrevious().setNext(current.getNext());
+            recycle(current);
+            size--;
+            modCount++;
+        } else { //Closer to the back
+            current = tail;
+            for (int i = size; i > index + 1; i--) {
+                current = current.getPrevious();
+            }
+            removedData = current.getData();
+            current.getNext().setPrevious(current.getPrevious());
+            current.getPrevious().setNext(current.getNext());
+            recycle(current);
+            size--;
+            modCount++;
+        }
+        return removedData;
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromFront() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The list is already empty");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.DOUBLY_LINKED_LIST.remove();
+        }
+
+        // Removing from front
+        final T removedData = head.getData();
+        DoublyLinkedListNode<T> newHead = head.getNext();
+        recycle(head);
+        if (newHead == null) { // Removed the only node
+            tail = null;
+        } else {
+            newHead.setPrevious(null);
+        }
+        head = newHead;
+        size--;
+        modCount++;
+        return removedData;
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromBack() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The list is already empty");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.DOUBLY_LINKED_LIST.remove();
+        }
+
+        //Removing from back
+        final T removedData = tail.getData();
+        DoublyLinkedListNode<T> newTail = tail.getPrevious();
+        recycle(tail);
+        if (newTail == null) { // Removed the only node
+            head = null;
+        } else {
+            newTail.setNext(null);
+        }
+        tail = newTail;
+        size--;
+        modCount++;
+        return removedData;
+    }
+
+    /**
+     * Returns the element at the specified index. Considers
+     * whether traversing the list from the head or tail is more efficient
+     *
+     * Must be O(1) for indices 0 and size - 1 and O(n) for all other cases.
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        //The Exception
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index is outside the range of the double linked list"
+                + "It must be between 0 and " + size + ".");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.DOUBLY_LINKED_LIST.read();
+            CollectionMetrics.DOUBLY_LINKED_LIST.traverse(Math.min(index, size - 1 - index));
+        }
+
+        DoublyLinkedListNode<T> current;
+        if (index == 0) { //If you want the 1st element in the list
+            return head.getData();
+        } else if (index == size - 1) { //If you want the last element in the list
+            return tail.getData();
+        } else if (size - index >= index) { //Closer to front
+            current = head;
+            for (int i = 0; i < index; i++) {
+                current = current.getNext();
+            }
+            return current.getData();
+        } else { //Closer to back
+            current = tail;
+            for (int i = size; i > index + 1; i--) {
+                current = current.getPrevious();
+            }
+            return current.getData();
+        }
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return (head == null);
+    }
+
+    /**
+     * Clears the list.
+     *
+     * Clears all data and resets the size. Also drops the recycled nodes so
+     * their memory can be reclaimed.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        modCount++;
+        head = null;
+        tail = null;
+        size = 0;
+        pool = null;
+        poolSize = 0;
+    }
+
+    /**
+     * Removes and returns the last copy of the given data from the list.
+     *
+     * It does not return the same data that was passed in. It returns the data that
+     * was stored in the list.
+     *
+     * Must be O(1) if data is in the tail and O(n) for all other cases.
+     *
+     * @param data the data to be removed from the list
+     * @return the data that was removed
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if data is not found
+     */
+    public T removeLastOccurrence(T data) {
+        DoublyLinkedListNode<T> current = tail;
+        T removedData;
+        if (data == tail.getData()) {
+            removedData = tail.getData();
+            DoublyLinkedListNode<T> newTail = tail.getPrevious();
+            newTail.setNext(null);
+            recycle(tail);
+            tail = newTail;
+        } else {
+            while (current.getData() != data) {
+                current = current.getPrevious();
+            }
+            removedData = current.getData();
+            current.getNext().setPrevious(current.getPrevious());
+            current.getPrevious().setNext(current.getNext());
+            recycle(current);
+        }
+        size--;
+        modCount++;
+        return removedData;
+    }
+
+    /**
+     * Writes a binary snapshot of the list to the channel, from the front
+     * to the back, through a direct buffer.
+     *
+     * Must be O(n).
+     *
+     * @param channel the channel to write to
+     * @param codec   the codec that encodes the elements
+     * @throws java.lang.IllegalArgumentException if channel or codec is null
+     * @throws java.io.IOException                if the channel cannot be written to
+     */
+    public void writeTo(WritableByteChannel channel, ElementCodec<T> codec) throws IOException {
+        Snapshot.write(channel, codec, size, this);
+    }
+
+    /**
+     * Reads a list from a snapshot written by writeTo. A FileChannel is
+     * mapped into memory from its position on instead of being read.
+     *
+     * Must be O(n).
+     *
+     * @param channel the channel to read from
+     * @param codec   the codec that decodes the elements
+     * @param <T>     the type of the elements
+     * @return the list
+     * @throws java.lang.IllegalArgumentException if channel or codec is null
+     * @throws java.io.IOException                if the channel cannot be read or holds no valid snapshot
+     */
+    public static <T> DoublyLinkedList<T> readFrom(ReadableByteChannel channel, ElementCodec<T> codec) throws IOException {
+        return readFrom(Snapshot.Reader.open(channel, codec));
+    }
+
+    /**
+     * Reads a list from a snapshot file written by writeTo, mapping the
+     * file into memory.
+     *
+     * Must be O(n).
+     *
+     * @param path  the path of the file
+     * @param codec the codec that decodes the elements
+     * @param <T>   the type of the elements
+     * @return the list
+     * @throws java.lang.IllegalArgumentException if path or codec is null
+     * @throws java.io.IOException                if the file cannot be read or holds no valid snapshot
+     */
+    public static <T> DoublyLinkedList<T> readFrom(Path path, ElementCodec<T> codec) throws IOException {
+        return readFrom(Snapshot.Reader.open(path, codec));
+    }
+
+    /**
+     * Builds a list from the elements of a snapshot.
+     *
+     * @param reader the reader of the snapshot
+     * @param <T>    the type of the elements
+     * @return the list
+     * @throws java.io.IOException if the snapshot is corrupt
+     */
+    private static <T> DoublyLinkedList<T> readFrom(Snapshot.Reader<T> reader) throws IOException {
+        DoublyLinkedList<T> list = new DoublyLinkedList<>();
+        // Links the nodes directly, the list is not visible to anyone yet
+        DoublyLinkedListNode<T> last = null;
+        for (int i = 0; i < reader.size(); i++) {
+            DoublyLinkedListNode<T> aNode = new DoublyLinkedListNode<>(reader.next(), last, null);
+            if (last == null) {
+                list.head = aNode;
+            } else {
+                last.setNext(aNode);
+            }
+            last = aNode;
+        }
+        list.tail = last;
+        list.size = reader.size();
+        return list;
+    }
+
+    /**
+     * Returns a cursor positioned before the first element of the list.
+     *
+     * Must be O(1).
+     *
+     * @return the cursor
+     */
+    public Cursor cursor() {
+        return new Cursor(head, 0);
+    }
+
+    /**
+     * Returns a cursor positioned before the element at the specified
+     * index, so next returns that element. Considers whether traversing
+     * the list from the head or tail is more efficient
+     *
+     * Must be O(1) for indices 0 and size and O(n) for all other cases.
+     *
+     * @param index the index of the element next returns
+     * @return the cursor
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public Cursor cursor(int index) {
+        //The Exception
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("The index is outside the range of the double linked list"
+                + "It must be between 0 and " + size + ".");
+        }
+
+        DoublyLinkedListNode<T> current;
+        if (index == size) {
+            current = null;
+        } else if (size - index >= index) { //Closer to the front
+            current = head;
+            for (int i = 0; i < index; i++) {
+                current = current.getNext();
+            }
+        } else { //Closer to the back
+            current = tail;
+            for (int i = size; i > index + 1; i--) {
+                current = current.getPrevious();
+            }
+        }
+        return new Cursor(current, index);
+    }
+
+    /**
+     * Returns a cursor positioned before the first element of the list,
+     * for use as an iterator.
+     *
+     * @return the cursor
+     */
+    @Override
+    public Cursor iterator() {
+        return cursor();
+    }
+
+    /**
+     * Returns a spliterator over the list, from the front to the back.
+     *
+     * Splits by copying growing batches of elements off the front into
+     * arrays, which split exactly from there. Like a Cursor, it is
+     * fail-fast.
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(cursor(), size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential stream over the list, from the front to the
+     * back. Call parallel on it to process it on several threads.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Links a new node holding the data in front of a node.
+     *
+     * @param data      the data to add
+     * @param successor the node to link in front of, or null to link at the back
+     * @return the new node
+     */
+    private DoublyLinkedListNode<T> linkBefore(T data, DoublyLinkedListNode<T> successor) {
+        DoublyLinkedListNode<T> aNode = newNode(data);
+        DoublyLinkedListNode<T> predecessor = successor == null ? tail : successor.getPrevious();
+        aNode.setPrevious(predecessor);
+        aNode.setNext(successor);
+        if (predecessor == null) {
+            head = aNode;
+        } else {
+            predecessor.setNext(aNode);
+        }
+        if (successor == null) {
+            tail = aNode;
+        } else {
+            successor.setPrevious(aNode);
+        }
+        size++;
+        modCount++;
+        return aNode;
+    }
+
+    /**
+     * Unlinks a node from the list and recycles it.
+     *
+     * @param node the node to unlink
+     */
+    private void unlink(DoublyLinkedListNode<T> node) {
+        DoublyLinkedListNode<T> predecessor = node.getPrevious();
+        DoublyLinkedListNode<T> successor = node.getNext();
+        if (predecessor == null) {
+            head = successor;
+        } else {
+            predecessor.setNext(successor);
+        }
+        if (successor == null) {
+            tail = predecessor;
+        } else {
+            successor.setPrevious(predecessor);
+        }
+        recycle(node);
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Returns a node holding the data, reusing a recycled node if there is one.
+     *
+     * @param data the data stored in the node
+     * @return the node
+     */
+    private DoublyLinkedListNode<T> newNode(T data) {
+        if (pool == null) {
+            return new DoublyLinkedListNode<>(data);
+        }
+        DoublyLinkedListNode<T> node = pool;
+        pool = node.getNext();
+        poolSize--;
+        node.setData(data);
+        node.setNext(null);
+        return node;
+    }
+
+    /**
+     * Keeps a node that was removed from the list for reuse, unless the
+     * pool is full.
+     *
+     * @param node the removed node
+     */
+    private void recycle(DoublyLinkedListNode<T> node) {
+        if (poolSize < maxPoolSize) {
+            node.setData(null);
+            node.setPrevious(null);
+            node.setNext(pool);
+            pool = node;
+            poolSize++;
+        }
+    }
+
+    /**
+     * Returns an array representation of the linked list. If the list is
+     * size 0, returns an empty array.
+     *
+     * Must be O(n) for all cases.
+     *
+     * @return an array of length size holding all of the objects in the
+     * list in the same order
+     */
+    public Object[] toArray() {
+        if (size == 0) {
+            return new Object[0];
+        } else {
+            DoublyLinkedListNode<T> current = head;
+            Object[] theArray = new Object[size];
+            int i = 0;
+            while (current != null) {
+                theArray[i] = current.getData();
+                current = current.getNext();
+                i++;
+            }
+            return theArray;
+        }
+    }
+
+    /**
+     * A bidirectional cursor over the list.
+     *
+     * The cursor always stands between two elements: next returns the one
+     * after it and previous the one before it. The element last returned
+     * by next or previous is the element at the cursor, which set, remove,
+     * insertBefore and insertAfter act on in O(1). add inserts between the
+     * two elements around the cursor, as in a ListIterator.
+     */
+    public class Cursor implements ListIterator<T> {
+
+        private DoublyLinkedListNode<T> next;
+        private DoublyLinkedListNode<T> lastReturned;
+        private int nextIndex;
+        private int expectedModCount;
+
+        /**
+         * Constructs a new Cursor.
+         *
+         * @param next      the node next returns
+         * @param nextIndex the index of that node
+         */
+        private Cursor(DoublyLinkedListNode<T> next, int nextIndex) {
+            this.next = next;
+            this.nextIndex = nextIndex;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        /**
+         * Moves the cursor forward and returns the element it passed.
+         *
+         * Must be O(1).
+         *
+         * @return the next element
+         * @throws java.util.NoSuchElementException            if there is no next element
+         * @throws java.util.ConcurrentModificationException if the list was modified
+         */
+        @Override
+        public T next() {
+            checkForModification();
+            //The Exception
+            if (next == null) {
+                throw new NoSuchElementException("The cursor is at the back of the list");
+            }
+
+            lastReturned = next;
+            next = next.getNext();
+            nextIndex++;
+            return lastReturned.getData();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        /**
+         * Moves the cursor back and returns the element it passed.
+         *
+         * Must be O(1).
+         *
+         * @return the previous element
+         * @throws java.util.NoSuchElementException            if there is no previous element
+         * @throws java.util.ConcurrentModificationException if the list was modified
+         */
+        @Override
+        public T previous() {
+            checkForModification();
+            //The Exception
+            if (nextIndex == 0) {
+                throw new NoSuchElementException("The cursor is at the front of the list");
+            }
+
+            next = next == null ? tail : next.getPrevious();
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.getData();
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        /**
+         * Removes the element at the cursor.
+         *
+         * Must be O(1).
+         *
+         * @throws java.lang.IllegalStateException            if there is no element at the cursor
+         * @throws java.util.ConcurrentModificationException if the list was modified
+         */
+        @Override
+        public void remove() {
+            checkForModification();
+            checkLastReturned();
+
+            if (lastReturned == next) { // Moved back onto it, the cursor stays before its successor
+                next = lastReturned.getNext();
+            } else {
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Replaces the element at the cursor.
+         *
+         * Must be O(1).
+         *
+         * @param data the new data
+         * @throws java.lang.IllegalArgumentException         if data is null
+         * @throws java.lang.IllegalStateException            if there is no element at the cursor
+         * @throws java.util.ConcurrentModificationException if the list was modified
+         */
+        @Override
+        public void set(T data) {
+            //The Exception
+            if (data == null) {
+                throw new IllegalArgumentException("The data entered was null");
+            }
+            checkForModification();
+            checkLastReturned();
+
+            lastReturned.setData(data);
+        }
+
+        /**
+         * Inserts the element between the two elements around the cursor,
+         * so previous would return it and next is unaffected.
+         *
+         * Must be O(1).
+         *
+         * @param data the data to add
+         * @throws java.lang.IllegalArgumentException         if data is null
+         * @throws java.util.ConcurrentModificationException if the list was modified
+         */
+        @Override
+        public void add(T data) {
+            //The Exception
+            if (data == null) {
+                throw new IllegalArgumentException("The data entered was null");
+            }
+            checkForModification();
+
+            linkBefore(data, next);
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Inserts the element right before the element at the cursor. The
+         * element at the cursor stays the same.
+         *
+         * Must be O(1).
+         *
+         * @param data the data to add
+         * @throws java.lang.IllegalArgumentException         if data is null
+         * @throws java.lang.IllegalStateException            if there is no element at the cursor
+         * @throws java.util.ConcurrentModificationException if the list was modified
+         */
+        public void insertBefore(T data) {
+            //The Exception
+            if (data == null) {
+                throw new IllegalArgumentException("The data entered was null");
+            }
+            checkForModification();
+            checkLastReturned();
+
+            linkBefore(data, lastReturned);
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Inserts the element right after the element at the cursor. The
+         * element at the cursor stays the same.
+         *
+         * Must be O(1).
+         *
+         * @param data the data to add
+         * @throws java.lang.IllegalArgumentException         if data is null
+         * @throws java.lang.IllegalStateException            if there is no element at the cursor
+         * @throws java.util.ConcurrentModificationException if the list was modified
+         */
+        public void insertAfter(T data) {
+            //The Exception
+            if (data == null) {
+                throw new IllegalArgumentException("The data entered was null");
+            }
+            checkForModification();
+            checkLastReturned();
+
+            DoublyLinkedListNode<T> aNode = linkBefore(data, lastReturned.getNext());
+            if (lastReturned != next) { // Moved forward past it, the new node is next
+                next = aNode;
+            }
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Throws if the list was structurally modified other than through
+         * this cursor.
+         */
+        private void checkForModification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException("The list was modified outside of the cursor");
+            }
+        }
+
+        /**
+         * Throws if there is no element at the cursor.
+         */
+        private void checkLastReturned() {
+            if (lastReturned == null) {
+                throw new IllegalStateException("There is no element at the cursor, call next or previous first");
+            }
+        }
+    }
+
+    /**
+     * Returns the head node of the list.
+     *
+     * For grading purposes only.
+     *
+     * @return the node at the head of the list
+     */
+    public DoublyLinkedListNode<T> getHead() {
+        return head;
+    }
+
+    /**
+     * Returns the tail node of the list.
+     *
+     * For grading purposes only.
+     *
+     * @return the node at the tail of the list
+     */
+    public DoublyLinkedListNode<T> getTail() {
+        return tail;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+}
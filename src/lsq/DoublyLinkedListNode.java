@@ -1,3 +1,5 @@
+package lsq;
+
 /**
  * Node class used for implementing the DoublyLinkedList.
  */
@@ -40,6 +42,15 @@ public class DoublyLinkedListNode<T> {
         return data;
     }
 
+    /**
+     * Sets the data of the node.
+     *
+     * @param data the new data
+     */
+    void setData(T data) {
+        this.data = data;
+    }
+
     /**
      * Gets the previous node.
      *
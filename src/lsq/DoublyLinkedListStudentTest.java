@@ -1,5 +1,15 @@
+package lsq;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ConcurrentModificationException;
+
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
@@ -17,6 +27,9 @@ public class DoublyLinkedListStudentTest {
     private static final int TIMEOUT = 200;
     private DoublyLinkedList<String> list;
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Before
     public void setUp() {
         list = new DoublyLinkedList<>();
@@ -323,6 +336,12 @@ public class DoublyLinkedListStudentTest {
         assertEquals("4a", list.get(4));
     }
 
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        list.addAtIndex(0, "0a"); // 0a
+        list.get(1);
+    }
+
     @Test(timeout = TIMEOUT)
     public void testIsEmptyAndClear() {
         // Should be empty at initialization
@@ -404,5 +423,166 @@ public class DoublyLinkedListStudentTest {
         assertArrayEquals(expected, list.toArray());
     }
 
+    @Test(timeout = TIMEOUT)
+    public void testRemoveOnlyElement() {
+        list.addToBack("0a");
+        assertEquals("0a", list.removeFromFront());
+        assertNull(list.getHead());
+        assertNull(list.getTail());
 
-}
\ No newline at end of file
+        list.addToFront("1a");
+        assertEquals("1a", list.removeFromBack());
+        assertNull(list.getHead());
+        assertNull(list.getTail());
+        assertTrue(list.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testNodeRecycling() {
+        list = new DoublyLinkedList<>(1);
+        list.addToBack("0a");
+        list.addToBack("1a");
+        DoublyLinkedListNode<String> removed = list.getHead();
+
+        assertEquals("0a", list.removeFromFront());     // 1a
+        list.addToBack("2a");                           // 1a, 2a
+
+        // The detached node is reused, cleared of its old links
+        assertSame(removed, list.getTail());
+        assertEquals("2a", removed.getData());
+        assertSame(list.getHead(), removed.getPrevious());
+        assertNull(removed.getNext());
+
+        // Only one node is kept, the second removal is dropped
+        list.removeFromFront();
+        list.removeFromFront();
+        list.addToBack("3a");
+        assertNotNull(list.getHead());
+        list.clear();
+        assertEquals(0, list.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCursorFilterInPlace() {
+        for (int i = 0; i < 6; i++) {
+            list.addToBack(i + "a"); // 0a, 1a, 2a, 3a, 4a, 5a
+        }
+
+        DoublyLinkedList<String>.Cursor cursor = list.cursor();
+        while (cursor.hasNext()) {
+            String data = cursor.next();
+            if (data.equals("1a") || data.equals("3a") || data.equals("5a")) {
+                cursor.remove();
+            } else {
+                cursor.set(data.charAt(0) + "b");
+            }
+        }
+
+        assertArrayEquals(new Object[]{"0b", "2b", "4b"}, list.toArray());
+        assertEquals(3, cursor.nextIndex());
+        assertSame(list.getTail().getPrevious(), list.getHead().getNext());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCursorInsert() {
+        list.addToBack("1a");
+        list.addToBack("3a");
+
+        DoublyLinkedList<String>.Cursor cursor = list.cursor();
+        assertEquals("1a", cursor.next());
+        cursor.insertBefore("0a"); // 0a, 1a | 3a
+        cursor.insertAfter("2a"); // 0a, 1a | 2a, 3a
+        assertEquals(2, cursor.nextIndex());
+        assertEquals("2a", cursor.next());
+        assertEquals("3a", cursor.next());
+        cursor.insertAfter("4a"); // 0a, 1a, 2a, 3a | 4a
+        assertEquals("4a", cursor.next());
+        assertEquals("4a", cursor.previous());
+        cursor.insertAfter("5a"); // 0a, 1a, 2a, 3a | 4a, 5a
+        cursor.add("3b"); // 0a, 1a, 2a, 3a, 3b | 4a, 5a
+
+        assertArrayEquals(new Object[]{"0a", "1a", "2a", "3a", "3b", "4a", "5a"}, list.toArray());
+        assertEquals("4a", cursor.next());
+        assertEquals("0a", list.getHead().getData());
+        assertEquals("5a", list.getTail().getData());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCursorBackward() {
+        list.addToBack("0a");
+        list.addToBack("1a");
+        list.addToBack("2a");
+
+        DoublyLinkedList<String>.Cursor cursor = list.cursor(list.size());
+        assertEquals("2a", cursor.previous());
+        cursor.remove();
+        assertEquals("1a", cursor.previous());
+        assertEquals("0a", cursor.previous());
+        cursor.remove();
+        assertFalse(cursor.hasPrevious());
+        assertEquals("1a", cursor.next());
+
+        assertArrayEquals(new Object[]{"1a"}, list.toArray());
+        assertSame(list.getHead(), list.getTail());
+    }
+
+    @Test(timeout = TIMEOUT, expected = ConcurrentModificationException.class)
+    public void testCursorFailFast() {
+        list.addToBack("0a");
+        list.addToBack("1a");
+
+        DoublyLinkedList<String>.Cursor cursor = list.cursor();
+        cursor.next();
+        list.addToBack("2a");
+        cursor.next();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalStateException.class)
+    public void testCursorRemoveTwice() {
+        list.addToBack("0a");
+
+        DoublyLinkedList<String>.Cursor cursor = list.cursor();
+        cursor.next();
+        cursor.remove();
+        cursor.remove();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIterationAndStream() {
+        for (int i = 0; i < 5; i++) {
+            list.addToBack(i + "a");
+        }
+
+        Object[] expected = {"0a", "1a", "2a", "3a", "4a"};
+        java.util.List<String> iterated = new java.util.ArrayList<>();
+        for (String data : list) {
+            iterated.add(data);
+        }
+        assertArrayEquals(expected, iterated.toArray());
+        assertArrayEquals(expected, list.stream().parallel().toArray());
+        assertEquals(5, list.spliterator().getExactSizeIfKnown());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSnapshot() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            list.addToBack(i + "a");
+        }
+
+        Path file = folder.newFile().toPath();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            list.writeTo(channel, ElementCodec.UTF_8);
+        }
+        DoublyLinkedList<String> copy = DoublyLinkedList.readFrom(file, ElementCodec.UTF_8);
+        assertArrayEquals(list.toArray(), copy.toArray());
+        assertEquals("4a", copy.getTail().getData());
+        assertEquals("3a", copy.getTail().getPrevious().getData());
+        assertNull(copy.getHead().getPrevious());
+
+        // The restored links support the usual edits
+        assertEquals("4a", copy.removeFromBack());
+        copy.addToBack("5a");
+        assertEquals("2a", copy.removeAtIndex(2));
+        assertArrayEquals(new Object[] {"0a", "1a", "3a", "5a"}, copy.toArray());
+    }
+}
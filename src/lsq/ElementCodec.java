@@ -0,0 +1,56 @@
+package lsq;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts elements of type T to and from a variable number of bytes, so
+ * they can be written to files by PersistentQueue.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Encodes Strings as UTF-8.
+     */
+    ElementCodec<String> UTF_8 = new ElementCodec<String>() {
+        @Override
+        public byte[] encode(String element) {
+            return element.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer, int length) {
+            if (buffer.hasArray()) {
+                // Decodes straight from the array, without copying the bytes out first
+                int position = buffer.position();
+                buffer.position(position + length);
+                return new String(buffer.array(), buffer.arrayOffset() + position, length,
+                    StandardCharsets.UTF_8);
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * Encodes an element.
+     *
+     * @param element the element to encode, never null
+     * @return the bytes of the element
+     */
+    byte[] encode(T element);
+
+    /**
+     * Decodes an element from the next length bytes of the buffer, using
+     * relative gets only.
+     *
+     * @param buffer the buffer to read from, positioned at the element
+     * @param length the number of bytes of the element
+     * @return the element
+     */
+    T decode(ByteBuffer buffer, int length);
+}
@@ -0,0 +1,387 @@
+package lsq;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementation of an ArrayList backed by a gap buffer, for edits that
+ * cluster around a moving position, like the cursor of an editor.
+ *
+ * The free slots of the backing array form one gap, kept where the last
+ * edit was made. The elements before the gap are at the front of the
+ * array and the elements after it at the back. An add or remove at the gap
+ * shifts nothing, and moving the gap to a new index only copies the
+ * elements between the old and new position, so a run of edits near each
+ * other costs O(1) each. get and size behave as in ArrayList.
+ *
+ * The list must not be modified while it is being iterated.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public class GapArrayList<T> implements Iterable<T> {
+
+    /**
+     * The initial capacity of the GapArrayList.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    private T[] backingArray;
+    private int gapStart;
+    private int gapEnd;
+    private int size;
+    private final int initialCapacity;
+    private final GrowthPolicy growthPolicy;
+
+    /**
+     * Constructs a new GapArrayList.
+     */
+    public GapArrayList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new GapArrayList that doubles its backing array when
+     * full.
+     *
+     * @param initialCapacity the initial length of the backing array
+     * @throws java.lang.IllegalArgumentException if initialCapacity < 0
+     */
+    public GapArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Constructs a new GapArrayList.
+     *
+     * @param initialCapacity the initial length of the backing array
+     * @param growthPolicy    decides the new length of a full backing array
+     * @throws java.lang.IllegalArgumentException if initialCapacity < 0 or
+     *                                            growthPolicy is null
+     */
+    public GapArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        //The Exception
+        if (initialCapacity < 0 || initialCapacity > GrowthPolicy.MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException("The initial capacity should be between 0 and "
+                    + GrowthPolicy.MAX_ARRAY_LENGTH + ", but was " + initialCapacity + ".");
+        } else if (growthPolicy == null) {
+            throw new IllegalArgumentException("The growth policy entered was null");
+        }
+        this.initialCapacity = initialCapacity;
+        this.growthPolicy = growthPolicy;
+        backingArray = (T[]) new Object[initialCapacity];
+        gapStart = 0;
+        gapEnd = initialCapacity;
+        size = 0;
+    }
+
+    /**
+     * Adds the element to the specified index, moving the gap there first.
+     *
+     * Must be amortized O(1) when index is the start of the gap and
+     * amortized O(distance) otherwise, where distance is how far the gap
+     * moves.
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        // The exceptions
+        if (data == null) {
+            throw new IllegalArgumentException("The data is null, use a T type data");
+        } else if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("The index should be >= 0 and <= " + size + ", but was "
+                    + index + ".");
+        }
+
+        if (gapStart == gapEnd) {
+            // Expanding the GapArrayList opens the new gap at index
+            grow(index);
+        } else {
+            moveGap(index);
+        }
+        backingArray[gapStart] = data;
+        gapStart++;
+        size++;
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Must be amortized O(1) when the gap is at the front and O(distance)
+     * otherwise.
+     *
+     * @param data the data to add to the front of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Must be amortized O(1) when the gap is at the back and O(distance)
+     * otherwise.
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        addAtIndex(size, data);
+    }
+
+    /**
+     * Removes and returns the element at the specified index, leaving the
+     * gap where it was.
+     *
+     * Must be O(1) when the element is next to the gap and O(distance)
+     * otherwise.
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T removeAtIndex(int index) {
+        // The exception
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index should be >= 0 and < " + size + ", but was "
+                    + index + ".");
+        }
+
+        final T dataRemoved;
+        if (index == gapStart - 1) {
+            // Just before the gap, like a backspace
+            gapStart--;
+            dataRemoved = backingArray[gapStart];
+            backingArray[gapStart] = null;
+        } else {
+            moveGap(index);
+            dataRemoved = backingArray[gapEnd];
+            backingArray[gapEnd] = null;
+            gapEnd++;
+        }
+        size--;
+        return dataRemoved;
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * Must be O(1) when the gap is at the front and O(distance) otherwise.
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromFront() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The list is already empty");
+        }
+
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * Must be O(1) when the gap is at the back and O(distance) otherwise.
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromBack() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The list is already empty");
+        }
+
+        return removeAtIndex(size - 1);
+    }
+
+    /**
+     * Returns the element at the specified index. Does not move the gap.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        // The exception
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index should be >= 0 and < " + size + ", but was "
+                    + index + ".");
+        }
+
+        return backingArray[physicalIndex(index)];
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list.
+     *
+     * Resets the backing array to a new array of the initial capacity and resets the size.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        backingArray = (T[]) new Object[initialCapacity];
+        gapStart = 0;
+        gapEnd = initialCapacity;
+        size = 0;
+    }
+
+    /**
+     * Returns an iterator over the list, from the front to the back.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException("The list has no more elements");
+                }
+                return backingArray[physicalIndex(index++)];
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the list, from the front to the back.
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential stream over the list, from the front to the
+     * back.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Translates an index of the list into an index of the backing array.
+     *
+     * @param index the index in the list
+     * @return the index in the backing array
+     */
+    private int physicalIndex(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    /**
+     * Moves the gap so it starts at the specified list index, copying the
+     * elements in between across it.
+     *
+     * The slots that the gap takes over are nulled so they do not keep
+     * removed elements reachable. Both copies are O(distance).
+     *
+     * @param index the list index the gap should start at
+     */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            // Moves the elements before the gap to after it
+            int count = gapStart - index;
+            int gapLength = gapEnd - gapStart;
+            System.arraycopy(backingArray, index, backingArray, gapEnd - count, count);
+            Arrays.fill(backingArray, index, Math.min(gapStart, index + gapLength), null);
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            // Moves the elements after the gap to before it
+            int count = index - gapStart;
+            System.arraycopy(backingArray, gapEnd, backingArray, gapStart, count);
+            Arrays.fill(backingArray, Math.max(gapEnd, index), gapEnd + count, null);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    /**
+     * Makes a new Array with room for one more element, as chosen by the
+     * growth policy, with the new gap starting at the specified list index.
+     *
+     * @param index the list index the gap should start at
+     */
+    private void grow(int index) {
+        int capacity = growthPolicy.grow(backingArray.length, size + 1);
+        T[] anArray = (T[]) new Object[capacity];
+        int after = size - index;
+        // The array is full, so the elements are in one run
+        System.arraycopy(backingArray, 0, anArray, 0, index);
+        System.arraycopy(backingArray, index, anArray, capacity - after, after);
+        backingArray = anArray;
+        gapStart = index;
+        gapEnd = capacity - after;
+    }
+
+    /**
+     * Returns the list index the gap starts at.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the start of the gap
+     */
+    public int getGapStart() {
+        return gapStart;
+    }
+
+    /**
+     * Returns the backing array of the list.
+     *
+     * For grading and benchmarking purposes only. The elements after the
+     * gap are at the back of the array.
+     *
+     * @return the backing array of the list
+     */
+    public T[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,166 @@
+package lsq;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for GapArrayList.
+ */
+public class GapArrayListStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private GapArrayList<String> list;
+
+    @Before
+    public void setUp() {
+        list = new GapArrayList<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, list.size());
+        assertEquals(0, list.getGapStart());
+        assertEquals(GapArrayList.INITIAL_CAPACITY, capacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAtIndex() {
+        list.addAtIndex(0, "2a");   // 2a
+        list.addAtIndex(0, "1a");   // 1a, 2a
+        list.addAtIndex(2, "4a");   // 1a, 2a, 4a
+        list.addAtIndex(2, "3a");   // 1a, 2a, 3a, 4a
+        list.addAtIndex(0, "0a");   // 0a, 1a, 2a, 3a, 4a
+
+        assertEquals(5, list.size());
+        assertEquals(1, list.getGapStart());
+        assertArrayEquals(new Object[] {"0a", "1a", "2a", "3a", "4a"}, list.stream().toArray());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i + "a", list.get(i));
+        }
+
+        // The elements after the gap are at the back of the array
+        Object[] backingArray = list.getBackingArray();
+        assertEquals("0a", backingArray[0]);
+        assertNull(backingArray[1]);
+        assertEquals("4a", backingArray[backingArray.length - 1]);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEditsAtTheGap() {
+        for (int i = 0; i < 6; i++) {
+            list.addToBack(i + "a");
+        }
+        list.addAtIndex(3, "x");    // 0a, 1a, 2a, x, 3a, 4a, 5a
+        assertEquals(4, list.getGapStart());
+        list.addAtIndex(4, "y");    // 0a, 1a, 2a, x, y, 3a, 4a, 5a
+        assertEquals(5, list.getGapStart());
+
+        // Backspace and delete leave the gap where it is
+        assertEquals("y", list.removeAtIndex(4));
+        assertEquals(4, list.getGapStart());
+        assertEquals("3a", list.removeAtIndex(4));
+        assertEquals(4, list.getGapStart());
+        assertArrayEquals(new Object[] {"0a", "1a", "2a", "x", "4a", "5a"}, list.stream().toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGrowAtGap() {
+        for (int i = 0; i < GapArrayList.INITIAL_CAPACITY; i++) {
+            list.addToBack(i + "a");
+        }
+        list.addAtIndex(4, "x");
+        assertEquals(GapArrayList.INITIAL_CAPACITY * 2, capacity());
+        assertEquals(5, list.getGapStart());
+        assertEquals("x", list.get(4));
+        assertEquals("4a", list.get(5));
+        assertEquals("8a", list.get(GapArrayList.INITIAL_CAPACITY));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveFromEnds() {
+        list.addToBack("1a");
+        list.addToFront("0a");
+        list.addToBack("2a");
+        assertEquals("0a", list.removeFromFront());
+        assertEquals("2a", list.removeFromBack());
+        assertEquals("1a", list.removeFromBack());
+        assertTrue(list.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMatchesJavaUtil() {
+        Random random = new Random(42);
+        java.util.ArrayList<String> expected = new java.util.ArrayList<>();
+        int cursor = 0;
+        for (int i = 0; i < 2000; i++) {
+            // Edits drift around a cursor, with an occasional jump
+            cursor += random.nextInt(7) - 3;
+            if (random.nextInt(50) == 0) {
+                cursor = random.nextInt(expected.size() + 1);
+            }
+            cursor = Math.max(0, Math.min(cursor, expected.size()));
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                list.addAtIndex(cursor, i + "a");
+                expected.add(cursor, i + "a");
+            } else {
+                int index = Math.min(cursor, expected.size() - 1);
+                assertEquals(expected.remove(index), list.removeAtIndex(index));
+            }
+        }
+        assertEquals(expected.size(), list.size());
+        assertArrayEquals(expected.toArray(), list.stream().toArray());
+
+        // No removed element is left in the gap
+        Object[] backingArray = list.getBackingArray();
+        int nonNull = 0;
+        for (Object element : backingArray) {
+            if (element != null) {
+                nonNull++;
+            }
+        }
+        assertEquals(list.size(), nonNull);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        list.addToBack("0a");
+        list.addToBack("1a");
+        list.clear();
+        assertEquals(0, list.size());
+        assertEquals(GapArrayList.INITIAL_CAPACITY, capacity());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        list.addToBack("0a");
+        list.get(1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveEmpty() {
+        list.removeFromFront();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        list.addAtIndex(0, null);
+    }
+
+    /**
+     * Returns the length of the backing array.
+     *
+     * @return the capacity of the list
+     */
+    private int capacity() {
+        Object[] backingArray = list.getBackingArray();
+        return backingArray.length;
+    }
+}
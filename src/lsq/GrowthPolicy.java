@@ -0,0 +1,83 @@
+package lsq;
+
+/**
+ * Decides how much larger the backing array of an ArrayList or ArrayStack
+ * gets when it is full.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public interface GrowthPolicy {
+
+    /**
+     * The largest array length the policies grow to.
+     */
+    int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * Doubles the capacity until the elements fit.
+     */
+    GrowthPolicy DOUBLING = (capacity, minCapacity) -> {
+        long newCapacity = Math.max(capacity, 1);
+        while (newCapacity < minCapacity) {
+            newCapacity *= 2;
+        }
+        return checkLength(newCapacity, minCapacity);
+    };
+
+    /**
+     * Grows the capacity by half until the elements fit.
+     */
+    GrowthPolicy ONE_AND_A_HALF = (capacity, minCapacity) -> {
+        long newCapacity = Math.max(capacity, 2);
+        while (newCapacity < minCapacity) {
+            newCapacity += newCapacity >> 1;
+        }
+        return checkLength(newCapacity, minCapacity);
+    };
+
+    /**
+     * Returns the new capacity of a full backing array.
+     *
+     * @param capacity    the current capacity
+     * @param minCapacity the capacity needed, greater than capacity
+     * @return the new capacity, at least minCapacity
+     * @throws java.lang.IllegalStateException if minCapacity > MAX_ARRAY_LENGTH
+     */
+    int grow(int capacity, int minCapacity);
+
+    /**
+     * Returns a policy that grows the capacity in fixed increments, which
+     * keeps the slack of huge arrays bounded.
+     *
+     * @param chunk the number of elements added at a time
+     * @return the policy
+     * @throws java.lang.IllegalArgumentException if chunk < 1
+     */
+    static GrowthPolicy chunked(int chunk) {
+        //The Exception
+        if (chunk < 1) {
+            throw new IllegalArgumentException("The chunk should be >= 1, but was " + chunk + ".");
+        }
+        return (capacity, minCapacity) -> {
+            long chunks = ((long) minCapacity - capacity + chunk - 1) / chunk;
+            return checkLength(capacity + chunks * chunk, minCapacity);
+        };
+    }
+
+    /**
+     * Caps a grown capacity at MAX_ARRAY_LENGTH.
+     *
+     * @param capacity    the grown capacity
+     * @param minCapacity the capacity needed
+     * @return the capacity to use
+     * @throws java.lang.IllegalStateException if minCapacity > MAX_ARRAY_LENGTH
+     */
+    private static int checkLength(long capacity, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_LENGTH) {
+            throw new IllegalStateException("The array cannot hold " + Integer.toUnsignedString(minCapacity)
+                + " elements.");
+        }
+        return (int) Math.min(capacity, MAX_ARRAY_LENGTH);
+    }
+}
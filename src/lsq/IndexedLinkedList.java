@@ -0,0 +1,535 @@
+package lsq;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Implementation of an indexable skip list with the API of DoublyLinkedList.
+ *
+ * Level 0 is a doubly linked list of every element. Each higher level links
+ * about a quarter of the nodes of the level below it, and every link stores
+ * its span, the number of positions it skips, so get, addAtIndex and
+ * removeAtIndex walk the express levels down to an index in expected
+ * O(log n) steps instead of up to n / 2.
+ *
+ * The links out of the head are stored relative to a shift counter that
+ * moves every position at once, and the last node of each level is kept
+ * with its position, so adding and removing at either end only touches the
+ * levels of the node being added or removed.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ *
+ */
+public class IndexedLinkedList<T> {
+
+    private static final int MAX_LEVEL = 16;
+
+    // A sentinel before the front of the list, linked into every level
+    private final IndexedLinkedListNode<T> head = new IndexedLinkedListNode<>(null, MAX_LEVEL);
+    private final IndexedLinkedListNode<T>[] last =
+        (IndexedLinkedListNode<T>[]) new IndexedLinkedListNode<?>[MAX_LEVEL];
+    private final int[] lastPosition = new int[MAX_LEVEL];
+    private int levels;
+    private int shift;
+    private int size;
+
+    // The predecessors at each level found by the last call to search, for add and remove only
+    private final IndexedLinkedListNode<T>[] update =
+        (IndexedLinkedListNode<T>[]) new IndexedLinkedListNode<?>[MAX_LEVEL];
+    private final int[] updatePosition = new int[MAX_LEVEL];
+
+    /**
+     * Constructs a new, empty IndexedLinkedList.
+     */
+    public IndexedLinkedList() {
+        levels = 1;
+        last[0] = head;
+    }
+
+    /**
+     * Adds the element to the specified index.
+     *
+     * Must be O(1) for indices 0 and size and expected O(log n) for all
+     * other cases.
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        // The Exceptions
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("The index is outside the range of the indexed linked list"
+                + "It must be between 0 and " + size + ".");
+        } else if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        if (index == 0) { //Adds to the front
+            addToFront(data);
+            return;
+        } else if (index == size) { //Adds to the back
+            addToBack(data);
+            return;
+        }
+
+        search(index);
+        int height = randomHeight();
+        IndexedLinkedListNode<T> aNode = new IndexedLinkedListNode<>(data, height);
+        for (int level = levels; level < height; level++) {
+            update[level] = head;
+            updatePosition[level] = -1;
+        }
+        raiseLevels(height);
+
+        for (int level = 0; level < levels; level++) {
+            IndexedLinkedListNode<T> previous = update[level];
+            IndexedLinkedListNode<T> next = previous.getNext(level);
+            if (next != null) { // The last node of the level is after the index
+                setLast(level, last[level], lastPosition(level) + 1);
+            }
+            if (level < height) { // Links the node in between
+                aNode.setNext(level, next);
+                aNode.setPrevious(level, previous);
+                previous.setNext(level, aNode);
+                if (next == null) {
+                    setLast(level, aNode, index);
+                } else {
+                    setSpan(aNode, level, updatePosition[level] + span(previous, level) + 1 - index);
+                    next.setPrevious(level, aNode);
+                }
+                setSpan(previous, level, index - updatePosition[level]);
+            } else if (next != null) { // Jumps over the node
+                setSpan(previous, level, span(previous, level) + 1);
+            }
+        }
+        size++;
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Must be expected O(1).
+     *
+     * @param data the data to add to the front of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        int height = randomHeight();
+        IndexedLinkedListNode<T> aNode = new IndexedLinkedListNode<>(data, height);
+        raiseLevels(height);
+        shift++; // Every position moves back one
+
+        for (int level = 0; level < height; level++) {
+            IndexedLinkedListNode<T> first = head.getNext(level);
+            aNode.setNext(level, first);
+            aNode.setPrevious(level, head);
+            if (first == null) {
+                setLast(level, aNode, 0);
+            } else {
+                setSpan(aNode, level, span(head, level) - 1);
+                first.setPrevious(level, aNode);
+            }
+            head.setNext(level, aNode);
+            setSpan(head, level, 1);
+        }
+        size++;
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Must be expected O(1).
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        int height = randomHeight();
+        IndexedLinkedListNode<T> aNode = new IndexedLinkedListNode<>(data, height);
+        raiseLevels(height);
+
+        for (int level = 0; level < height; level++) {
+            IndexedLinkedListNode<T> previous = last[level];
+            previous.setNext(level, aNode);
+            aNode.setPrevious(level, previous);
+            setSpan(previous, level, size - lastPosition(level));
+            setLast(level, aNode, size);
+        }
+        size++;
+    }
+
+    /**
+     * Removes and returns the element at the specified index.
+     *
+     * Must be O(1) for indices 0 and size - 1 and expected O(log n) for all
+     * other cases.
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T removeAtIndex(int index) {
+        //The Exception
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index is outside the range of the indexed linked list"
+                + "It must be between 0 and " + size + ".");
+        }
+
+        if (index == 0) { //Removed from front
+            return removeFromFront();
+        } else if (index == size - 1) { //Removed from back
+            return removeFromBack();
+        }
+
+        search(index);
+        IndexedLinkedListNode<T> removed = update[0].getNext(0);
+        for (int level = 0; level < levels; level++) {
+            IndexedLinkedListNode<T> previous = update[level];
+            if (level < removed.getHeight()) { // Unlinks the node
+                IndexedLinkedListNode<T> next = removed.getNext(level);
+                previous.setNext(level, next);
+                if (next == null) {
+                    setLast(level, previous, updatePosition[level]);
+                } else {
+                    setSpan(previous, level, span(previous, level) + span(removed, level) - 1);
+                    next.setPrevious(level, previous);
+                    setLast(level, last[level], lastPosition(level) - 1);
+                }
+            } else if (previous.getNext(level) != null) { // Jumped over the node
+                setSpan(previous, level, span(previous, level) - 1);
+                setLast(level, last[level], lastPosition(level) - 1);
+            }
+        }
+        size--;
+        lowerLevels();
+        return removed.getData();
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * Must be expected O(1).
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromFront() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The list is already empty");
+        }
+
+        IndexedLinkedListNode<T> removed = head.getNext(0);
+        shift--; // Every position moves forward one
+        for (int level = 0; level < removed.getHeight(); level++) {
+            IndexedLinkedListNode<T> next = removed.getNext(level);
+            head.setNext(level, next);
+            if (next == null) {
+                last[level] = head;
+            } else {
+                setSpan(head, level, span(removed, level));
+                next.setPrevious(level, head);
+            }
+        }
+        size--;
+        lowerLevels();
+        return removed.getData();
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * Must be expected O(1).
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromBack() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The list is already empty");
+        }
+
+        IndexedLinkedListNode<T> removed = last[0];
+        for (int level = 0; level < removed.getHeight(); level++) {
+            IndexedLinkedListNode<T> previous = removed.getPrevious(level);
+            setLast(level, previous, size - 1 - span(previous, level));
+            previous.setNext(level, null);
+        }
+        size--;
+        lowerLevels();
+        return removed.getData();
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * Must be O(1) for indices 0 and size - 1 and expected O(log n) for all
+     * other cases.
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        //The Exception
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index is outside the range of the indexed linked list"
+                + "It must be between 0 and " + size + ".");
+        }
+
+        if (index == size - 1) { //If you want the last element in the list
+            return last[0].getData();
+        }
+        return find(index).getData();
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list.
+     *
+     * Clears all data and resets the size.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        for (int level = 0; level < levels; level++) {
+            head.setNext(level, null);
+        }
+        levels = 1;
+        last[0] = head;
+        shift = 0;
+        size = 0;
+    }
+
+    /**
+     * Removes and returns the last copy of the given data from the list.
+     *
+     * It does not return the same data that was passed in. It returns the data that
+     * was stored in the list.
+     *
+     * Must be O(1) if data is in the tail and O(n) for all other cases.
+     *
+     * @param data the data to be removed from the list
+     * @return the data that was removed
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if data is not found
+     */
+    public T removeLastOccurrence(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        int index = size - 1;
+        for (IndexedLinkedListNode<T> current = last[0]; current != head; current = current.getPrevious(0)) {
+            if (data.equals(current.getData())) {
+                return removeAtIndex(index);
+            }
+            index--;
+        }
+        throw new NoSuchElementException("The data was not found in the list");
+    }
+
+    /**
+     * Returns an array representation of the linked list. If the list is
+     * size 0, returns an empty array.
+     *
+     * Must be O(n) for all cases.
+     *
+     * @return an array of length size holding all of the objects in the
+     * list in the same order
+     */
+    public Object[] toArray() {
+        Object[] theArray = new Object[size];
+        int i = 0;
+        for (IndexedLinkedListNode<T> current = head.getNext(0); current != null; current = current.getNext(0)) {
+            theArray[i] = current.getData();
+            i++;
+        }
+        return theArray;
+    }
+
+    /**
+     * Walks the levels from the top down to the node at the specified
+     * index, without recording the predecessors, so reads change nothing.
+     *
+     * @param index the index to find, between 0 and size - 1
+     * @return the node at the index
+     */
+    private IndexedLinkedListNode<T> find(int index) {
+        IndexedLinkedListNode<T> current = head;
+        int position = -1;
+        for (int level = levels - 1; level >= 0; level--) {
+            IndexedLinkedListNode<T> next = current.getNext(level);
+            while (next != null && position + span(current, level) <= index) {
+                position += span(current, level);
+                current = next;
+                next = current.getNext(level);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Walks the levels from the top down to the last node before the
+     * specified index, leaving that node and its position for each level in
+     * update and updatePosition.
+     *
+     * @param index the index to search for, between 0 and size
+     */
+    private void search(int index) {
+        IndexedLinkedListNode<T> current = head;
+        int position = -1;
+        for (int level = levels - 1; level >= 0; level--) {
+            IndexedLinkedListNode<T> next = current.getNext(level);
+            while (next != null && position + span(current, level) < index) {
+                position += span(current, level);
+                current = next;
+                next = current.getNext(level);
+            }
+            update[level] = current;
+            updatePosition[level] = position;
+        }
+    }
+
+    /**
+     * Returns the span of a node at a level. Every span at level 0 is 1,
+     * and the spans of the head are stored relative to the shift.
+     *
+     * @param node  the node
+     * @param level the level
+     * @return the span
+     */
+    private int span(IndexedLinkedListNode<T> node, int level) {
+        if (level == 0) {
+            return 1;
+        }
+        return node == head ? node.getSpan(level) + shift : node.getSpan(level);
+    }
+
+    /**
+     * Sets the span of a node at a level.
+     *
+     * @param node  the node
+     * @param level the level
+     * @param span  the new span
+     */
+    private void setSpan(IndexedLinkedListNode<T> node, int level, int span) {
+        if (level > 0) {
+            node.setSpan(level, node == head ? span - shift : span);
+        }
+    }
+
+    /**
+     * Returns the position of the last node at a level, or -1 if the level
+     * is empty.
+     *
+     * @param level the level
+     * @return the position of the last node
+     */
+    private int lastPosition(int level) {
+        return last[level] == head ? -1 : lastPosition[level] + shift;
+    }
+
+    /**
+     * Sets the last node at a level and its position.
+     *
+     * @param level    the level
+     * @param node     the new last node
+     * @param position the position of the node
+     */
+    private void setLast(int level, IndexedLinkedListNode<T> node, int position) {
+        last[level] = node;
+        lastPosition[level] = position - shift;
+    }
+
+    /**
+     * Adds empty levels until the list has at least height levels.
+     *
+     * @param height the number of levels needed
+     */
+    private void raiseLevels(int height) {
+        while (levels < height) {
+            head.setNext(levels, null);
+            last[levels] = head;
+            levels++;
+        }
+    }
+
+    /**
+     * Drops the empty levels at the top of the list.
+     */
+    private void lowerLevels() {
+        while (levels > 1 && head.getNext(levels - 1) == null) {
+            levels--;
+        }
+    }
+
+    /**
+     * Returns a random height for a new node, each level being linked with
+     * a probability of 1/4.
+     *
+     * @return a height between 1 and MAX_LEVEL
+     */
+    private static int randomHeight() {
+        int random = ThreadLocalRandom.current().nextInt() | (1 << (2 * MAX_LEVEL - 2));
+        return 1 + Integer.numberOfTrailingZeros(random) / 2;
+    }
+
+    /**
+     * Returns the first node of the list.
+     *
+     * For grading purposes only.
+     *
+     * @return the node at the front of the list
+     */
+    public IndexedLinkedListNode<T> getHead() {
+        return head.getNext(0);
+    }
+
+    /**
+     * Returns the last node of the list.
+     *
+     * For grading purposes only.
+     *
+     * @return the node at the back of the list
+     */
+    public IndexedLinkedListNode<T> getTail() {
+        return size == 0 ? null : last[0];
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,139 @@
+package lsq;
+
+/**
+ * Node class used for implementing the IndexedLinkedList.
+ *
+ * A node of height h is linked into the lowest h levels of the list. At
+ * each of those levels it keeps the next and previous node and the span,
+ * the number of positions from this node to the next one. Level 0 links
+ * are plain fields and every span there is 1, so the three quarters of the
+ * nodes that are only in level 0 do not allocate any arrays.
+ */
+public class IndexedLinkedListNode<T> {
+
+    private final T data;
+    private IndexedLinkedListNode<T> next;
+    private IndexedLinkedListNode<T> previous;
+    private final IndexedLinkedListNode<T>[] upperNext;
+    private final IndexedLinkedListNode<T>[] upperPrevious;
+    private final int[] upperSpan;
+
+    /**
+     * Constructs a new, unlinked IndexedLinkedListNode.
+     *
+     * @param data   the data stored in the new node
+     * @param height the number of levels the node is linked into
+     */
+    IndexedLinkedListNode(T data, int height) {
+        this.data = data;
+        if (height == 1) {
+            upperNext = null;
+            upperPrevious = null;
+            upperSpan = null;
+        } else {
+            upperNext = (IndexedLinkedListNode<T>[]) new IndexedLinkedListNode<?>[height - 1];
+            upperPrevious = (IndexedLinkedListNode<T>[]) new IndexedLinkedListNode<?>[height - 1];
+            upperSpan = new int[height - 1];
+        }
+    }
+
+    /**
+     * Gets the data.
+     *
+     * @return the data
+     */
+    T getData() {
+        return data;
+    }
+
+    /**
+     * Gets the number of levels the node is linked into.
+     *
+     * @return the height of the node
+     */
+    int getHeight() {
+        return upperNext == null ? 1 : upperNext.length + 1;
+    }
+
+    /**
+     * Gets the next node in the list.
+     *
+     * @return the next node
+     */
+    IndexedLinkedListNode<T> getNext() {
+        return next;
+    }
+
+    /**
+     * Gets the next node at a level.
+     *
+     * @param level the level, less than the height
+     * @return the next node at the level
+     */
+    IndexedLinkedListNode<T> getNext(int level) {
+        return level == 0 ? next : upperNext[level - 1];
+    }
+
+    /**
+     * Gets the previous node at a level.
+     *
+     * @param level the level, less than the height
+     * @return the previous node at the level
+     */
+    IndexedLinkedListNode<T> getPrevious(int level) {
+        return level == 0 ? previous : upperPrevious[level - 1];
+    }
+
+    /**
+     * Gets the number of positions to the next node at a level.
+     *
+     * @param level the level, between 1 and the height - 1
+     * @return the span at the level
+     */
+    int getSpan(int level) {
+        return upperSpan[level - 1];
+    }
+
+    /**
+     * Sets the next node at a level.
+     *
+     * @param level the level, less than the height
+     * @param node  the new next node
+     */
+    void setNext(int level, IndexedLinkedListNode<T> node) {
+        if (level == 0) {
+            next = node;
+        } else {
+            upperNext[level - 1] = node;
+        }
+    }
+
+    /**
+     * Sets the previous node at a level.
+     *
+     * @param level the level, less than the height
+     * @param node  the new previous node
+     */
+    void setPrevious(int level, IndexedLinkedListNode<T> node) {
+        if (level == 0) {
+            previous = node;
+        } else {
+            upperPrevious[level - 1] = node;
+        }
+    }
+
+    /**
+     * Sets the number of positions to the next node at a level.
+     *
+     * @param level the level, between 1 and the height - 1
+     * @param span  the new span
+     */
+    void setSpan(int level, int span) {
+        upperSpan[level - 1] = span;
+    }
+
+    @Override
+    public String toString() {
+        return "Node containing: " + data;
+    }
+}
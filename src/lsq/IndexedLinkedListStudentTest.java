@@ -0,0 +1,180 @@
+package lsq;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This is a basic set of unit tests for IndexedLinkedList.
+ */
+public class IndexedLinkedListStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int CONCURRENT_TIMEOUT = 5000;
+    private IndexedLinkedList<String> list;
+
+    @Before
+    public void setUp() {
+        list = new IndexedLinkedList<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        assertNull(list.getHead());
+        assertNull(list.getTail());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAtIndex() {
+        list.addAtIndex(0, "2a"); // 2a
+        list.addAtIndex(0, "1a"); // 1a, 2a
+        list.addAtIndex(2, "4a"); // 1a, 2a, 4a
+        list.addAtIndex(2, "3a"); // 1a, 2a, 3a, 4a
+        list.addAtIndex(0, "0a"); // 0a, 1a, 2a, 3a, 4a
+
+        assertEquals(5, list.size());
+        assertArrayEquals(new Object[]{"0a", "1a", "2a", "3a", "4a"}, list.toArray());
+        assertEquals("0a", list.getHead().getData());
+        assertEquals("4a", list.getTail().getData());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i + "a", list.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveAtIndex() {
+        for (int i = 0; i < 6; i++) {
+            list.addToBack(i + "a"); // 0a, 1a, 2a, 3a, 4a, 5a
+        }
+
+        assertEquals("2a", list.removeAtIndex(2)); // 0a, 1a, 3a, 4a, 5a
+        assertEquals("0a", list.removeAtIndex(0)); // 1a, 3a, 4a, 5a
+        assertEquals("5a", list.removeAtIndex(3)); // 1a, 3a, 4a
+
+        assertArrayEquals(new Object[]{"1a", "3a", "4a"}, list.toArray());
+        assertEquals("4a", list.get(2));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveFromFrontAndBack() {
+        list.addToBack("1a");
+        list.addToFront("0a");
+        list.addToBack("2a");
+
+        assertEquals("0a", list.removeFromFront());
+        assertEquals("2a", list.removeFromBack());
+        assertEquals("1a", list.removeFromBack());
+        assertTrue(list.isEmpty());
+        assertNull(list.getHead());
+        assertNull(list.getTail());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        list.removeFromFront();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveLastOccurrence() {
+        list.addToBack("0a");
+        list.addToBack("1a");
+        list.addToBack("0a");
+        list.addToBack("2a");
+
+        String toRemove = new String("0a");
+        assertEquals("0a", list.removeLastOccurrence(toRemove));
+        assertArrayEquals(new Object[]{"0a", "1a", "2a"}, list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        list.addToBack("0a");
+        list.get(-1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRandomOperations() {
+        java.util.ArrayList<String> expected = new java.util.ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 4000; i++) {
+            String data = i + "a";
+            int operation = expected.isEmpty() ? 0 : random.nextInt(7);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, data);
+                list.addAtIndex(index, data);
+            } else if (operation == 1) {
+                expected.add(0, data);
+                list.addToFront(data);
+            } else if (operation == 2) {
+                expected.add(data);
+                list.addToBack(data);
+            } else if (operation == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.removeAtIndex(index));
+            } else if (operation == 4) {
+                assertEquals(expected.remove(0), list.removeFromFront());
+            } else if (operation == 5) {
+                assertEquals(expected.remove(expected.size() - 1), list.removeFromBack());
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), list.get(index));
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        assertArrayEquals(expected.toArray(), list.toArray());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        list.addToBack("0a");
+        list.addToBack("1a");
+        list.clear();
+        assertEquals(0, list.size());
+        assertNull(list.getHead());
+        list.addToFront("2a");
+        assertEquals("2a", list.get(0));
+    }
+
+    @Test(timeout = CONCURRENT_TIMEOUT)
+    public void testConcurrentReaders() throws InterruptedException {
+        for (int i = 0; i < 1000; i++) {
+            list.addToBack(i + "a");
+        }
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        // get only reads, so readers of a list nobody writes to never see each other
+        Thread[] readers = new Thread[3];
+        for (int t = 0; t < readers.length; t++) {
+            final int seed = t;
+            readers[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int n = 0; n < 100000; n++) {
+                    int index = random.nextInt(999);
+                    if (!list.get(index).equals(index + "a")) {
+                        failure.set("Saw " + list.get(index) + " at " + index);
+                    }
+                }
+            });
+            readers[t].start();
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertNull(failure.get());
+    }
+}
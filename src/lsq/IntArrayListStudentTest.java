@@ -0,0 +1,121 @@
+// Generated by templates/generate.sh from PrimitiveArrayListStudentTest.java.template, do not edit.
+package lsq;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for IntArrayList.
+ */
+public class IntArrayListStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private IntArrayList list;
+
+    @Before
+    public void setUp() {
+        list = new IntArrayList();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, list.size());
+        assertArrayEquals(new int[IntArrayList.INITIAL_CAPACITY],
+                list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAtIndex() {
+        list.addAtIndex(0, 2);   // 2
+        list.addAtIndex(0, 1);   // 1, 2
+        list.addAtIndex(2, 4);   // 1, 2, 4
+        list.addAtIndex(2, 3);   // 1, 2, 3, 4
+        list.addAtIndex(0, 0);   // 0, 1, 2, 3, 4
+
+        assertEquals(5, list.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, list.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddToFrontAndBack() {
+        list.addToBack(2);      // 2
+        list.addToFront(1);     // 1, 2
+        list.addToBack(3);      // 1, 2, 3
+        list.addToFront(0);     // 0, 1, 2, 3
+
+        assertEquals(4, list.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, list.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testResize() {
+        for (int i = 0; i < IntArrayList.INITIAL_CAPACITY + 1; i++) {
+            list.addToBack(i);
+        }
+
+        int[] expected = new int[IntArrayList.INITIAL_CAPACITY * 2];
+        for (int i = 0; i < IntArrayList.INITIAL_CAPACITY + 1; i++) {
+            expected[i] = i;
+        }
+        assertArrayEquals(expected, list.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGrowWrapped() {
+        for (int i = 1; i < IntArrayList.INITIAL_CAPACITY; i++) {
+            list.addToBack(i);
+        }
+        list.addToFront(0);      // full, wrapped around the end
+        list.addAtIndex(3, -1);  // grows and unwraps
+
+        assertEquals(IntArrayList.INITIAL_CAPACITY + 1, list.size());
+        assertEquals(2, list.get(2));
+        assertEquals(-1, list.get(3));
+        assertEquals(3, list.get(4));
+        assertEquals(IntArrayList.INITIAL_CAPACITY - 1, list.get(list.size() - 1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemove() {
+        for (int i = 0; i < 6; i++) {
+            list.addToBack(i);  // 0, 1, 2, 3, 4, 5
+        }
+
+        assertEquals(2, list.removeAtIndex(2));     // 0, 1, 3, 4, 5
+        assertEquals(0, list.removeFromFront());    // 1, 3, 4, 5
+        assertEquals(5, list.removeFromBack());     // 1, 3, 4
+
+        assertEquals(3, list.size());
+        assertEquals(1, list.get(0));
+        assertEquals(3, list.get(1));
+        assertEquals(4, list.get(2));
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        list.removeFromFront();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIsEmptyAndClear() {
+        assertTrue(list.isEmpty());
+        list.addToBack(0);
+        assertFalse(list.isEmpty());
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertArrayEquals(new int[IntArrayList.INITIAL_CAPACITY],
+                list.getBackingArray());
+    }
+}
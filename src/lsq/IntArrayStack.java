@@ -0,0 +1,111 @@
+package lsq;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementation of an ArrayStack of ints.
+ *
+ * Works like ArrayStack but stores the values unboxed in an int array.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ * 
+ */
+public class IntArrayStack {
+
+    /*
+     * The initial capacity of the IntArrayStack.
+     *
+     */
+    public static final int INITIAL_CAPACITY = 9;
+    private int[] backingArray;
+    private int size;
+
+    /**
+     * Constructs a new IntArrayStack.
+     */
+    public IntArrayStack() {
+        backingArray = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Adds the data to the top of the stack.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the top of the stack
+     */
+    public void push(int data) {
+        //Expanding the IntArrayStack
+        if (size + 1 > backingArray.length) {
+            int capacity = GrowthPolicy.DOUBLING.grow(backingArray.length, size + 1);
+            backingArray = Arrays.copyOf(backingArray, capacity);
+        }
+
+        // Pushing the data
+        backingArray[size] = data;
+        size++;
+    }
+
+    /**
+     * Removes and returns the data from the top of the stack.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the top of the stack
+     * @throws java.util.NoSuchElementException if the stack is empty
+     */
+    public int pop() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The IntArrayStack is already empty");
+        }
+
+        //Popping
+        final int removedData = backingArray[size - 1];
+        size--;
+        return removedData;
+    }
+
+    /**
+     * Returns the data from the top of the stack without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the data from the top of the stack
+     * @throws java.util.NoSuchElementException if the stack is empty
+     */
+    public int peek() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The IntArrayStack is empty, no data can be retrieved");
+        }
+
+        // Peeking
+        return backingArray[size - 1];
+    }
+
+    /**
+     * Returns the backing array of the stack.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the backing array of the stack
+     */
+    public int[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the size of the stack.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the size of the stack
+     */
+    public int size() {
+        return size;
+    }
+}
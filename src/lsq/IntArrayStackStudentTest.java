@@ -0,0 +1,52 @@
+package lsq;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for IntArrayStack.
+ */
+public class IntArrayStackStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private IntArrayStack array;
+
+    @Before
+    public void setup() {
+        array = new IntArrayStack();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPushPopPeek() {
+        array.push(0);  // 0
+        array.push(1);  // 0, 1
+        array.push(2);  // 0, 1, 2
+
+        assertEquals(3, array.size());
+        assertEquals(2, array.peek());
+        assertEquals(2, array.pop());   // 0, 1
+        assertEquals(1, array.pop());   // 0
+        assertEquals(1, array.size());
+        assertEquals(0, array.peek());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testResize() {
+        int[] expected = new int[IntArrayStack.INITIAL_CAPACITY * 2];
+        for (int i = 0; i < 11; i++) {
+            array.push(i);
+            expected[i] = i;
+        }
+        assertArrayEquals(expected, array.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testPopEmpty() {
+        array.pop();
+    }
+}
@@ -1,8 +1,23 @@
+package lsq;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
 /**
  * Node class used for implementing your linked queue data structure.
  */
 public class LinkedNode<T> {
 
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            NEXT = MethodHandles.lookup().findVarHandle(LinkedNode.class, "next", LinkedNode.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private T data;
     private LinkedNode<T> next;
 
@@ -62,6 +77,27 @@ public class LinkedNode<T> {
         this.next = next;
     }
 
+    /**
+     * Gets the next node with acquire semantics, so the data of the next
+     * node is visible to the calling thread.
+     *
+     * @return the next node
+     */
+    LinkedNode<T> getNextAcquire() {
+        return (LinkedNode<T>) NEXT.getAcquire(this);
+    }
+
+    /**
+     * Atomically sets the next node if it is currently the expected node.
+     *
+     * @param expected the node expected to be next
+     * @param next     the new next node
+     * @return true if the next node was set
+     */
+    boolean compareAndSetNext(LinkedNode<T> expected, LinkedNode<T> next) {
+        return NEXT.compareAndSet(this, expected, next);
+    }
+
 
     @Override
     public String toString() {
@@ -0,0 +1,415 @@
+package lsq;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementation of an LinkedQueue.
+ *
+ * Can optionally recycle the nodes of dequeued elements: they are kept in
+ * a bounded free list and reused by later enqueues, so a queue whose size
+ * stays within the pool does not allocate. Nodes returned by getHead and
+ * getTail must not be held on to in that mode, since they are reused.
+ *
+ * Iterates and streams from the front of the queue to the back. The queue
+ * must not be modified while it is being iterated.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public class LinkedQueue<T> implements Iterable<T> {
+
+
+    private LinkedNode<T> head;
+    private LinkedNode<T> tail;
+    private int size;
+
+    private final int maxPoolSize;
+    private LinkedNode<T> pool;
+    private int poolSize;
+
+    /**
+     * Constructs a new LinkedQueue that does not recycle nodes.
+     */
+    public LinkedQueue() {
+        this(0);
+    }
+
+    /**
+     * Constructs a new LinkedQueue that keeps up to maxPoolSize nodes of
+     * dequeued elements for reuse.
+     *
+     * @param maxPoolSize the maximum number of nodes kept for reuse
+     * @throws java.lang.IllegalArgumentException if maxPoolSize < 0
+     */
+    public LinkedQueue(int maxPoolSize) {
+        if (maxPoolSize < 0) {
+            throw new IllegalArgumentException("The pool size should be >= 0, but was "
+                + maxPoolSize + ".");
+        }
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    /**
+     * Adds the data to the back of the queue.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the back of the queue
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void enqueue(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        //Enqueue
+        LinkedNode<T> newNode = newNode(data);
+        if (size == 0) {
+            head = newNode;
+        } else {
+            tail.setNext(newNode);
+        }
+        tail = newNode;
+        size++;
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.LINKED_QUEUE.add();
+            CollectionMetrics.LINKED_QUEUE.depth(size);
+        }
+    }
+
+    /**
+     * Adds all of the data to the back of the queue, in array order.
+     *
+     * The new nodes are linked to each other first and then attached to the
+     * tail in one step, so the queue is left unchanged if an element is null.
+     *
+     * Must be O(k) for k elements.
+     *
+     * @param data the data to add to the back of the queue
+     * @throws java.lang.IllegalArgumentException if data or any element is null
+     */
+    public void enqueueAll(T[] data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        //Linking the batch
+        LinkedNode<T> first = null;
+        LinkedNode<T> last = null;
+        for (T element : data) {
+            if (element == null) {
+                throw new IllegalArgumentException("The data entered contained null");
+            }
+            LinkedNode<T> newNode = newNode(element);
+            if (first == null) {
+                first = newNode;
+            } else {
+                last.setNext(newNode);
+            }
+            last = newNode;
+        }
+        attach(first, last, data.length);
+    }
+
+    /**
+     * Adds all of the data to the back of the queue, in iteration order.
+     *
+     * The new nodes are linked to each other first and then attached to the
+     * tail in one step, so the queue is left unchanged if an element is null.
+     *
+     * Must be O(k) for k elements.
+     *
+     * @param data the data to add to the back of the queue
+     * @throws java.lang.IllegalArgumentException if data or any element is null
+     */
+    public void enqueueAll(Iterable<? extends T> data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        //Linking the batch
+        LinkedNode<T> first = null;
+        LinkedNode<T> last = null;
+        int count = 0;
+        for (T element : data) {
+            if (element == null) {
+                throw new IllegalArgumentException("The data entered contained null");
+            }
+            LinkedNode<T> newNode = newNode(element);
+            if (first == null) {
+                first = newNode;
+            } else {
+                last.setNext(newNode);
+            }
+            last = newNode;
+            count++;
+        }
+
+        attach(first, last, count);
+    }
+
+    /**
+     * Attaches a linked batch of nodes to the tail of the queue.
+     *
+     * @param first the first node of the batch, or null if it is empty
+     * @param last  the last node of the batch
+     * @param count the number of nodes in the batch
+     */
+    private void attach(LinkedNode<T> first, LinkedNode<T> last, int count) {
+        if (count == 0) {
+            return;
+        } else if (size == 0) {
+            head = first;
+        } else {
+            tail.setNext(first);
+        }
+        tail = last;
+        size += count;
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.LINKED_QUEUE.add();
+            CollectionMetrics.LINKED_QUEUE.depth(size);
+        }
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T dequeue() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The queue is already empty");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.LINKED_QUEUE.remove();
+        }
+
+        //Dequeue
+        final T removedData = head.getData();
+        LinkedNode<T> removedNode = head;
+        head = head.getNext();
+        recycle(removedNode);
+        size--;
+        if (size == 0) {
+            tail = null;
+        }
+        return removedData;
+    }
+
+    /**
+     * Removes up to max elements from the front of the queue and passes them
+     * to the consumer in queue order.
+     *
+     * The head is moved once after the batch. If the consumer throws, the
+     * element it threw on and the ones after it stay queued.
+     *
+     * Must be O(k) for k elements removed.
+     *
+     * @param consumer receives the removed data
+     * @param max      the maximum number of elements to remove
+     * @return the number of elements removed
+     * @throws java.lang.IllegalArgumentException if consumer is null or max < 0
+     */
+    public int drainTo(Consumer<? super T> consumer, int max) {
+        //The Exception
+        if (consumer == null) {
+            throw new IllegalArgumentException("The consumer entered was null");
+        } else if (max < 0) {
+            throw new IllegalArgumentException("The max should be >= 0, but was " + max + ".");
+        }
+
+        //Draining
+        LinkedNode<T> current = head;
+        int count = 0;
+        try {
+            while (count < max && current != null) {
+                consumer.accept(current.getData());
+                LinkedNode<T> drainedNode = current;
+                current = current.getNext();
+                recycle(drainedNode);
+                count++;
+            }
+        } finally {
+            head = current;
+            size -= count;
+            if (size == 0) {
+                tail = null;
+            }
+            if (CollectionMetrics.ENABLED) {
+                CollectionMetrics.LINKED_QUEUE.remove();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the data from the front of the queue without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the data located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T peek() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The queue is already empty");
+        }
+
+        if (CollectionMetrics.ENABLED) {
+            CollectionMetrics.LINKED_QUEUE.read();
+        }
+
+        //Peeking
+        return head.getData();
+    }
+
+    /**
+     * Clears the queue.
+     *
+     * Also drops the recycled nodes so their memory can be reclaimed.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        pool = null;
+        poolSize = 0;
+    }
+
+    /**
+     * Returns an iterator over the queue, from the front to the back.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private LinkedNode<T> next = head;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                //The Exception
+                if (next == null) {
+                    throw new NoSuchElementException("There are no more elements in the queue");
+                }
+
+                final T data = next.getData();
+                next = next.getNext();
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the queue, from the front to the back.
+     *
+     * Splits by copying growing batches of elements off the front into
+     * arrays, which split exactly from there.
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential stream over the queue, from the front to the
+     * back. Call parallel on it to process it on several threads.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a node holding the data, reusing a recycled node if there is one.
+     *
+     * @param data the data stored in the node
+     * @return the node
+     */
+    private LinkedNode<T> newNode(T data) {
+        if (pool == null) {
+            return new LinkedNode<>(data);
+        }
+        LinkedNode<T> node = pool;
+        pool = node.getNext();
+        poolSize--;
+        node.setData(data);
+        node.setNext(null);
+        return node;
+    }
+
+    /**
+     * Keeps a node that was removed from the queue for reuse, unless the
+     * pool is full.
+     *
+     * @param node the removed node
+     */
+    private void recycle(LinkedNode<T> node) {
+        if (poolSize < maxPoolSize) {
+            node.setData(null);
+            node.setNext(pool);
+            pool = node;
+            poolSize++;
+        }
+    }
+
+    /**
+     * Returns the head node of the queue.
+     *
+     * For grading purposes only.
+     *
+     * @return the node at the head of the queue
+     */
+    public LinkedNode<T> getHead() {
+        return head;
+    }
+
+    /**
+     * Returns the tail node of the queue.
+     *
+     * For grading purposes only.
+     *
+     * @return the node at the tail of the queue
+     */
+    public LinkedNode<T> getTail() {
+        return tail;
+    }
+
+    /**
+     * Returns the size of the queue.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        return size;
+    }
+}
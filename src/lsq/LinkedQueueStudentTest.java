@@ -1,3 +1,5 @@
+package lsq;
+
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -121,4 +123,77 @@ public class LinkedQueueStudentTest {
 
         assertSame(temp, linked.peek());
     }
-}
\ No newline at end of file
+
+    @Test(timeout = TIMEOUT)
+    public void testEnqueueAllDrainTo() {
+        linked.enqueue("0a");                                // 0a
+        linked.enqueueAll(new String[] {"1a", "2a"});        // 0a, 1a, 2a
+        linked.enqueueAll(java.util.Arrays.asList("3a", "4a")); // 0a, ..., 4a
+        assertEquals(5, linked.size());
+        assertEquals("4a", linked.getTail().getData());
+
+        java.util.List<String> drained = new java.util.ArrayList<>();
+        assertEquals(3, linked.drainTo(drained::add, 3));    // 3a, 4a
+        assertEquals(java.util.Arrays.asList("0a", "1a", "2a"), drained);
+        assertEquals(2, linked.size());
+        assertEquals("3a", linked.getHead().getData());
+
+        assertEquals(2, linked.drainTo(drained::add, 10));
+        assertEquals(0, linked.size());
+        assertNull(linked.getHead());
+        assertNull(linked.getTail());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEnqueueAllWithNull() {
+        linked.enqueue("0a");
+        try {
+            linked.enqueueAll(new String[] {"1a", null});
+        } catch (IllegalArgumentException e) {
+            // The queue is unchanged
+            assertEquals(1, linked.size());
+            assertNull(linked.getTail().getNext());
+            return;
+        }
+        throw new AssertionError("Expected an IllegalArgumentException");
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testNodeRecycling() {
+        linked = new LinkedQueue<>(4);
+        linked.enqueue("0a");
+        linked.enqueue("1a");
+        LinkedNode<String> removed = linked.getHead();
+
+        assertEquals("0a", linked.dequeue());   // 1a
+        linked.enqueue("2a");                   // 1a, 2a
+
+        // The detached node is reused for the new tail
+        assertSame(removed, linked.getTail());
+        assertEquals("2a", removed.getData());
+        assertNull(removed.getNext());
+        assertEquals("1a", linked.dequeue());
+        assertEquals("2a", linked.dequeue());
+
+        linked.clear();
+        assertEquals(0, linked.size());
+        assertNull(linked.getHead());
+        assertNull(linked.getTail());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIterationAndStream() {
+        for (int i = 0; i < 5; i++) {
+            linked.enqueue(i + "a");
+        }
+
+        Object[] expected = {"0a", "1a", "2a", "3a", "4a"};
+        java.util.List<String> iterated = new java.util.ArrayList<>();
+        for (String data : linked) {
+            iterated.add(data);
+        }
+        assertArrayEquals(expected, iterated.toArray());
+        assertArrayEquals(expected, linked.stream().parallel().toArray());
+        assertEquals(5, linked.spliterator().getExactSizeIfKnown());
+    }
+}
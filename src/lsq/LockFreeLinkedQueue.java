@@ -0,0 +1,157 @@
+package lsq;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of a lock-free LinkedQueue that any number of threads can
+ * enqueue to and dequeue from at the same time.
+ *
+ * Uses the Michael-Scott algorithm: head always points to a dummy node
+ * whose next node holds the front of the queue, and nodes are linked in
+ * with a compare-and-set on LinkedNode's next reference. The tail may lag
+ * one node behind, in which case the next thread to see it helps move it.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public class LockFreeLinkedQueue<T> {
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(LockFreeLinkedQueue.class, "head", LinkedNode.class);
+            TAIL = lookup.findVarHandle(LockFreeLinkedQueue.class, "tail", LinkedNode.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile LinkedNode<T> head;
+    private volatile LinkedNode<T> tail;
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Constructs a new, empty LockFreeLinkedQueue.
+     */
+    public LockFreeLinkedQueue() {
+        head = new LinkedNode<>(null);
+        tail = head;
+    }
+
+    /**
+     * Adds the data to the back of the queue.
+     *
+     * Must be O(1) when uncontended.
+     *
+     * @param data the data to add to the back of the queue
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void enqueue(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        //Enqueue
+        LinkedNode<T> newNode = new LinkedNode<>(data);
+        while (true) {
+            LinkedNode<T> last = tail;
+            LinkedNode<T> next = last.getNextAcquire();
+            if (next == null) {
+                if (last.compareAndSetNext(null, newNode)) {
+                    // Fails harmlessly if another thread already moved the tail
+                    TAIL.compareAndSet(this, last, newNode);
+                    size.increment();
+                    return;
+                }
+            } else {
+                // The tail is lagging behind, help move it forward
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue.
+     *
+     * Must be O(1) when uncontended.
+     *
+     * @return the data formerly located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T dequeue() {
+        while (true) {
+            LinkedNode<T> first = head;
+            LinkedNode<T> last = tail;
+            LinkedNode<T> next = first.getNextAcquire();
+            //The Exception
+            if (next == null) {
+                throw new NoSuchElementException("The queue is already empty");
+            }
+
+            if (first == last) {
+                // The tail is lagging behind, help move it forward
+                TAIL.compareAndSet(this, last, next);
+            } else {
+                //Dequeue, next becomes the new dummy node
+                final T removedData = next.getData();
+                if (HEAD.compareAndSet(this, first, next)) {
+                    next.setData(null);
+                    size.decrement();
+                    return removedData;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the data from the front of the queue without removing it.
+     *
+     * Must be O(1) when uncontended.
+     *
+     * @return the data located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T peek() {
+        while (true) {
+            LinkedNode<T> first = head;
+            LinkedNode<T> next = first.getNextAcquire();
+            //The Exception
+            if (next == null) {
+                throw new NoSuchElementException("The queue is already empty");
+            }
+
+            // A null means next was dequeued meanwhile, so try again
+            T data = next.getData();
+            if (data != null && first == head) {
+                return data;
+            }
+        }
+    }
+
+    /**
+     * Returns whether or not the queue is empty at the moment of the call.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return head.getNextAcquire() == null;
+    }
+
+    /**
+     * Returns an estimate of the size of the queue.
+     *
+     * The count is only exact while no other thread is modifying the queue.
+     *
+     * @return the estimated size of the queue
+     */
+    public int size() {
+        return (int) Math.max(0, size.sum());
+    }
+}
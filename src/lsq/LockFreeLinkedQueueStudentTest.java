@@ -0,0 +1,103 @@
+package lsq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for LockFreeLinkedQueue.
+ */
+public class LockFreeLinkedQueueStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int CONCURRENT_TIMEOUT = 5000;
+    private LockFreeLinkedQueue<String> linked;
+
+    @Before
+    public void setup() {
+        linked = new LockFreeLinkedQueue<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, linked.size());
+        assertTrue(linked.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEnqueueDequeue() {
+        String temp = "0a";
+
+        linked.enqueue(temp);    // 0a
+        linked.enqueue("1a");    // 0a, 1a
+        linked.enqueue("2a");    // 0a, 1a, 2a
+        assertEquals(3, linked.size());
+        assertFalse(linked.isEmpty());
+
+        assertSame(temp, linked.peek());
+        assertSame(temp, linked.dequeue());    // 1a, 2a
+        assertEquals("1a", linked.dequeue());  // 2a
+        assertEquals("2a", linked.dequeue());
+        assertEquals(0, linked.size());
+        assertTrue(linked.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testDequeueEmpty() {
+        linked.dequeue();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testEnqueueNull() {
+        linked.enqueue(null);
+    }
+
+    @Test(timeout = CONCURRENT_TIMEOUT)
+    public void testConcurrentProducersAndConsumers() throws InterruptedException {
+        final int threads = 4;
+        final int perThread = 10_000;
+        LockFreeLinkedQueue<Integer> queue = new LockFreeLinkedQueue<>();
+        AtomicIntegerArray seen = new AtomicIntegerArray(threads * perThread);
+
+        Thread[] workers = new Thread[threads * 2];
+        for (int t = 0; t < threads; t++) {
+            final int offset = t * perThread;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    queue.enqueue(offset + i);
+                }
+            });
+            workers[threads + t] = new Thread(() -> {
+                int taken = 0;
+                while (taken < perThread) {
+                    try {
+                        seen.incrementAndGet(queue.dequeue());
+                        taken++;
+                    } catch (NoSuchElementException e) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // Every element was dequeued exactly once
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals(1, seen.get(i));
+        }
+        assertEquals(0, queue.size());
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,321 @@
+// Generated by templates/generate.sh from PrimitiveArrayList.java.template, do not edit.
+package lsq;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Implementation of an ArrayList of longs backed by a circular long array.
+ *
+ * Works like ArrayList but stores the values unboxed, so each element takes
+ * 8 bytes and get does not follow a reference.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ *
+ */
+public class LongArrayList {
+
+    /**
+     * The initial capacity of the LongArrayList.
+     *
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    private long[] backingArray;
+    private int head;
+    private int size;
+
+    /**
+     * Constructs a new LongArrayList.
+     */
+    public LongArrayList() {
+        backingArray = new long[INITIAL_CAPACITY];
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds the element to the specified index.
+     *
+     * May require elements to be shifted. Shifts whichever side of the index
+     * holds fewer elements.
+     *
+     * Must be amortized O(1) for indices 0 and size and O(min(index,
+     * size - index)) for all other cases.
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public void addAtIndex(int index, long data) {
+        // The exceptions
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("The index is a negative number, use an "
+                    + "index inside the range of 0 and " + size + ".");
+        } else if (index > size) {
+            throw new IndexOutOfBoundsException("The index is greater than " + size + ", use an index"
+                    + " inside the range of 0 and " + size + ".");
+        }
+
+        if (size + 1 > backingArray.length) {
+            // Expanding the LongArrayList leaves the spot at index open
+            grow(index);
+        } else if (index < size - index) {
+            // Closer to the front, "shifts" the front elements to the left
+            head = physicalIndex(backingArray.length - 1);
+            copy(1, 0, index);
+        } else {
+            // Closer to the back, "shifts" the back elements to the right
+            copy(index, index + 1, size - index);
+        }
+        backingArray[physicalIndex(index)] = data;
+        size++;
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Moves the head back one spot instead of shifting elements.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the front of the list
+     */
+    public void addToFront(long data) {
+        // Grows the backing array and copies over data
+        if (size + 1 > backingArray.length) {
+            grow(0);
+        } else {
+            head = physicalIndex(backingArray.length - 1);
+        }
+
+        // Adding to the front
+        backingArray[head] = data;
+        size++;
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the back of the list
+     */
+    public void addToBack(long data) {
+        // Grows the backing array and copies over data
+        if (size + 1 > backingArray.length) {
+            grow(size);
+        }
+
+        // Adding to the back
+        backingArray[physicalIndex(size)] = data;
+        size++;
+    }
+
+    /**
+     * Removes and returns the element at the specified index.
+     *
+     * May require elements to be shifted. Shifts whichever side of the index
+     * holds fewer elements.
+     *
+     * Must be O(1) for indices 0 and size - 1 and O(min(index,
+     * size - index)) for all other cases.
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public long removeAtIndex(int index) {
+        // The exception
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index should be > 0 and <= " + size + ".");
+        }
+
+        final long dataRemoved = backingArray[physicalIndex(index)];
+        if (index < size - index - 1) {
+            // Closer to the front, "shifts" the front elements to the right
+            copy(0, 1, index);
+            head = physicalIndex(1);
+        } else {
+            // Closer to the back, "shifts" the back elements to the left
+            copy(index + 1, index, size - index - 1);
+        }
+        size--;
+        return dataRemoved;
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * Moves the head forward one spot instead of shifting elements.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public long removeFromFront() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is already empty");
+        }
+
+        //Removing from front
+        final long dataRemoved = backingArray[head];
+        head = physicalIndex(1);
+        size--;
+        return dataRemoved;
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public long removeFromBack() {
+        // The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The list is already empty");
+        }
+
+        // Removing from back
+        final long dataRemoved = backingArray[physicalIndex(size - 1)];
+        size--;
+        return dataRemoved;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public long get(int index) {
+        // The exception
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index should be > 0 and <= " + size + ".");
+        }
+
+        return backingArray[physicalIndex(index)];
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list.
+     *
+     * Resets the backing array to a new array of the initial capacity and resets the size.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        size = 0;
+        head = 0;
+        backingArray = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Translates an index of the list into an index of the backing array.
+     *
+     * @param index the index in the list, between 0 and 2 * capacity - 1
+     * @return the index in the backing array
+     */
+    private int physicalIndex(int index) {
+        int physical = head + index;
+        if (physical >= backingArray.length) {
+            physical -= backingArray.length;
+        }
+        return physical;
+    }
+
+    /**
+     * Copies a range of the list onto another range of the list, wrapping
+     * around the end of the backing array as needed.
+     *
+     * The ranges may overlap; the copy runs in the direction that reads
+     * every element before it is overwritten.
+     *
+     * @param from  the list index of the first element to copy
+     * @param to    the list index the first element is copied to
+     * @param count the number of elements to copy
+     */
+    private void copy(int from, int to, int count) {
+        int length = backingArray.length;
+        if (to < from) {
+            while (count > 0) {
+                int source = physicalIndex(from);
+                int destination = physicalIndex(to);
+                int run = Math.min(count, Math.min(length - source, length - destination));
+                System.arraycopy(backingArray, source, backingArray, destination, run);
+                from += run;
+                to += run;
+                count -= run;
+            }
+        } else {
+            while (count > 0) {
+                int source = physicalIndex(from + count - 1);
+                int destination = physicalIndex(to + count - 1);
+                int run = Math.min(count, Math.min(source + 1, destination + 1));
+                System.arraycopy(backingArray, source - run + 1, backingArray, destination - run + 1, run);
+                count -= run;
+            }
+        }
+    }
+
+    /**
+     * Makes a new Array with room for one more element, doubling its
+     * length, and copies over the data so the list starts at index 0 again,
+     * leaving the spot at gap open.
+     *
+     * @param gap the list index to leave open in the new array
+     * @throws java.lang.IllegalStateException if the list already holds
+     *                                         GrowthPolicy.MAX_ARRAY_LENGTH elements
+     */
+    private void grow(int gap) {
+        long[] anArray = new long[GrowthPolicy.DOUBLING.grow(backingArray.length, size + 1)];
+        int firstRun = Math.min(size, backingArray.length - head);
+        // Unwraps the two runs of the circular array around the gap
+        System.arraycopy(backingArray, head, anArray, 0, firstRun);
+        System.arraycopy(backingArray, 0, anArray, firstRun, size - firstRun);
+        System.arraycopy(anArray, gap, anArray, gap + 1, size - gap);
+        backingArray = anArray;
+        head = 0;
+    }
+
+    /**
+     * Returns the backing array of the list.
+     *
+     * For grading and benchmarking purposes only. The front of the list is
+     * not necessarily at index 0 of the array.
+     *
+     * @return the backing array of the list
+     */
+    public long[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,69 @@
+package lsq;
+
+/**
+ * Node class used for implementing the LongLinkedQueue.
+ *
+ * Each node holds a block of values instead of a single one, so the queue
+ * allocates one node per NODE_CAPACITY elements.
+ */
+public class LongLinkedNode {
+
+    /**
+     * The number of values stored in each node.
+     */
+    public static final int NODE_CAPACITY = 64;
+
+    private final long[] data;
+    private LongLinkedNode next;
+
+    /**
+     * Constructs a new, empty LongLinkedNode.
+     */
+    LongLinkedNode() {
+        data = new long[NODE_CAPACITY];
+    }
+
+    /**
+     * Gets the data.
+     *
+     * @param index the index of the value within the node
+     * @return the data
+     */
+    long getData(int index) {
+        return data[index];
+    }
+
+    /**
+     * Sets the data of the node.
+     *
+     * @param index the index of the value within the node
+     * @param value the new value
+     */
+    void setData(int index, long value) {
+        data[index] = value;
+    }
+
+    /**
+     * Gets the next node.
+     *
+     * @return the next node
+     */
+    LongLinkedNode getNext() {
+        return next;
+    }
+
+    /**
+     * Sets the next node.
+     *
+     * @param next the new next node
+     */
+    void setNext(LongLinkedNode next) {
+        this.next = next;
+    }
+
+
+    @Override
+    public String toString() {
+        return "Node containing " + NODE_CAPACITY + " values";
+    }
+}
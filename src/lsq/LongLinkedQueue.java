@@ -0,0 +1,124 @@
+package lsq;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Implementation of a LinkedQueue of longs.
+ *
+ * Works like LinkedQueue but stores the values unboxed, in nodes that each
+ * hold a block of LongLinkedNode.NODE_CAPACITY values.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public class LongLinkedQueue {
+
+
+    private LongLinkedNode head;
+    private LongLinkedNode tail;
+    private int headIndex;
+    private int tailIndex;
+    private int size;
+
+    /**
+     * Adds the data to the back of the queue.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the back of the queue
+     */
+    public void enqueue(long data) {
+        //Enqueue, linking a new node when the tail node is full
+        if (head == null) {
+            head = new LongLinkedNode();
+            tail = head;
+        } else if (tailIndex == LongLinkedNode.NODE_CAPACITY) {
+            LongLinkedNode newNode = new LongLinkedNode();
+            tail.setNext(newNode);
+            tail = newNode;
+            tailIndex = 0;
+        }
+        tail.setData(tailIndex, data);
+        tailIndex++;
+        size++;
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public long dequeue() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The queue is already empty");
+        }
+
+        //Dequeue, unlinking the head node once all of its values are read
+        final long removedData = head.getData(headIndex);
+        headIndex++;
+        size--;
+        if (size == 0) { // Reuses the last node instead of unlinking it
+            headIndex = 0;
+            tailIndex = 0;
+        } else if (headIndex == LongLinkedNode.NODE_CAPACITY) {
+            head = head.getNext();
+            headIndex = 0;
+        }
+        return removedData;
+    }
+
+    /**
+     * Returns the data from the front of the queue without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the data located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public long peek() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The queue is already empty");
+        }
+
+        //Peeking
+        return head.getData(headIndex);
+    }
+
+    /**
+     * Returns the head node of the queue.
+     *
+     * For grading purposes only.
+     *
+     * @return the node at the head of the queue
+     */
+    public LongLinkedNode getHead() {
+        return head;
+    }
+
+    /**
+     * Returns the tail node of the queue.
+     *
+     * For grading purposes only.
+     *
+     * @return the node at the tail of the queue
+     */
+    public LongLinkedNode getTail() {
+        return tail;
+    }
+
+    /**
+     * Returns the size of the queue.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,69 @@
+package lsq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for LongLinkedQueue.
+ */
+public class LongLinkedQueueStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private LongLinkedQueue linked;
+
+    @Before
+    public void setup() {
+        linked = new LongLinkedQueue();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, linked.size());
+        assertNull(linked.getHead());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEnqueueDequeue() {
+        linked.enqueue(0L);    // 0
+        linked.enqueue(1L);    // 0, 1
+        linked.enqueue(2L);    // 0, 1, 2
+
+        assertEquals(3, linked.size());
+        assertSame(linked.getHead(), linked.getTail());
+        assertEquals(0L, linked.peek());
+        assertEquals(0L, linked.dequeue());     // 1, 2
+        assertEquals(1L, linked.dequeue());     // 2
+        assertEquals(1, linked.size());
+        assertEquals(2L, linked.peek());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAcrossNodes() {
+        int count = 3 * LongLinkedNode.NODE_CAPACITY + 5;
+        for (long i = 0; i < count; i++) {
+            linked.enqueue(i);
+        }
+        assertNotSame(linked.getHead(), linked.getTail());
+
+        for (long i = 0; i < count; i++) {
+            assertEquals(i, linked.dequeue());
+        }
+        assertEquals(0, linked.size());
+
+        // The emptied queue keeps working
+        linked.enqueue(42L);
+        assertEquals(42L, linked.dequeue());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testDequeueEmpty() {
+        linked.dequeue();
+    }
+}
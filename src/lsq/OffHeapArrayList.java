@@ -0,0 +1,314 @@
+package lsq;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import sun.misc.Unsafe;
+
+/**
+ * Implementation of an ArrayList whose records are stored outside of the
+ * Java heap.
+ *
+ * Every record is encoded by a RecordCodec into a fixed number of bytes of
+ * a direct ByteBuffer, so the garbage collector sees a few buffer
+ * objects instead of one object per element. get decodes a new record on
+ * every call.
+ *
+ * The records are kept in chunks of at most 1 GB, and a record never spans
+ * two chunks. The first chunk doubles until it is full size, after which
+ * the list grows by whole chunks without copying, so the list is not held
+ * to the 2 GB of a single buffer.
+ *
+ * clear, close and grow free the buffers they drop on the spot, through
+ * the cleaner of the direct buffer, instead of waiting for the garbage
+ * collector to find the buffer objects. If the JVM does not give access to
+ * Unsafe, the dropped buffers are left to the garbage collector instead. A
+ * codec must not keep a buffer it was handed.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public class OffHeapArrayList<T> implements AutoCloseable {
+
+    /**
+     * The initial capacity of the OffHeapArrayList, in records.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    private static final int CHUNK_BYTES = 1 << 30;
+    // Java 17 has no supported way to free a direct buffer, Unsafe.invokeCleaner is the only one
+    private static final Unsafe UNSAFE = unsafe();
+
+    private final RecordCodec<T> codec;
+    private final int recordSize;
+    private final int chunkShift;
+    private final int chunkMask;
+    private ByteBuffer[] chunks;
+    private int size;
+
+    /**
+     * Constructs a new OffHeapArrayList.
+     *
+     * @param codec the codec that encodes the records
+     * @throws java.lang.IllegalArgumentException if codec is null or its record size is < 1
+     */
+    public OffHeapArrayList(RecordCodec<T> codec) {
+        this(codec, CHUNK_BYTES);
+    }
+
+    /**
+     * Constructs a new OffHeapArrayList with chunks of at most chunkBytes
+     * bytes, so tests can fill a chunk.
+     *
+     * @param codec      the codec that encodes the records
+     * @param chunkBytes the largest size of a chunk in bytes, at least 1
+     * @throws java.lang.IllegalArgumentException if codec is null or its record size is < 1
+     */
+    OffHeapArrayList(RecordCodec<T> codec, int chunkBytes) {
+        //The Exceptions
+        if (codec == null) {
+            throw new IllegalArgumentException("The codec entered was null");
+        } else if (codec.recordSize() < 1) {
+            throw new IllegalArgumentException("The record size should be >= 1, but was "
+                + codec.recordSize() + ".");
+        }
+
+        this.codec = codec;
+        recordSize = codec.recordSize();
+        // The number of records in a full chunk is a power of two, so an index splits with a shift
+        chunkShift = 31 - Integer.numberOfLeadingZeros(Math.max(1, chunkBytes / recordSize));
+        chunkMask = (1 << chunkShift) - 1;
+        chunks = new ByteBuffer[]{allocate(Math.min(INITIAL_CAPACITY, 1 << chunkShift))};
+        size = 0;
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.IllegalStateException    if the list is closed or cannot grow
+     */
+    public void addToBack(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+        checkOpen();
+
+        // Doubles the first chunk or adds another one
+        if (size == capacity()) {
+            grow();
+        }
+
+        //Adding to the back
+        codec.write(chunks[size >>> chunkShift], offset(size), data);
+        size++;
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     * @throws java.lang.IllegalStateException  if the list is closed
+     */
+    public T removeFromBack() {
+        checkOpen();
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The list is already empty");
+        }
+
+        size--;
+        return codec.read(chunks[size >>> chunkShift], offset(size));
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     * @throws java.lang.IllegalStateException     if the list is closed
+     */
+    public T get(int index) {
+        checkOpen();
+        //The Exception
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index should be >= 0 and < " + size + ".");
+        }
+
+        return codec.read(chunks[index >>> chunkShift], offset(index));
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list.
+     *
+     * Frees the chunks, starts over with one chunk of the initial capacity
+     * and resets the size. Reopens the list if it was closed.
+     *
+     * Must be O(1) per chunk.
+     */
+    public void clear() {
+        close();
+        chunks = new ByteBuffer[]{allocate(Math.min(INITIAL_CAPACITY, 1 << chunkShift))};
+    }
+
+    /**
+     * Closes the list, freeing the chunks. Every later call other than
+     * clear, isEmpty, size and close throws an IllegalStateException.
+     */
+    @Override
+    public void close() {
+        if (chunks != null) {
+            for (ByteBuffer chunk : chunks) {
+                free(chunk);
+            }
+            chunks = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns the number of records the chunks can hold without growing.
+     *
+     * @return the capacity of the list, or 0 if it is closed
+     */
+    public int capacity() {
+        if (chunks == null) {
+            return 0;
+        }
+        long records = ((long) (chunks.length - 1) << chunkShift)
+            + chunks[chunks.length - 1].capacity() / recordSize;
+        return (int) Math.min(records, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of bytes the chunks take off the heap.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the bytes allocated, or 0 if the list is closed
+     */
+    public long allocatedBytes() {
+        long bytes = 0;
+        if (chunks != null) {
+            for (ByteBuffer chunk : chunks) {
+                bytes += chunk.capacity();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the offset of a record in its chunk.
+     *
+     * @param index the index of the record
+     * @return the index of the first byte of the record in its chunk
+     */
+    private int offset(int index) {
+        return (index & chunkMask) * recordSize;
+    }
+
+    /**
+     * Allocates a direct buffer for a number of records, at most a chunk.
+     *
+     * @param records the number of records
+     * @return the new buffer
+     */
+    private ByteBuffer allocate(int records) {
+        return ByteBuffer.allocateDirect(records * recordSize).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Reallocates the first chunk at double capacity, up to a full chunk,
+     * copying over the records and freeing the old one. Adds a full chunk
+     * once the first one is full.
+     *
+     * @throws java.lang.IllegalStateException if the list already holds Integer.MAX_VALUE records
+     */
+    private void grow() {
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("The list is full, it holds " + size + " records.");
+        }
+
+        if (size <= chunkMask) {
+            ByteBuffer newChunk = allocate(Math.min(2 * size, chunkMask + 1));
+            ByteBuffer records = chunks[0].duplicate();
+            records.position(0).limit(size * recordSize);
+            newChunk.put(records);
+            free(chunks[0]);
+            chunks[0] = newChunk;
+        } else {
+            chunks = Arrays.copyOf(chunks, chunks.length + 1);
+            chunks[chunks.length - 1] = allocate(chunkMask + 1);
+        }
+    }
+
+    /**
+     * Frees the memory of a chunk. The chunk must not be used afterwards.
+     *
+     * @param chunk the chunk
+     */
+    private static void free(ByteBuffer chunk) {
+        if (UNSAFE != null) {
+            UNSAFE.invokeCleaner(chunk);
+        }
+    }
+
+    /**
+     * Returns the Unsafe instance of the JVM.
+     *
+     * @return the instance, or null if the JVM does not give access to it
+     */
+    private static Unsafe unsafe() {
+        try {
+            Field field = Unsafe.class.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return (Unsafe) field.get(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Throws if the list is closed.
+     */
+    private void checkOpen() {
+        if (chunks == null) {
+            throw new IllegalStateException("The list is closed");
+        }
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+}
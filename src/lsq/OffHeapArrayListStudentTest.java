@@ -0,0 +1,174 @@
+package lsq;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This is a basic set of unit tests for OffHeapArrayList.
+ */
+public class OffHeapArrayListStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private OffHeapArrayList<int[]> list;
+
+    /**
+     * Stores a point, an int[] of length 2, in 8 bytes.
+     */
+    private static final RecordCodec<int[]> POINT_CODEC = new RecordCodec<int[]>() {
+        @Override
+        public int recordSize() {
+            return 8;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, int[] record) {
+            buffer.putInt(offset, record[0]);
+            buffer.putInt(offset + 4, record[1]);
+        }
+
+        @Override
+        public int[] read(ByteBuffer buffer, int offset) {
+            return new int[]{buffer.getInt(offset), buffer.getInt(offset + 4)};
+        }
+    };
+
+    @Before
+    public void setUp() {
+        list = new OffHeapArrayList<>(POINT_CODEC);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        assertEquals(OffHeapArrayList.INITIAL_CAPACITY, list.capacity());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddToBackAndGet() {
+        for (int i = 0; i < 20; i++) {
+            list.addToBack(new int[]{i, -i});
+        }
+
+        assertEquals(20, list.size());
+        assertEquals(36, list.capacity());
+        for (int i = 0; i < 20; i++) {
+            int[] point = list.get(i);
+            assertEquals(i, point[0]);
+            assertEquals(-i, point[1]);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveFromBack() {
+        list.addToBack(new int[]{1, 2});
+        list.addToBack(new int[]{3, 4});
+
+        assertEquals(3, list.removeFromBack()[0]);
+        assertEquals(2, list.removeFromBack()[1]);
+        assertTrue(list.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        list.removeFromBack();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        list.addToBack(new int[]{1, 2});
+        list.get(1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        for (int i = 0; i < 20; i++) {
+            list.addToBack(new int[]{i, i});
+        }
+        list.clear();
+
+        assertEquals(0, list.size());
+        assertEquals(OffHeapArrayList.INITIAL_CAPACITY, list.capacity());
+        list.addToBack(new int[]{5, 6});
+        assertEquals(5, list.get(0)[0]);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalStateException.class)
+    public void testClose() {
+        list.addToBack(new int[]{1, 2});
+        list.close();
+
+        assertEquals(0, list.capacity());
+        assertTrue(list.isEmpty());
+        list.addToBack(new int[]{3, 4});
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testMemoryIsFreed() {
+        // Other buffers can only be freed meanwhile, so the drops are lower bounds
+        long before = directMemoryUsed();
+        for (int i = 0; i < 1000; i++) {
+            list.addToBack(new int[]{i, i});
+        }
+        long allocated = list.allocatedBytes();
+        assertEquals(1152 * 8, allocated);
+        assertTrue(directMemoryUsed() - before <= allocated);
+
+        long full = directMemoryUsed();
+        list.clear();
+        assertTrue(full - directMemoryUsed() >= allocated - list.allocatedBytes());
+
+        long cleared = directMemoryUsed();
+        long left = list.allocatedBytes();
+        list.close();
+        assertEquals(0, list.allocatedBytes());
+        assertTrue(cleared - directMemoryUsed() >= left);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGrowsPastFirstChunk() {
+        // A 64 byte chunk holds 8 points
+        list.close();
+        list = new OffHeapArrayList<>(POINT_CODEC, 64);
+        assertEquals(8, list.capacity());
+        for (int i = 0; i < 20; i++) {
+            list.addToBack(new int[]{i, -i});
+        }
+
+        assertEquals(24, list.capacity());
+        assertEquals(24 * 8, list.allocatedBytes());
+        for (int i = 19; i >= 0; i--) {
+            assertEquals(i, list.get(i)[0]);
+            assertEquals(-i, list.removeFromBack()[1]);
+        }
+        list.clear();
+        assertEquals(8, list.capacity());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testNullCodec() {
+        new OffHeapArrayList<int[]>(null);
+    }
+
+    /**
+     * Returns the bytes held by the direct buffers of the JVM.
+     *
+     * @return the direct memory used
+     */
+    private static long directMemoryUsed() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (pool.getName().equals("direct")) {
+                return pool.getMemoryUsed();
+            }
+        }
+        throw new IllegalStateException("The JVM has no direct buffer pool");
+    }
+}
@@ -0,0 +1,605 @@
+package lsq;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementation of an immutable ArrayList whose versions share structure.
+ *
+ * Every change returns a new list and leaves the old one as it was, so a
+ * list can be handed to another thread as is, in O(1). The elements are
+ * stored in a bit-partitioned trie of 32-wide nodes, so an index is looked
+ * up five bits at a time, plus a tail array of up to 32 elements that is
+ * only pushed into the trie when it is full. A change copies only the path
+ * from the root to the element, which makes get, set, addToBack and
+ * removeFromBack O(log32 n), and addToBack O(1) most of the time.
+ *
+ * Use a Builder to add many elements: it edits nodes it created in place
+ * instead of copying them.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public final class PersistentArrayList<T> implements Iterable<T> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private static final PersistentArrayList<?> EMPTY = new PersistentArrayList<>(0, BITS, EMPTY_NODE,
+            new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    /**
+     * Constructs a version of the list.
+     *
+     * @param size  the number of elements
+     * @param shift the number of bits of an index used above the leaves
+     * @param root  the root of the trie
+     * @param tail  the elements after the trie
+     */
+    private PersistentArrayList(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty list.
+     *
+     * @param <T> the type of the elements
+     * @return the empty list
+     */
+    public static <T> PersistentArrayList<T> empty() {
+        return (PersistentArrayList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a new Builder holding the elements of this list.
+     *
+     * Must be O(1).
+     *
+     * @return the builder
+     */
+    public Builder<T> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * Must be O(log32 n).
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        // The exception
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index should be >= 0 and < " + size + ", but was "
+                    + index + ".");
+        }
+
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns a list with the element at the specified index replaced.
+     *
+     * Must be O(log32 n).
+     *
+     * @param index the index of the element to replace
+     * @param data  the new data
+     * @return the new list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public PersistentArrayList<T> set(int index, T data) {
+        // The exceptions
+        if (data == null) {
+            throw new IllegalArgumentException("The data is null, use a T type data");
+        } else if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index should be >= 0 and < " + size + ", but was "
+                    + index + ".");
+        }
+
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = data;
+            return new PersistentArrayList<>(size, shift, root, newTail);
+        }
+        return new PersistentArrayList<>(size, shift, setInTrie(shift, root, index, data), tail);
+    }
+
+    /**
+     * Returns a list with the element added to the back.
+     *
+     * Must be O(1) while the tail has room and O(log32 n) otherwise.
+     *
+     * @param data the data to add to the back of the list
+     * @return the new list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public PersistentArrayList<T> addToBack(T data) {
+        // The exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data is null, use a T type data");
+        }
+
+        // Room in the tail
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = data;
+            return new PersistentArrayList<>(size + 1, shift, root, newTail);
+        }
+
+        // Pushes the full tail into the trie, adding a level if the trie is full
+        Node tailNode = new Node(null, tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(null, size, shift, root, tailNode);
+        }
+        return new PersistentArrayList<>(size + 1, newShift, newRoot, new Object[] {data});
+    }
+
+    /**
+     * Returns a list without its last element.
+     *
+     * Must be O(1) while the tail holds more than one element and
+     * O(log32 n) otherwise.
+     *
+     * @return the new list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public PersistentArrayList<T> removeFromBack() {
+        // The exception
+        if (size == 0) {
+            throw new NoSuchElementException("The list is already empty");
+        } else if (size == 1) {
+            return empty();
+        }
+
+        // More left in the tail
+        if (size - tailOffset(size) > 1) {
+            return new PersistentArrayList<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+
+        // Pulls the last leaf of the trie out as the new tail
+        Object[] newTail = leafFor(size - 2);
+        Node newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            // Drops a level the trie no longer needs
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentArrayList<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns an iterator over the list, from the front to the back.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException("The list has no more elements");
+                }
+                // Looks up each leaf once, not each element
+                if ((index & MASK) == 0) {
+                    leaf = leafFor(index);
+                }
+                return (T) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the list, from the front to the back.
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Returns a sequential stream over the list, from the front to the
+     * back.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of the first element in the tail.
+     *
+     * @param size the size of the list
+     * @return the number of elements in the trie
+     */
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Returns the leaf array that holds an index.
+     *
+     * @param index an index of the list
+     * @return the tail or the leaf of the trie
+     */
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        return leafInTrie(root, shift, index);
+    }
+
+    /**
+     * Walks down the trie to the leaf that holds an index.
+     *
+     * @param node  the root of the trie
+     * @param shift the shift of the root
+     * @param index an index stored in the trie
+     * @return the leaf array
+     */
+    private static Object[] leafInTrie(Node node, int shift, int index) {
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    /**
+     * Copies the path to an index and replaces the element there.
+     *
+     * @param level the shift of node
+     * @param node  the node to copy
+     * @param index the index to replace
+     * @param data  the new data
+     * @return the copy of node
+     */
+    private static Node setInTrie(int level, Node node, int index, Object data) {
+        Node copy = new Node(null, node.array.clone());
+        if (level == 0) {
+            copy.array[index & MASK] = data;
+        } else {
+            int child = (index >>> level) & MASK;
+            copy.array[child] = setInTrie(level - BITS, (Node) node.array[child], index, data);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the node to use for a write, node itself if it belongs to the
+     * edit and a copy belonging to the edit otherwise.
+     *
+     * @param edit the token of the Builder, or null for a persistent write
+     * @param node the node to write to
+     * @return the writable node
+     */
+    private static Node editable(Object edit, Node node) {
+        if (edit != null && node.edit == edit) {
+            return node;
+        }
+        return new Node(edit, node.array.clone());
+    }
+
+    /**
+     * Adds a full tail as the last leaf of the trie.
+     *
+     * @param edit     the token of the Builder, or null for a persistent write
+     * @param size     the size of the list before the add
+     * @param level    the shift of parent
+     * @param parent   the node to add under
+     * @param tailNode the node holding the full tail
+     * @return parent, or its copy, with the leaf added
+     */
+    private static Node pushTail(Object edit, int size, int level, Node parent, Node tailNode) {
+        Node result = editable(edit, parent);
+        int child = ((size - 1) >>> level) & MASK;
+        Node toInsert;
+        if (level == BITS) {
+            toInsert = tailNode;
+        } else if (parent.array[child] != null) {
+            toInsert = pushTail(edit, size, level - BITS, (Node) parent.array[child], tailNode);
+        } else {
+            toInsert = newPath(edit, level - BITS, tailNode);
+        }
+        result.array[child] = toInsert;
+        return result;
+    }
+
+    /**
+     * Builds a chain of single-child nodes down to a leaf.
+     *
+     * @param edit  the token of the Builder, or null for a persistent write
+     * @param level the shift of the top node of the chain
+     * @param node  the leaf
+     * @return the top node of the chain
+     */
+    private static Node newPath(Object edit, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node path = new Node(edit, new Object[WIDTH]);
+        path.array[0] = newPath(edit, level - BITS, node);
+        return path;
+    }
+
+    /**
+     * Removes the last leaf of the trie.
+     *
+     * @param level the shift of node
+     * @param node  the node to remove under
+     * @return a copy of node without the leaf, or null if it became empty
+     */
+    private Node popTail(int level, Node node) {
+        int child = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node newChild = popTail(level - BITS, (Node) node.array[child]);
+            if (newChild == null && child == 0) {
+                return null;
+            }
+            Node copy = new Node(null, node.array.clone());
+            copy.array[child] = newChild;
+            return copy;
+        } else if (child == 0) {
+            return null;
+        }
+        Node copy = new Node(null, node.array.clone());
+        copy.array[child] = null;
+        return copy;
+    }
+
+    /**
+     * A node of the trie, an array of 32 children or, at the bottom, 32
+     * elements.
+     *
+     * A node belongs to the Builder whose token is its edit; only that
+     * Builder may write to it, and only until it builds.
+     */
+    private static final class Node {
+
+        private final Object edit;
+        private final Object[] array;
+
+        /**
+         * Constructs a new Node.
+         *
+         * @param edit  the token of the Builder that may write to it, or null
+         * @param array the children or elements
+         */
+        private Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    /**
+     * A mutable list for building a PersistentArrayList quickly.
+     *
+     * Starts from the elements of a PersistentArrayList without copying
+     * them, and only copies a node the first time it writes to it; later
+     * writes to the same node are made in place. Must only be used by one
+     * thread, and not after build.
+     *
+     * @param <T> the type of the elements
+     */
+    public static final class Builder<T> {
+
+        private Object edit;
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        /**
+         * Constructs a new Builder holding the elements of a list.
+         *
+         * @param list the list to start from
+         */
+        private Builder(PersistentArrayList<T> list) {
+            edit = new Object();
+            size = list.size;
+            shift = list.shift;
+            root = editable(edit, list.root);
+            tail = Arrays.copyOf(list.tail, WIDTH);
+        }
+
+        /**
+         * Adds the element to the back of the list.
+         *
+         * Must be amortized O(1).
+         *
+         * @param data the data to add to the back of the list
+         * @return this builder
+         * @throws java.lang.IllegalArgumentException if data is null
+         * @throws java.lang.IllegalStateException    if the builder has built
+         */
+        public Builder<T> addToBack(T data) {
+            // The exceptions
+            checkEditable();
+            if (data == null) {
+                throw new IllegalArgumentException("The data is null, use a T type data");
+            }
+
+            // Room in the tail
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = data;
+                size++;
+                return this;
+            }
+
+            // Pushes the full tail into the trie, adding a level if the trie is full
+            Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = data;
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(edit, size, shift, root, tailNode);
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * Replaces the element at the specified index.
+         *
+         * Must be O(log32 n).
+         *
+         * @param index the index of the element to replace
+         * @param data  the new data
+         * @return this builder
+         * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+         * @throws java.lang.IllegalArgumentException  if data is null
+         * @throws java.lang.IllegalStateException     if the builder has built
+         */
+        public Builder<T> set(int index, T data) {
+            // The exceptions
+            checkEditable();
+            if (data == null) {
+                throw new IllegalArgumentException("The data is null, use a T type data");
+            } else if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("The index should be >= 0 and < " + size
+                        + ", but was " + index + ".");
+            }
+
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = data;
+                return this;
+            }
+            root = editable(edit, root);
+            Node node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                int child = (index >>> level) & MASK;
+                Node next = editable(edit, (Node) node.array[child]);
+                node.array[child] = next;
+                node = next;
+            }
+            node.array[index & MASK] = data;
+            return this;
+        }
+
+        /**
+         * Returns the element at the specified index.
+         *
+         * Must be O(log32 n).
+         *
+         * @param index the index of the element to get
+         * @return the data stored at the index
+         * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+         */
+        public T get(int index) {
+            // The exception
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("The index should be >= 0 and < " + size
+                        + ", but was " + index + ".");
+            }
+
+            if (index >= tailOffset(size)) {
+                return (T) tail[index & MASK];
+            }
+            return (T) leafInTrie(root, shift, index)[index & MASK];
+        }
+
+        /**
+         * Returns the size of the list being built.
+         *
+         * @return the size of the list
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the built list and ends the use of this builder.
+         *
+         * Must be O(1).
+         *
+         * @return the list
+         * @throws java.lang.IllegalStateException if the builder has built
+         */
+        public PersistentArrayList<T> build() {
+            checkEditable();
+            edit = null;
+            if (size == 0) {
+                return empty();
+            }
+            return new PersistentArrayList<>(size, shift, root, Arrays.copyOf(tail, size - tailOffset(size)));
+        }
+
+        /**
+         * Throws if the builder has built.
+         *
+         * @throws java.lang.IllegalStateException if the builder has built
+         */
+        private void checkEditable() {
+            //The Exception
+            if (edit == null) {
+                throw new IllegalStateException("The builder was already built");
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package lsq;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for PersistentArrayList.
+ */
+public class PersistentArrayListStudentTest {
+
+    private static final int TIMEOUT = 200;
+
+    // Past the tail, one full level of the trie and into the next one
+    private static final int SIZE = 32 + 32 * 32 + 100;
+
+    @Test(timeout = TIMEOUT)
+    public void testAddToBackAndGet() {
+        PersistentArrayList<Integer> list = PersistentArrayList.empty();
+        for (int i = 0; i < SIZE; i++) {
+            list = list.addToBack(i);
+            assertEquals(i + 1, list.size());
+        }
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(Integer.valueOf(i), list.get(i));
+        }
+
+        int expected = 0;
+        for (Integer element : list) {
+            assertEquals(Integer.valueOf(expected++), element);
+        }
+        assertEquals(SIZE, expected);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testVersionsAreUnchanged() {
+        PersistentArrayList<String> empty = PersistentArrayList.empty();
+        PersistentArrayList<String> one = empty.addToBack("0a");
+        PersistentArrayList<String> two = one.addToBack("1a");
+        PersistentArrayList<String> changed = two.set(0, "0b");
+        PersistentArrayList<String> branch = one.addToBack("1c");
+
+        assertTrue(empty.isEmpty());
+        assertArrayEquals(new Object[] {"0a"}, one.stream().toArray());
+        assertArrayEquals(new Object[] {"0a", "1a"}, two.stream().toArray());
+        assertArrayEquals(new Object[] {"0b", "1a"}, changed.stream().toArray());
+        assertArrayEquals(new Object[] {"0a", "1c"}, branch.stream().toArray());
+        assertArrayEquals(new Object[] {"0a"}, two.removeFromBack().stream().toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSetInTrie() {
+        PersistentArrayList<Integer> list = PersistentArrayList.empty();
+        for (int i = 0; i < SIZE; i++) {
+            list = list.addToBack(i);
+        }
+        PersistentArrayList<Integer> changed = list;
+        for (int i = 0; i < SIZE; i += 7) {
+            changed = changed.set(i, -i);
+        }
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(Integer.valueOf(i), list.get(i));
+            assertEquals(Integer.valueOf(i % 7 == 0 ? -i : i), changed.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveFromBack() {
+        PersistentArrayList<Integer> list = PersistentArrayList.empty();
+        for (int i = 0; i < SIZE; i++) {
+            list = list.addToBack(i);
+        }
+        for (int i = SIZE - 1; i >= 0; i--) {
+            assertEquals(Integer.valueOf(i), list.get(i));
+            list = list.removeFromBack();
+            assertEquals(i, list.size());
+        }
+        assertTrue(list.isEmpty());
+
+        // Grows again after shrinking
+        for (int i = 0; i < SIZE; i++) {
+            list = list.addToBack(i);
+        }
+        assertEquals(Integer.valueOf(SIZE - 1), list.get(SIZE - 1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBuilder() {
+        PersistentArrayList<Integer> start = PersistentArrayList.<Integer>empty().addToBack(-1);
+        PersistentArrayList.Builder<Integer> builder = start.toBuilder();
+        for (int i = 0; i < SIZE; i++) {
+            builder.addToBack(i);
+        }
+        builder.set(0, -2).set(SIZE / 2, -3);
+        assertEquals(Integer.valueOf(-3), builder.get(SIZE / 2));
+        PersistentArrayList<Integer> list = builder.build();
+
+        assertEquals(1, start.size());
+        assertEquals(Integer.valueOf(-1), start.get(0));
+        assertEquals(SIZE + 1, list.size());
+        assertEquals(Integer.valueOf(-2), list.get(0));
+        assertEquals(Integer.valueOf(-3), list.get(SIZE / 2));
+        assertEquals(Integer.valueOf(SIZE - 1), list.get(SIZE));
+
+        // A second builder does not write to the nodes of the first
+        PersistentArrayList<Integer> other = list.toBuilder().set(1, -4).addToBack(SIZE).build();
+        assertEquals(Integer.valueOf(0), list.get(1));
+        assertEquals(Integer.valueOf(-4), other.get(1));
+        assertEquals(SIZE + 1, list.size());
+        assertEquals(SIZE + 2, other.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalStateException.class)
+    public void testBuilderAfterBuild() {
+        PersistentArrayList.Builder<String> builder = PersistentArrayList.<String>empty().toBuilder();
+        builder.addToBack("0a");
+        builder.build();
+        builder.addToBack("1a");
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        PersistentArrayList.<String>empty().addToBack("0a").get(1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveEmpty() {
+        PersistentArrayList.<String>empty().removeFromBack();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        PersistentArrayList.<String>empty().addToBack(null);
+    }
+}
@@ -0,0 +1,204 @@
+package lsq;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementation of an immutable ArrayStack whose versions share structure.
+ *
+ * Every stack is one cell holding its top element and the stack below it,
+ * so push and pop return a new stack in O(1) and leave the old one as it
+ * was; all of the stacks pushed onto the same stack share it as their
+ * tail. A stack can be handed to another thread as is, in O(1).
+ *
+ * Iterates and streams from the top of the stack to the bottom, unlike
+ * ArrayStack, since that is the order of the cells.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public final class PersistentArrayStack<T> implements Iterable<T> {
+
+    private static final PersistentArrayStack<?> EMPTY = new PersistentArrayStack<>(null, null, 0);
+
+    private final T top;
+    private final PersistentArrayStack<T> below;
+    private final int size;
+
+    /**
+     * Constructs a version of the stack.
+     *
+     * @param top   the data on top, or null for the empty stack
+     * @param below the stack below the top, or null for the empty stack
+     * @param size  the number of elements
+     */
+    private PersistentArrayStack(T top, PersistentArrayStack<T> below, int size) {
+        this.top = top;
+        this.below = below;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty stack.
+     *
+     * @param <T> the type of the elements
+     * @return the empty stack
+     */
+    public static <T> PersistentArrayStack<T> empty() {
+        return (PersistentArrayStack<T>) EMPTY;
+    }
+
+    /**
+     * Returns a stack with the data added to the top.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the top of the stack
+     * @return the new stack
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public PersistentArrayStack<T> push(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        return new PersistentArrayStack<>(data, this, size + 1);
+    }
+
+    /**
+     * Returns a stack with all of the data added to the top, in array
+     * order, so the last element ends up on top.
+     *
+     * Must be O(k) for k elements.
+     *
+     * @param data the data to add to the top of the stack
+     * @return the new stack
+     * @throws java.lang.IllegalArgumentException if data or any element is null
+     */
+    public PersistentArrayStack<T> pushAll(T[] data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+        for (T element : data) {
+            if (element == null) {
+                throw new IllegalArgumentException("The data entered contained null");
+            }
+        }
+
+        // Pushing the data
+        PersistentArrayStack<T> stack = this;
+        for (T element : data) {
+            stack = new PersistentArrayStack<>(element, stack, stack.size + 1);
+        }
+        return stack;
+    }
+
+    /**
+     * Returns the stack without its top element, which is the stack it was
+     * pushed onto.
+     *
+     * Must be O(1).
+     *
+     * @return the new stack
+     * @throws java.util.NoSuchElementException if the stack is empty
+     */
+    public PersistentArrayStack<T> pop() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The ArrayStack is already empty");
+        }
+
+        //Popping
+        return below;
+    }
+
+    /**
+     * Returns the data from the top of the stack.
+     *
+     * Must be O(1).
+     *
+     * @return the data from the top of the stack
+     * @throws java.util.NoSuchElementException if the stack is empty
+     */
+    public T peek() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The ArrayStack is empty, no data can be retrieved");
+        }
+
+        // Peeking
+        return top;
+    }
+
+    /**
+     * Returns whether or not the stack is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns an iterator over the stack, from the top to the bottom.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private PersistentArrayStack<T> current = PersistentArrayStack.this;
+
+            @Override
+            public boolean hasNext() {
+                return current.size > 0;
+            }
+
+            @Override
+            public T next() {
+                if (current.size == 0) {
+                    throw new NoSuchElementException("The stack has no more elements");
+                }
+                T data = current.top;
+                current = current.below;
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the stack, from the top to the bottom.
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Returns a sequential stream over the stack, from the top to the
+     * bottom.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns the size of the stack.
+     *
+     * @return the size of the stack
+     */
+    public int size() {
+        return size;
+    }
+}
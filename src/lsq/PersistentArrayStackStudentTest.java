@@ -0,0 +1,62 @@
+package lsq;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for PersistentArrayStack.
+ */
+public class PersistentArrayStackStudentTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testPushPop() {
+        PersistentArrayStack<String> empty = PersistentArrayStack.empty();
+        PersistentArrayStack<String> one = empty.push("0a");
+        PersistentArrayStack<String> two = one.push("1a");
+        PersistentArrayStack<String> branch = one.push("1b");
+
+        assertTrue(empty.isEmpty());
+        assertEquals(2, two.size());
+        assertEquals("1a", two.peek());
+        assertEquals("1b", branch.peek());
+        assertSame(one, two.pop());
+        assertSame(one, branch.pop());
+        assertArrayEquals(new Object[] {"1a", "0a"}, two.stream().toArray());
+        assertArrayEquals(new Object[] {"0a"}, one.stream().toArray());
+        assertTrue(two.pop().pop().isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPushAll() {
+        PersistentArrayStack<String> stack = PersistentArrayStack.<String>empty().push("0a");
+        PersistentArrayStack<String> pushed = stack.pushAll(new String[] {"1a", "2a", "3a"});
+
+        assertEquals(4, pushed.size());
+        assertEquals("3a", pushed.peek());
+        assertSame(stack, pushed.pop().pop().pop());
+        assertArrayEquals(new Object[] {"3a", "2a", "1a", "0a"}, pushed.stream().toArray());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testPopEmpty() {
+        PersistentArrayStack.empty().pop();
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testPeekEmpty() {
+        PersistentArrayStack.empty().peek();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testPushAllNullElement() {
+        PersistentArrayStack.<String>empty().pushAll(new String[] {"0a", null});
+    }
+}
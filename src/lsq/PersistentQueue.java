@@ -0,0 +1,508 @@
+package lsq;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Implementation of a LinkedQueue that keeps its elements in
+ * memory-mapped files, so they survive a restart.
+ *
+ * Elements are appended to numbered segment files. Each record is an int
+ * holding the length plus one (so a zero marks the end of the written
+ * part), a CRC32C of the payload and the payload from the ElementCodec. A
+ * record that does not fit in the rest of a segment starts the next one.
+ * The consumer's segment and position are kept in a small offset file, and
+ * a segment is deleted once the consumer has moved past it.
+ *
+ * The mapped files and the offset file are forced to disk every syncEvery
+ * enqueues and dequeues, on sync and on close, and a segment is forced
+ * when the producer leaves it. Reopening the directory
+ * picks up from the last forced state: records that fail their checksum
+ * are dropped, and elements dequeued after the last sync are delivered
+ * again. Not thread-safe, and only one PersistentQueue may use a
+ * directory at a time.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public class PersistentQueue<T> implements AutoCloseable {
+
+    /**
+     * The default size of a segment file, in bytes.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    /**
+     * The default number of operations between two syncs.
+     */
+    public static final int DEFAULT_SYNC_EVERY = 1024;
+
+    private static final int HEADER = 8;
+    private static final int END_OF_SEGMENT = -1;
+    private static final String SEGMENT_SUFFIX = ".segment";
+    private static final String OFFSET_FILE = "consumer.offset";
+    private static final int OFFSET_SIZE = 12;
+
+    private final Path directory;
+    private final ElementCodec<T> codec;
+    private final int segmentSize;
+    private final int syncEvery;
+    private final CRC32C checksum = new CRC32C();
+
+    private MappedByteBuffer offsetBuffer;
+    private long producerSegment;
+    private MappedByteBuffer producerBuffer;
+    private int producerPosition;
+    private int producerSynced;
+    private long consumerSegment;
+    private MappedByteBuffer consumerBuffer;
+    private int consumerPosition;
+    private int size;
+    private int unsynced;
+
+    /**
+     * Opens the PersistentQueue in a directory with the default segment
+     * size and sync batching, creating the directory if needed.
+     *
+     * @param directory the directory holding the files of the queue
+     * @param codec     the codec that encodes the elements
+     * @throws java.lang.IllegalArgumentException if directory or codec is null
+     * @throws java.io.IOException                if the files cannot be opened
+     */
+    public PersistentQueue(Path directory, ElementCodec<T> codec) throws IOException {
+        this(directory, codec, DEFAULT_SEGMENT_SIZE, DEFAULT_SYNC_EVERY);
+    }
+
+    /**
+     * Opens the PersistentQueue in a directory, creating the directory if
+     * needed.
+     *
+     * @param directory   the directory holding the files of the queue
+     * @param codec       the codec that encodes the elements
+     * @param segmentSize the size of a segment file in bytes; it must match
+     *                    the size the directory was created with
+     * @param syncEvery   the number of enqueues and dequeues between two
+     *                    syncs, or 0 to only sync on sync and close
+     * @throws java.lang.IllegalArgumentException if directory or codec is null,
+     *                                            segmentSize <= 8 or syncEvery < 0
+     * @throws java.io.IOException                if the files cannot be opened or
+     *                                            a segment has another size
+     */
+    public PersistentQueue(Path directory, ElementCodec<T> codec, int segmentSize, int syncEvery)
+        throws IOException {
+        //The Exceptions
+        if (directory == null || codec == null) {
+            throw new IllegalArgumentException("The directory and codec should not be null");
+        } else if (segmentSize <= HEADER) {
+            throw new IllegalArgumentException("The segment size should be > " + HEADER + ", but was "
+                + segmentSize + ".");
+        } else if (syncEvery < 0) {
+            throw new IllegalArgumentException("The sync interval should be >= 0, but was "
+                + syncEvery + ".");
+        }
+
+        this.directory = directory;
+        this.codec = codec;
+        this.segmentSize = segmentSize;
+        this.syncEvery = syncEvery;
+        Files.createDirectories(directory);
+        offsetBuffer = map(directory.resolve(OFFSET_FILE), OFFSET_SIZE);
+        consumerSegment = offsetBuffer.getLong(0);
+        consumerPosition = offsetBuffer.getInt(8);
+        recover();
+    }
+
+    /**
+     * Adds the data to the back of the queue.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the back of the queue
+     * @throws java.lang.IllegalArgumentException if data is null or does not fit in a segment
+     * @throws java.lang.IllegalStateException    if the queue is closed
+     * @throws java.io.UncheckedIOException      if a new segment cannot be created
+     */
+    public void enqueue(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+        checkOpen();
+
+        byte[] bytes = codec.encode(data);
+        int recordSize = HEADER + bytes.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("The data takes " + recordSize
+                + " bytes, but a segment only holds " + segmentSize + ".");
+        } else if (producerPosition + recordSize > segmentSize) {
+            rollProducer();
+        }
+
+        //Enqueue, the length is written last so the record is never half there
+        checksum.reset();
+        checksum.update(bytes);
+        producerBuffer.putInt(producerPosition + 4, (int) checksum.getValue());
+        producerBuffer.put(producerPosition + HEADER, bytes);
+        producerBuffer.putInt(producerPosition, bytes.length + 1);
+        producerPosition += recordSize;
+        size++;
+        operationDone();
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     * @throws java.lang.IllegalStateException  if the queue is closed
+     * @throws java.io.UncheckedIOException    if a consumed segment cannot be deleted
+     */
+    public T dequeue() {
+        checkOpen();
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The queue is already empty");
+        }
+
+        //Dequeue
+        int length = seekConsumer();
+        final T removedData = decode(length);
+        consumerPosition += HEADER + length;
+        offsetBuffer.putInt(8, consumerPosition);
+        size--;
+        operationDone();
+        return removedData;
+    }
+
+    /**
+     * Returns the data from the front of the queue without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the data located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     * @throws java.lang.IllegalStateException  if the queue is closed
+     */
+    public T peek() {
+        checkOpen();
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The queue is already empty");
+        }
+
+        //Peeking
+        return decode(seekConsumer());
+    }
+
+    /**
+     * Returns whether or not the queue is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Forces every enqueue and dequeue so far to disk.
+     *
+     * @throws java.lang.IllegalStateException if the queue is closed
+     */
+    public void sync() {
+        checkOpen();
+        forceProducer();
+        offsetBuffer.force();
+        unsynced = 0;
+    }
+
+    /**
+     * Syncs and closes the queue. Does nothing if it is already closed.
+     */
+    @Override
+    public void close() {
+        if (offsetBuffer != null) {
+            sync();
+            offsetBuffer = null;
+            producerBuffer = null;
+            consumerBuffer = null;
+        }
+    }
+
+    /**
+     * Finds the segments left in the directory, deletes the ones the
+     * consumer is done with, and scans the rest for the records that made
+     * it to disk.
+     *
+     * @throws java.io.IOException if the segments cannot be listed or mapped,
+     *                             or a segment has another size
+     */
+    private void recover() throws IOException {
+        TreeSet<Long> segments = new TreeSet<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                .forEach(name -> segments.add(Long.parseLong(
+                    name.substring(0, name.length() - SEGMENT_SUFFIX.length()))));
+        }
+        while (!segments.isEmpty() && segments.first() < consumerSegment) {
+            Files.deleteIfExists(segmentPath(segments.pollFirst()));
+        }
+        if (segments.isEmpty() || segments.first() > consumerSegment) {
+            // The consumer's segment is gone, so it starts over at the next one
+            consumerSegment = segments.isEmpty() ? consumerSegment : segments.first();
+            consumerPosition = 0;
+            saveConsumerSegment();
+            segments.add(consumerSegment);
+        }
+
+        size = 0;
+        for (long segment : segments) {
+            Path file = segmentPath(segment);
+            long length = Files.exists(file) ? Files.size(file) : 0;
+            // An empty file was created but never mapped, any other size is another queue's
+            if (length != 0 && length != segmentSize) {
+                throw new IOException("The segment " + file + " holds " + length
+                    + " bytes, but the segment size is " + segmentSize + ".");
+            }
+            MappedByteBuffer buffer = map(file, segmentSize);
+            int position = segment == consumerSegment ? consumerPosition : 0;
+            while (position + HEADER <= segmentSize && isValidRecord(buffer, position)) {
+                position += HEADER + buffer.getInt(position) - 1;
+                size++;
+            }
+            if (segment != segments.last()) {
+                endSegment(buffer, position);
+            } else {
+                zeroTail(buffer, position);
+            }
+            if (segment == consumerSegment) {
+                consumerBuffer = buffer;
+            }
+            if (segment == segments.last()) {
+                producerSegment = segment;
+                producerBuffer = buffer;
+                producerPosition = position;
+                producerSynced = position;
+            }
+        }
+    }
+
+    /**
+     * Marks the end of a segment that is not the producer's where its valid
+     * records stop, so the consumer moves on to the next segment instead of
+     * reading a torn record there.
+     *
+     * @param buffer   the segment
+     * @param position the end of the valid records
+     */
+    private void endSegment(MappedByteBuffer buffer, int position) {
+        if (position + 4 <= segmentSize && buffer.getInt(position) != END_OF_SEGMENT) {
+            buffer.putInt(position, END_OF_SEGMENT);
+            buffer.force(position, 4);
+        }
+    }
+
+    /**
+     * Zeros whatever a torn record left after the producer's position, so
+     * the shorter records written over it can never line up with its bytes.
+     *
+     * @param buffer   the producer's segment
+     * @param position the producer's position
+     */
+    private void zeroTail(MappedByteBuffer buffer, int position) {
+        int end = position;
+        for (int i = position; i < segmentSize; i++) {
+            if (buffer.get(i) != 0) {
+                end = i + 1;
+            }
+        }
+        byte[] zeros = new byte[Math.min(end - position, 4096)];
+        for (int i = position; i < end; i += zeros.length) {
+            buffer.put(i, zeros, 0, Math.min(zeros.length, end - i));
+        }
+        if (end > position) {
+            buffer.force(position, end - position);
+        }
+    }
+
+    /**
+     * Checks that a complete record with a matching checksum starts at a
+     * position of a segment.
+     *
+     * @param buffer   the segment
+     * @param position the position of the record
+     * @return true if the record is valid, false otherwise
+     */
+    private boolean isValidRecord(MappedByteBuffer buffer, int position) {
+        int length = buffer.getInt(position) - 1;
+        if (length < 0 || length > segmentSize - HEADER - position) {
+            return false;
+        }
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(position + HEADER).limit(position + HEADER + length);
+        checksum.reset();
+        checksum.update(payload);
+        return (int) checksum.getValue() == buffer.getInt(position + 4);
+    }
+
+    /**
+     * Moves the consumer to the next segment if it is at the end of its
+     * segment, deleting the segment it leaves.
+     *
+     * Only called while the queue is not empty, so a next record exists.
+     *
+     * @return the length of the payload of the record at the consumer
+     */
+    private int seekConsumer() {
+        int header = consumerPosition + HEADER <= segmentSize
+            ? consumerBuffer.getInt(consumerPosition) : END_OF_SEGMENT;
+        if (header <= 0) {
+            long finished = consumerSegment;
+            consumerSegment++;
+            consumerBuffer = consumerSegment == producerSegment
+                ? producerBuffer : mapUnchecked(segmentPath(consumerSegment), segmentSize);
+            consumerPosition = 0;
+            // The new offset must be on disk before the old segment is gone
+            saveConsumerSegment();
+            offsetBuffer.force();
+            try {
+                Files.deleteIfExists(segmentPath(finished));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            header = consumerBuffer.getInt(0);
+        }
+        return header - 1;
+    }
+
+    /**
+     * Decodes the payload of the record at the consumer.
+     *
+     * @param length the length of the payload
+     * @return the element
+     */
+    private T decode(int length) {
+        ByteBuffer payload = consumerBuffer.duplicate();
+        payload.position(consumerPosition + HEADER).limit(consumerPosition + HEADER + length);
+        return codec.decode(payload, length);
+    }
+
+    /**
+     * Marks the end of the producer's segment and starts the next one.
+     */
+    private void rollProducer() {
+        if (producerPosition + 4 <= segmentSize) {
+            producerBuffer.putInt(producerPosition, END_OF_SEGMENT);
+            producerPosition += 4;
+        }
+        // sync only forces the current segment, so a finished one is forced now
+        forceProducer();
+        producerSegment++;
+        producerBuffer = mapUnchecked(segmentPath(producerSegment), segmentSize);
+        producerPosition = 0;
+        producerSynced = 0;
+    }
+
+    /**
+     * Forces the part of the producer's segment written since the last
+     * force to disk, instead of the whole mapped segment.
+     */
+    private void forceProducer() {
+        if (producerPosition > producerSynced) {
+            producerBuffer.force(producerSynced, producerPosition - producerSynced);
+            producerSynced = producerPosition;
+        }
+    }
+
+    /**
+     * Writes the consumer's segment and position to the offset file.
+     */
+    private void saveConsumerSegment() {
+        offsetBuffer.putLong(0, consumerSegment);
+        offsetBuffer.putInt(8, consumerPosition);
+    }
+
+    /**
+     * Counts an operation and syncs once syncEvery of them are not synced.
+     */
+    private void operationDone() {
+        if (syncEvery > 0 && ++unsynced >= syncEvery) {
+            sync();
+        }
+    }
+
+    /**
+     * Returns the path of a segment file.
+     *
+     * @param segment the number of the segment
+     * @return the path
+     */
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%019d", segment) + SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Maps a file into memory, creating it if needed. New files read as
+     * zeros.
+     *
+     * @param file the file
+     * @param size the number of bytes to map
+     * @return the mapped buffer
+     * @throws java.io.IOException if the file cannot be mapped
+     */
+    private static MappedByteBuffer map(Path file, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    /**
+     * Maps a file into memory like map, for callers that cannot throw
+     * checked exceptions.
+     *
+     * @param file the file
+     * @param size the number of bytes to map
+     * @return the mapped buffer
+     * @throws java.io.UncheckedIOException if the file cannot be mapped
+     */
+    private static MappedByteBuffer mapUnchecked(Path file, int size) {
+        try {
+            return map(file, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Throws if the queue is closed.
+     */
+    private void checkOpen() {
+        if (offsetBuffer == null) {
+            throw new IllegalStateException("The queue is closed");
+        }
+    }
+
+    /**
+     * Returns the size of the queue.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,230 @@
+package lsq;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This is a basic set of unit tests for PersistentQueue.
+ */
+public class PersistentQueueStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int SEGMENT_SIZE = 64;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path directory;
+    private PersistentQueue<String> queue;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = folder.getRoot().toPath();
+        queue = open();
+    }
+
+    @After
+    public void tearDown() {
+        queue.close();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEnqueueDequeue() {
+        queue.enqueue("0a");
+        queue.enqueue("1a");
+        queue.enqueue("2a");
+
+        assertEquals(3, queue.size());
+        assertEquals("0a", queue.peek());
+        assertEquals("0a", queue.dequeue());
+        assertEquals("1a", queue.dequeue());
+        assertEquals("2a", queue.peek());
+        assertEquals(1, queue.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testReopen() throws IOException {
+        queue.enqueue("0a");
+        queue.enqueue("1a");
+        queue.enqueue("2a");
+        queue.dequeue();
+        queue.close();
+
+        queue = open();
+        assertEquals(2, queue.size());
+        assertEquals("1a", queue.dequeue());
+        queue.enqueue("3a");
+        assertEquals("2a", queue.dequeue());
+        assertEquals("3a", queue.dequeue());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSegmentRolloverAndDeletion() throws IOException {
+        // Each record takes 8 + 2 bytes, so a 64 byte segment holds 6
+        for (int i = 0; i < 20; i++) {
+            queue.enqueue(i % 10 + "a");
+        }
+        assertEquals(4, segmentCount());
+
+        for (int i = 0; i < 19; i++) {
+            assertEquals(i % 10 + "a", queue.dequeue());
+        }
+        assertEquals(1, segmentCount());
+        queue.close();
+
+        queue = open();
+        assertEquals(1, queue.size());
+        assertEquals("9a", queue.dequeue());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSyncAfterRolloverWithoutBatching() throws IOException {
+        queue.close();
+        queue = new PersistentQueue<>(directory, ElementCodec.UTF_8, SEGMENT_SIZE, 0);
+        for (int i = 0; i < 20; i++) {
+            queue.enqueue(i % 10 + "a");
+        }
+        assertEquals(4, segmentCount());
+        queue.sync();
+        queue.close();
+
+        queue = open();
+        assertEquals(20, queue.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i % 10 + "a", queue.dequeue());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTornRecordIsDropped() throws IOException {
+        queue.enqueue("0a");
+        queue.enqueue("1a");
+        queue.close();
+
+        // Corrupts the payload of the second record
+        try (RandomAccessFile file = new RandomAccessFile(
+            directory.resolve(String.format("%019d.segment", 0)).toFile(), "rw")) {
+            file.seek(10 + 8);
+            file.write('x');
+        }
+
+        queue = open();
+        assertEquals(1, queue.size());
+        assertEquals("0a", queue.dequeue());
+        queue.enqueue("2a");
+        assertEquals("2a", queue.dequeue());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTornRecordInEarlierSegment() throws IOException {
+        for (int i = 0; i < 14; i++) {
+            queue.enqueue(i % 10 + "a");
+        }
+        queue.close();
+
+        // Corrupts the third record of the first of three segments
+        try (RandomAccessFile file = new RandomAccessFile(
+            directory.resolve(String.format("%019d.segment", 0)).toFile(), "rw")) {
+            file.seek(2 * 10 + 8);
+            file.write('x');
+        }
+
+        queue = open();
+        assertEquals(10, queue.size());
+        assertEquals("0a", queue.dequeue());
+        assertEquals("1a", queue.dequeue());
+        for (int i = 6; i < 14; i++) {
+            assertEquals(i % 10 + "a", queue.dequeue());
+        }
+        assertTrue(queue.isEmpty());
+        queue.close();
+
+        queue = open();
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTornTailIsZeroed() throws IOException {
+        queue.enqueue("0a");
+        queue.enqueue("1a");
+        queue.close();
+
+        // Corrupts the payload of the second record, which is the last one
+        try (RandomAccessFile file = new RandomAccessFile(
+            directory.resolve(String.format("%019d.segment", 0)).toFile(), "rw")) {
+            file.seek(10 + 8);
+            file.write('x');
+        }
+
+        queue = open();
+        queue.close();
+        try (RandomAccessFile file = new RandomAccessFile(
+            directory.resolve(String.format("%019d.segment", 0)).toFile(), "r")) {
+            file.seek(10);
+            for (int i = 10; i < SEGMENT_SIZE; i++) {
+                assertEquals(0, file.read());
+            }
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = IOException.class)
+    public void testOtherSegmentSize() throws IOException {
+        queue.enqueue("0a");
+        queue.close();
+
+        queue = new PersistentQueue<>(directory, ElementCodec.UTF_8, 2 * SEGMENT_SIZE, 1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testDequeueEmpty() {
+        queue.dequeue();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testElementLargerThanSegment() {
+        queue.enqueue("This string takes more than the 64 bytes that fit in one segment file");
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalStateException.class)
+    public void testClosed() {
+        queue.close();
+        queue.enqueue("0a");
+    }
+
+    /**
+     * Opens the queue in the test directory, syncing after every operation.
+     *
+     * @return the queue
+     * @throws IOException if the files cannot be opened
+     */
+    private PersistentQueue<String> open() throws IOException {
+        return new PersistentQueue<>(directory, ElementCodec.UTF_8, SEGMENT_SIZE, 1);
+    }
+
+    /**
+     * Counts the segment files in the test directory.
+     *
+     * @return the number of segment files
+     * @throws IOException if the directory cannot be listed
+     */
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".segment")).count();
+        }
+    }
+}
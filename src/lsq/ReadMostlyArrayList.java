@@ -0,0 +1,422 @@
+package lsq;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementation of a thread-safe ArrayList for many readers and rare
+ * writers.
+ *
+ * The list is an exactly sized array that is never modified once it is
+ * published. Readers read the current array without locking, and every
+ * writer copies it, edits the copy and publishes it with one volatile
+ * write, so a reader always sees a whole version of the list. Writers are
+ * serialized by a lock. Use batch to apply many edits for the price of one
+ * copy.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public class ReadMostlyArrayList<T> implements Iterable<T> {
+
+    private volatile T[] array;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private boolean inBatch;
+
+    /**
+     * Constructs a new, empty ReadMostlyArrayList.
+     */
+    public ReadMostlyArrayList() {
+        array = (T[]) new Object[0];
+    }
+
+    /**
+     * Adds the element to the specified index.
+     *
+     * Must be O(n).
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        // The exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data is null, use a T type data");
+        }
+
+        writeLock.lock();
+        try {
+            checkNotInBatch();
+            T[] current = array;
+            if (index < 0 || index > current.length) {
+                throw new IndexOutOfBoundsException("The index should be >= 0 and <= "
+                        + current.length + ", but was " + index + ".");
+            }
+            T[] anArray = (T[]) new Object[current.length + 1];
+            System.arraycopy(current, 0, anArray, 0, index);
+            anArray[index] = data;
+            System.arraycopy(current, index, anArray, index + 1, current.length - index);
+            array = anArray;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Must be O(n).
+     *
+     * @param data the data to add to the front of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Must be O(n).
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        // The exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data is null, use a T type data");
+        }
+
+        writeLock.lock();
+        try {
+            checkNotInBatch();
+            T[] current = array;
+            T[] anArray = Arrays.copyOf(current, current.length + 1);
+            anArray[current.length] = data;
+            array = anArray;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the element at the specified index.
+     *
+     * Must be O(n).
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T removeAtIndex(int index) {
+        writeLock.lock();
+        try {
+            checkNotInBatch();
+            T[] current = array;
+            // The exception
+            if (index < 0 || index >= current.length) {
+                throw new IndexOutOfBoundsException("The index should be >= 0 and < "
+                        + current.length + ", but was " + index + ".");
+            }
+            final T dataRemoved = current[index];
+            T[] anArray = (T[]) new Object[current.length - 1];
+            System.arraycopy(current, 0, anArray, 0, index);
+            System.arraycopy(current, index + 1, anArray, index, current.length - index - 1);
+            array = anArray;
+            return dataRemoved;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * Must be O(n).
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromFront() {
+        writeLock.lock();
+        try {
+            checkNotInBatch();
+            checkNotEmpty();
+            return removeAtIndex(0);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * Must be O(n).
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromBack() {
+        writeLock.lock();
+        try {
+            checkNotInBatch();
+            checkNotEmpty();
+            return removeAtIndex(array.length - 1);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Applies a group of edits with a single copy of the list.
+     *
+     * The edits are made to a private ArrayList holding a copy of the list,
+     * which is published when they finish, so readers see either none or
+     * all of them. The copy's backing array is published as is when the
+     * edits leave it exactly full; otherwise, as after an add or remove,
+     * it is trimmed on publish, which copies the list a second time. If the edits throw, nothing is published. The edits
+     * must only change the copy; writing to this list from inside them
+     * throws, since the publish would overwrite the write.
+     *
+     * Must be O(n) plus the cost of the edits on an ArrayList.
+     *
+     * @param edits the edits to make
+     * @throws java.lang.IllegalArgumentException if edits is null
+     * @throws java.lang.IllegalStateException    if the edits write to this list
+     */
+    public void batch(Consumer<? super ArrayList<T>> edits) {
+        //The Exception
+        if (edits == null) {
+            throw new IllegalArgumentException("The edits entered were null");
+        }
+
+        writeLock.lock();
+        try {
+            checkNotInBatch();
+            ArrayList<T> copy = ArrayList.copyOf(array);
+            inBatch = true;
+            try {
+                edits.accept(copy);
+            } finally {
+                inBatch = false;
+            }
+            array = copy.takeArray();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * Never blocks. Must be O(1).
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        T[] current = array;
+        // The exception
+        if (index < 0 || index >= current.length) {
+            throw new IndexOutOfBoundsException("The index should be >= 0 and < "
+                    + current.length + ", but was " + index + ".");
+        }
+
+        return current[index];
+    }
+
+    /**
+     * Clears the list.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        writeLock.lock();
+        try {
+            checkNotInBatch();
+            array = (T[]) new Object[0];
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    /**
+     * Returns the current version of the list, which later writes do not
+     * change. Use it to make several reads that agree with each other.
+     *
+     * Never blocks. Must be O(1).
+     *
+     * @return the snapshot
+     */
+    public View<T> snapshot() {
+        return new View<>(array);
+    }
+
+    /**
+     * Returns an iterator over the current version of the list, from the
+     * front to the back. Later writes do not affect it.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return snapshot().iterator();
+    }
+
+    /**
+     * Returns a spliterator over the current version of the list, from the
+     * front to the back. Later writes do not affect it.
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return snapshot().spliterator();
+    }
+
+    /**
+     * Returns a sequential stream over the current version of the list.
+     * Call parallel on it to process it on several threads.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return array.length;
+    }
+
+    /**
+     * Throws if the calling thread is inside a batch. The lock must be
+     * held, so only the thread running the batch can get here while it
+     * runs.
+     *
+     * @throws java.lang.IllegalStateException if a batch is running
+     */
+    private void checkNotInBatch() {
+        //The Exception
+        if (inBatch) {
+            throw new IllegalStateException("The list cannot be written to from inside a batch, "
+                    + "edit the copy instead");
+        }
+    }
+
+    /**
+     * Throws if the list is empty.
+     *
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    private void checkNotEmpty() {
+        //The Exception
+        if (array.length == 0) {
+            throw new NoSuchElementException("The list is already empty");
+        }
+    }
+
+    /**
+     * One version of a ReadMostlyArrayList, which never changes.
+     *
+     * @param <T> the type of the elements
+     */
+    public static final class View<T> implements Iterable<T> {
+
+        private final T[] array;
+
+        /**
+         * Wraps a published array.
+         *
+         * @param array the array, never modified afterwards
+         */
+        private View(T[] array) {
+            this.array = array;
+        }
+
+        /**
+         * Returns the element at the specified index.
+         *
+         * Must be O(1).
+         *
+         * @param index the index of the element to get
+         * @return the data stored at the index in the snapshot
+         * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+         */
+        public T get(int index) {
+            // The exception
+            if (index < 0 || index >= array.length) {
+                throw new IndexOutOfBoundsException("The index should be >= 0 and < "
+                        + array.length + ", but was " + index + ".");
+            }
+
+            return array[index];
+        }
+
+        /**
+         * Returns the size of the snapshot.
+         *
+         * @return the size of the snapshot
+         */
+        public int size() {
+            return array.length;
+        }
+
+        /**
+         * Returns an iterator over the snapshot, from the front to the back.
+         *
+         * @return the iterator
+         */
+        @Override
+        public Iterator<T> iterator() {
+            return Spliterators.iterator(spliterator());
+        }
+
+        /**
+         * Returns a spliterator over the snapshot, from the front to the
+         * back.
+         *
+         * @return the spliterator
+         */
+        @Override
+        public Spliterator<T> spliterator() {
+            return Spliterators.spliterator(array, Spliterator.ORDERED | Spliterator.NONNULL
+                    | Spliterator.IMMUTABLE);
+        }
+
+        /**
+         * Returns a sequential stream over the snapshot.
+         *
+         * @return the stream
+         */
+        public Stream<T> stream() {
+            return StreamSupport.stream(spliterator(), false);
+        }
+    }
+}
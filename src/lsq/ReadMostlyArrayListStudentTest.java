@@ -0,0 +1,180 @@
+package lsq;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for ReadMostlyArrayList.
+ */
+public class ReadMostlyArrayListStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int CONCURRENT_TIMEOUT = 5000;
+    private ReadMostlyArrayList<String> list;
+
+    @Before
+    public void setUp() {
+        list = new ReadMostlyArrayList<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddRemove() {
+        list.addToBack("1a");           // 1a
+        list.addToFront("0a");          // 0a, 1a
+        list.addAtIndex(2, "3a");       // 0a, 1a, 3a
+        list.addAtIndex(2, "2a");       // 0a, 1a, 2a, 3a
+        assertEquals(4, list.size());
+        assertArrayEquals(new Object[] {"0a", "1a", "2a", "3a"}, list.stream().toArray());
+
+        assertEquals("2a", list.removeAtIndex(2));  // 0a, 1a, 3a
+        assertEquals("0a", list.removeFromFront()); // 1a, 3a
+        assertEquals("3a", list.removeFromBack());  // 1a
+        assertEquals("1a", list.get(0));
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSnapshot() {
+        list.addToBack("0a");
+        list.addToBack("1a");
+        ReadMostlyArrayList.View<String> snapshot = list.snapshot();
+
+        list.addToBack("2a");
+        list.removeFromFront();
+        assertEquals(2, snapshot.size());
+        assertEquals("0a", snapshot.get(0));
+        assertArrayEquals(new Object[] {"0a", "1a"}, snapshot.stream().toArray());
+        assertArrayEquals(new Object[] {"1a", "2a"}, list.stream().toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBatch() {
+        list.addToBack("0a");
+        list.batch(copy -> {
+            copy.addToBack("1a");
+            copy.addToBack("2a");
+            copy.addToFront("-1a");
+            copy.removeAtIndex(1);
+        });
+        assertArrayEquals(new Object[] {"-1a", "1a", "2a"}, list.stream().toArray());
+
+        // A failed batch publishes nothing
+        try {
+            list.batch(copy -> {
+                copy.addToBack("3a");
+                copy.addToBack(null);
+            });
+        } catch (IllegalArgumentException e) {
+            assertEquals(3, list.size());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testWriteInsideBatch() {
+        list.addToBack("0a");
+        boolean thrown = false;
+        try {
+            list.batch(copy -> {
+                copy.addToBack("1a");
+                list.addToBack("2a");
+            });
+        } catch (IllegalStateException e) {
+            thrown = true;
+        }
+        assertTrue(thrown);
+
+        // Nothing is published and the list still takes writes
+        list.addToBack("1b");
+        assertArrayEquals(new Object[] {"0a", "1b"}, list.stream().toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBatchAfterWrap() {
+        list.addToBack("1a");
+        list.batch(copy -> {
+            // Wraps the circular array of the copy around its end
+            copy.addToFront("0a");
+            copy.addToBack("2a");
+        });
+        assertArrayEquals(new Object[] {"0a", "1a", "2a"}, list.stream().toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBatchPublishesCopyAsIs() {
+        list.addToBack("0a");
+        list.addToBack("1a");
+        AtomicReference<ArrayList<String>> escaped = new AtomicReference<>();
+        list.batch(copy -> {
+            // Leaves the copy exactly full, so its array is published without a second copy
+            copy.removeFromBack();
+            copy.addToBack("1b");
+            escaped.set(copy);
+        });
+        assertArrayEquals(new Object[] {"0a", "1b"}, list.stream().toArray());
+
+        // The copy gave up its array, so writing to it afterwards changes nothing
+        escaped.get().addToFront("x");
+        assertArrayEquals(new Object[] {"0a", "1b"}, list.stream().toArray());
+        assertEquals(1, escaped.get().size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveEmpty() {
+        list.removeFromBack();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        list.addToBack("0a");
+        list.get(1);
+    }
+
+    @Test(timeout = CONCURRENT_TIMEOUT)
+    public void testReadersSeeWholeBatches() throws InterruptedException {
+        ReadMostlyArrayList<Integer> shared = new ReadMostlyArrayList<>();
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread[] readers = new Thread[3];
+        for (int t = 0; t < readers.length; t++) {
+            readers[t] = new Thread(() -> {
+                while (!done.get()) {
+                    // Every batch adds ten equal elements, so a snapshot never mixes them
+                    ReadMostlyArrayList.View<Integer> snapshot = shared.snapshot();
+                    if (snapshot.size() % 10 != 0) {
+                        failure.set("Saw a partial batch of size " + snapshot.size());
+                    }
+                    for (int i = 0; i < snapshot.size(); i++) {
+                        if (!snapshot.get(i).equals(i / 10)) {
+                            failure.set("Saw " + snapshot.get(i) + " at " + i);
+                        }
+                    }
+                }
+            });
+            readers[t].start();
+        }
+        for (int b = 0; b < 200; b++) {
+            final int value = b;
+            shared.batch(copy -> {
+                for (int i = 0; i < 10; i++) {
+                    copy.addToBack(value);
+                }
+            });
+        }
+        done.set(true);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertEquals(null, failure.get());
+        assertEquals(2000, shared.size());
+    }
+}
@@ -0,0 +1,38 @@
+package lsq;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts records of type T to and from a fixed number of bytes, so they
+ * can be stored outside of the Java heap by OffHeapArrayList.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public interface RecordCodec<T> {
+
+    /**
+     * Returns the number of bytes every record takes.
+     *
+     * @return the record size in bytes, at least 1
+     */
+    int recordSize();
+
+    /**
+     * Writes a record into the buffer, using absolute puts only.
+     *
+     * @param buffer the buffer to write to
+     * @param offset the index of the first byte of the record
+     * @param record the record to write, never null
+     */
+    void write(ByteBuffer buffer, int offset, T record);
+
+    /**
+     * Reads a record from the buffer, using absolute gets only.
+     *
+     * @param buffer the buffer to read from
+     * @param offset the index of the first byte of the record
+     * @return the record
+     */
+    T read(ByteBuffer buffer, int offset);
+}
@@ -0,0 +1,292 @@
+package lsq;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads and writes the binary snapshots of ArrayList and DoublyLinkedList.
+ *
+ * A snapshot is a magic number, the element count and then every element
+ * as its length in bytes followed by the bytes from the ElementCodec, all
+ * ints big-endian. Writes go through a direct buffer. Reads go through a
+ * heap buffer, so codecs can decode straight from its array; a file is
+ * mapped into memory and copied into the buffer in bulk, and any other
+ * channel is read into it.
+ *
+ * Nothing read from the input is trusted for an allocation: the element
+ * count of a mapped file is checked against its length, and buffers and
+ * lists restored from a channel grow as the bytes actually arrive, so a
+ * corrupt count or length ends in an IOException rather than an
+ * OutOfMemoryError.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+final class Snapshot {
+
+    private static final int MAGIC = 0x4C535153;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Utility class, not instantiated.
+     */
+    private Snapshot() {
+    }
+
+    /**
+     * Writes a snapshot of the elements to the channel.
+     *
+     * @param channel  the channel to write to
+     * @param codec    the codec that encodes the elements
+     * @param size     the number of elements
+     * @param elements the elements, in order
+     * @param <T>      the type of the elements
+     * @throws java.lang.IllegalArgumentException if channel or codec is null
+     * @throws java.io.IOException                if the channel cannot be written to
+     */
+    static <T> void write(WritableByteChannel channel, ElementCodec<T> codec, int size,
+                          Iterable<T> elements) throws IOException {
+        //The Exception
+        if (channel == null || codec == null) {
+            throw new IllegalArgumentException("The channel and codec should not be null");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        buffer.putInt(MAGIC);
+        buffer.putInt(size);
+        for (T element : elements) {
+            byte[] bytes = codec.encode(element);
+            if (buffer.remaining() < 4 + bytes.length) {
+                flush(channel, buffer);
+            }
+            buffer.putInt(bytes.length);
+            if (buffer.remaining() < bytes.length) { // Larger than the buffer, skips it
+                flush(channel, buffer);
+                writeFully(channel, ByteBuffer.wrap(bytes));
+            } else {
+                buffer.put(bytes);
+            }
+        }
+        flush(channel, buffer);
+    }
+
+    /**
+     * Writes out and clears the buffer.
+     *
+     * @param channel the channel to write to
+     * @param buffer  the buffer, in write mode
+     * @throws java.io.IOException if the channel cannot be written to
+     */
+    private static void flush(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        writeFully(channel, buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Writes all of the remaining bytes of a buffer.
+     *
+     * @param channel the channel to write to
+     * @param buffer  the buffer, in read mode
+     * @throws java.io.IOException if the channel cannot be written to
+     */
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Reads the elements of a snapshot one at a time.
+     *
+     * @param <T> the type of the elements
+     */
+    static final class Reader<T> {
+
+        private final ReadableByteChannel channel;
+        private final ByteBuffer mapped;
+        private final ElementCodec<T> codec;
+        private ByteBuffer buffer;
+        private final int size;
+
+        /**
+         * Starts reading a snapshot, checking its header.
+         *
+         * @param channel the channel to refill the buffer from, or null if
+         *                it is refilled from mapped
+         * @param mapped  the mapped file to refill the buffer from, or null
+         * @param codec   the codec that decodes the elements
+         * @throws java.io.IOException if the snapshot is not valid
+         */
+        private Reader(ReadableByteChannel channel, ByteBuffer mapped, ElementCodec<T> codec)
+            throws IOException {
+            this.channel = channel;
+            this.mapped = mapped;
+            this.codec = codec;
+            buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            buffer.flip();
+            require(8);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("The data is not a snapshot");
+            }
+            size = buffer.getInt();
+            if (size < 0) {
+                throw new IOException("The snapshot is corrupt, it holds " + size + " elements");
+            } else if (mapped != null && size > available() / 4) {
+                // Every element takes at least its 4-byte length
+                throw new IOException("The snapshot is corrupt, it holds " + size + " elements in "
+                    + available() + " bytes");
+            }
+        }
+
+        /**
+         * Starts reading a snapshot from a channel. File channels are mapped
+         * into memory from their position on; other channels are read
+         * through a buffer.
+         *
+         * @param channel the channel to read from
+         * @param codec   the codec that decodes the elements
+         * @param <T>     the type of the elements
+         * @return the reader
+         * @throws java.lang.IllegalArgumentException if channel or codec is null
+         * @throws java.io.IOException                if the snapshot is not valid
+         */
+        static <T> Reader<T> open(ReadableByteChannel channel, ElementCodec<T> codec) throws IOException {
+            //The Exception
+            if (channel == null || codec == null) {
+                throw new IllegalArgumentException("The channel and codec should not be null");
+            }
+
+            if (channel instanceof FileChannel) {
+                FileChannel file = (FileChannel) channel;
+                long length = file.size() - file.position();
+                // Larger files cannot be mapped in one piece
+                if (length <= Integer.MAX_VALUE) {
+                    ByteBuffer mapped = file.map(FileChannel.MapMode.READ_ONLY, file.position(), length);
+                    file.position(file.size());
+                    return new Reader<>(null, mapped, codec);
+                }
+            }
+            return new Reader<>(channel, null, codec);
+        }
+
+        /**
+         * Opens a snapshot file and maps it into memory. The mapping stays
+         * valid after the file is closed.
+         *
+         * @param path  the path of the file
+         * @param codec the codec that decodes the elements
+         * @param <T>   the type of the elements
+         * @return the reader
+         * @throws java.lang.IllegalArgumentException if path or codec is null
+         * @throws java.io.IOException                if the file cannot be read or is not a snapshot
+         */
+        static <T> Reader<T> open(Path path, ElementCodec<T> codec) throws IOException {
+            //The Exception
+            if (path == null) {
+                throw new IllegalArgumentException("The path should not be null");
+            }
+            try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+                return open(file, codec);
+            }
+        }
+
+        /**
+         * Returns the number of elements in the snapshot.
+         *
+         * @return the element count
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Returns the number of elements that may be allocated for before
+         * they are read: all of them for a mapped file, whose count has been
+         * checked against its length, and at most one buffer's worth for a
+         * channel, whose count is not trusted.
+         *
+         * @return the number of elements to allocate for up front
+         */
+        int initialCapacity() {
+            return mapped != null ? size : Math.min(size, BUFFER_SIZE / 4);
+        }
+
+        /**
+         * Reads the next element.
+         *
+         * @return the element
+         * @throws java.io.IOException if the snapshot is corrupt or ends early
+         */
+        T next() throws IOException {
+            require(4);
+            int length = buffer.getInt();
+            if (length < 0) {
+                throw new IOException("The snapshot is corrupt, an element is " + length + " bytes long");
+            }
+            require(length);
+            int end = buffer.position() + length;
+            T element = codec.decode(buffer, length);
+            buffer.position(end);
+            if (element == null) {
+                throw new IOException("The codec decoded a null element");
+            }
+            return element;
+        }
+
+        /**
+         * Returns the number of bytes left in the mapped file, buffered or
+         * not.
+         *
+         * @return the number of bytes left
+         */
+        private long available() {
+            return (long) buffer.remaining() + mapped.remaining();
+        }
+
+        /**
+         * Makes sure the buffer holds at least count more bytes, refilling
+         * it from the mapped file or the channel.
+         *
+         * The buffer only grows past its capacity once it is full, so it
+         * never holds much more than the bytes that actually arrived.
+         *
+         * @param count the number of bytes needed
+         * @throws java.io.EOFException if the snapshot ends first
+         * @throws java.io.IOException  if the channel cannot be read
+         */
+        private void require(int count) throws IOException {
+            if (buffer.remaining() >= count) {
+                return;
+            } else if (mapped != null && count > available()) {
+                throw new EOFException("The snapshot ended early");
+            }
+
+            buffer.compact();
+            while (buffer.position() < count) {
+                if (!buffer.hasRemaining()) {
+                    int capacity = (int) Math.min((long) count, 2L * buffer.capacity());
+                    ByteBuffer larger = ByteBuffer.allocate(capacity);
+                    buffer.flip();
+                    larger.put(buffer);
+                    buffer = larger;
+                }
+                if (mapped != null) {
+                    // Copies a whole buffer's worth in one go
+                    int run = Math.min(buffer.remaining(), mapped.remaining());
+                    buffer.put(mapped.slice(mapped.position(), run));
+                    mapped.position(mapped.position() + run);
+                } else if (channel.read(buffer) < 0) {
+                    throw new EOFException("The snapshot ended early");
+                }
+            }
+            buffer.flip();
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package lsq;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementation of a bounded, wait-free queue for exactly one producer
+ * thread and one consumer thread.
+ *
+ * Only the producer may call offer and enqueue, and only the consumer may
+ * call poll, dequeue and peek. Elements live in a power-of-two ring array.
+ * Each side publishes its index with a release store and reads the other
+ * side's index with an acquire load, and only when its cached copy of that
+ * index runs out, so the two threads rarely touch the same cache line. The
+ * indices are padded onto separate cache lines by the superclasses below
+ * to avoid false sharing.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public class SpscArrayQueue<T> extends SpscArrayQueueConsumerFields<T> {
+
+    private static final VarHandle PRODUCER_INDEX;
+    private static final VarHandle CONSUMER_INDEX;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(SpscArrayQueueProducerFields.class,
+                    "producerIndex", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(SpscArrayQueueConsumerFields.class,
+                    "consumerIndex", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private long p00, p01, p02, p03, p04, p05, p06, p07;
+    private long p10, p11, p12, p13, p14, p15, p16;
+
+    /**
+     * Constructs a new SpscArrayQueue.
+     *
+     * @param capacity the minimum number of elements the queue can hold,
+     *                 rounded up to a power of two
+     * @throws java.lang.IllegalArgumentException if capacity < 1 or capacity > 2^30
+     */
+    public SpscArrayQueue(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Adds the data to the back of the queue unless the queue is full.
+     *
+     * Must only be called by the producer thread. Must be O(1).
+     *
+     * @param data the data to add to the back of the queue
+     * @return true if the data was added, false if the queue is full
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        long index = producerIndex;
+        if (index >= producerLimit) {
+            // Only reads the consumer's index once the cached limit runs out
+            producerLimit = (long) CONSUMER_INDEX.getAcquire(this) + buffer.length;
+            if (index >= producerLimit) {
+                return false;
+            }
+        }
+
+        //Enqueue, the release store publishes the element to the consumer
+        buffer[(int) index & mask] = data;
+        PRODUCER_INDEX.setRelease(this, index + 1);
+        return true;
+    }
+
+    /**
+     * Adds the data to the back of the queue.
+     *
+     * Must only be called by the producer thread. Must be O(1).
+     *
+     * @param data the data to add to the back of the queue
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.IllegalStateException    if the queue is full
+     */
+    public void enqueue(T data) {
+        if (!offer(data)) {
+            throw new IllegalStateException("The queue is full, it holds " + buffer.length + " elements.");
+        }
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue, or returns
+     * null if the queue is empty.
+     *
+     * Must only be called by the consumer thread. Must be O(1).
+     *
+     * @return the data formerly located at the front of the queue, or null
+     */
+    public T poll() {
+        long index = consumerIndex;
+        if (index >= cachedProducerIndex) {
+            // Only reads the producer's index once the cached copy runs out
+            cachedProducerIndex = (long) PRODUCER_INDEX.getAcquire(this);
+            if (index >= cachedProducerIndex) {
+                return null;
+            }
+        }
+
+        //Dequeue, the release store hands the slot back to the producer
+        int offset = (int) index & mask;
+        final T removedData = buffer[offset];
+        buffer[offset] = null;
+        CONSUMER_INDEX.setRelease(this, index + 1);
+        return removedData;
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue.
+     *
+     * Must only be called by the consumer thread. Must be O(1).
+     *
+     * @return the data formerly located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T dequeue() {
+        T removedData = poll();
+        //The Exception
+        if (removedData == null) {
+            throw new NoSuchElementException("The queue is already empty");
+        }
+        return removedData;
+    }
+
+    /**
+     * Returns the data from the front of the queue without removing it.
+     *
+     * Must only be called by the consumer thread. Must be O(1).
+     *
+     * @return the data located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T peek() {
+        long index = consumerIndex;
+        if (index >= cachedProducerIndex) {
+            cachedProducerIndex = (long) PRODUCER_INDEX.getAcquire(this);
+            //The Exception
+            if (index >= cachedProducerIndex) {
+                throw new NoSuchElementException("The queue is already empty");
+            }
+        }
+        return buffer[(int) index & mask];
+    }
+
+    /**
+     * Returns an estimate of the size of the queue.
+     *
+     * May be called from any thread; the result is only exact while neither
+     * side is running.
+     *
+     * @return the estimated size of the queue
+     */
+    public int size() {
+        long consumer = (long) CONSUMER_INDEX.getAcquire(this);
+        long producer = (long) PRODUCER_INDEX.getAcquire(this);
+        return (int) Math.max(0, Math.min(producer - consumer, buffer.length));
+    }
+
+    /**
+     * Returns the number of elements the queue can hold.
+     *
+     * @return the capacity of the queue
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+}
+
+/**
+ * Fields of SpscArrayQueue read by both threads but never written.
+ */
+abstract class SpscArrayQueueFields<T> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    final T[] buffer;
+    final int mask;
+
+    /**
+     * Allocates the ring array.
+     *
+     * @param capacity the minimum capacity, rounded up to a power of two
+     * @throws java.lang.IllegalArgumentException if capacity < 1 or capacity > 2^30
+     */
+    SpscArrayQueueFields(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("The capacity must be between 1 and "
+                    + MAX_CAPACITY + ", but was " + capacity + ".");
+        }
+        int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        buffer = (T[]) new Object[length];
+        mask = length - 1;
+    }
+}
+
+/**
+ * Padding between the shared fields and the producer's fields.
+ */
+abstract class SpscArrayQueueProducerPad<T> extends SpscArrayQueueFields<T> {
+
+    private long p00, p01, p02, p03, p04, p05, p06, p07;
+    private long p10, p11, p12, p13, p14, p15, p16;
+
+    SpscArrayQueueProducerPad(int capacity) {
+        super(capacity);
+    }
+}
+
+/**
+ * Fields of SpscArrayQueue written by the producer thread.
+ */
+abstract class SpscArrayQueueProducerFields<T> extends SpscArrayQueueProducerPad<T> {
+
+    long producerIndex;
+    long producerLimit;
+
+    SpscArrayQueueProducerFields(int capacity) {
+        super(capacity);
+    }
+}
+
+/**
+ * Padding between the producer's fields and the consumer's fields.
+ */
+abstract class SpscArrayQueueConsumerPad<T> extends SpscArrayQueueProducerFields<T> {
+
+    private long p00, p01, p02, p03, p04, p05, p06, p07;
+    private long p10, p11, p12, p13, p14, p15, p16;
+
+    SpscArrayQueueConsumerPad(int capacity) {
+        super(capacity);
+    }
+}
+
+/**
+ * Fields of SpscArrayQueue written by the consumer thread.
+ */
+abstract class SpscArrayQueueConsumerFields<T> extends SpscArrayQueueConsumerPad<T> {
+
+    long consumerIndex;
+    long cachedProducerIndex;
+
+    SpscArrayQueueConsumerFields(int capacity) {
+        super(capacity);
+    }
+}
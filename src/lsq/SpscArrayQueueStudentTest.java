@@ -0,0 +1,98 @@
+package lsq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for SpscArrayQueue.
+ */
+public class SpscArrayQueueStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int CONCURRENT_TIMEOUT = 5000;
+    private SpscArrayQueue<String> queue;
+
+    @Before
+    public void setup() {
+        queue = new SpscArrayQueue<>(5);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, queue.size());
+        assertEquals(8, queue.capacity());
+        assertNull(queue.poll());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testOfferPoll() {
+        String temp = "0a";
+
+        assertTrue(queue.offer(temp));  // 0a
+        queue.enqueue("1a");            // 0a, 1a
+        assertEquals(2, queue.size());
+
+        assertSame(temp, queue.peek());
+        assertSame(temp, queue.poll()); // 1a
+        assertEquals("1a", queue.dequeue());
+        assertNull(queue.poll());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testFullAndWrapAround() {
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < queue.capacity(); i++) {
+                assertTrue(queue.offer(round + "-" + i));
+            }
+            assertFalse(queue.offer("full"));
+            assertEquals(queue.capacity(), queue.size());
+            for (int i = 0; i < queue.capacity(); i++) {
+                assertEquals(round + "-" + i, queue.poll());
+            }
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testDequeueEmpty() {
+        queue.dequeue();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testOfferNull() {
+        queue.offer(null);
+    }
+
+    @Test(timeout = CONCURRENT_TIMEOUT)
+    public void testProducerConsumerOrder() throws InterruptedException {
+        final int count = 100_000;
+        SpscArrayQueue<Integer> transfer = new SpscArrayQueue<>(64);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!transfer.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        // The consumer sees every element once and in order
+        for (int i = 0; i < count; i++) {
+            Integer data = transfer.poll();
+            while (data == null) {
+                Thread.yield();
+                data = transfer.poll();
+            }
+            assertEquals(i, data.intValue());
+        }
+        producer.join();
+        assertEquals(0, transfer.size());
+    }
+}
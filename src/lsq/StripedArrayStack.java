@@ -0,0 +1,260 @@
+package lsq;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of a thread-safe ArrayStack split into stripes, for use as
+ * a pool of free objects shared by many threads.
+ *
+ * Every stripe is an ArrayStack with its own lock. A thread pushes to and
+ * pops from its home stripe, picked from its thread id, so threads on
+ * different stripes never touch the same lock. When the home stripe is
+ * locked by another thread, push moves on to the next free stripe instead
+ * of waiting; when it is empty, pop steals from the other stripes. The
+ * stack as a whole is therefore only LIFO per stripe, which is all a pool
+ * needs.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public class StripedArrayStack<T> {
+
+    private static final int MAX_STRIPES = 1 << 16;
+
+    private final Stripe<T>[] stripes;
+    private final int mask;
+
+    /**
+     * Constructs a new StripedArrayStack with one stripe per available
+     * processor, rounded up to a power of two.
+     */
+    public StripedArrayStack() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new StripedArrayStack.
+     *
+     * @param stripes the minimum number of stripes, rounded up to a power of two
+     * @throws java.lang.IllegalArgumentException if stripes < 1 or stripes > 2^16
+     */
+    public StripedArrayStack(int stripes) {
+        //The Exception
+        if (stripes < 1 || stripes > MAX_STRIPES) {
+            throw new IllegalArgumentException("The number of stripes must be between 1 and "
+                    + MAX_STRIPES + ", but was " + stripes + ".");
+        }
+        int length = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = (Stripe<T>[]) new Stripe<?>[length];
+        for (int i = 0; i < length; i++) {
+            this.stripes[i] = new Stripe<>();
+        }
+        mask = length - 1;
+    }
+
+    /**
+     * Adds the data to the top of a stripe, the home stripe of the calling
+     * thread unless another thread holds it.
+     *
+     * Must be amortized O(1) when uncontended.
+     *
+     * @param data the data to add
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void push(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        int home = home();
+        // Takes the first stripe that is free right now, starting at home
+        for (int i = 0; i <= mask; i++) {
+            Stripe<T> stripe = stripes[(home + i) & mask];
+            if (stripe.lock.tryLock()) {
+                try {
+                    stripe.push(data);
+                } finally {
+                    stripe.lock.unlock();
+                }
+                return;
+            }
+        }
+
+        // Every stripe is busy, waits for home
+        Stripe<T> stripe = stripes[home];
+        stripe.lock.lock();
+        try {
+            stripe.push(data);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the data from the top of the home stripe of the
+     * calling thread, or steals it from another stripe if home is empty.
+     *
+     * Must be O(1) when the home stripe is not empty and O(stripes)
+     * otherwise.
+     *
+     * @return the data removed, or null if every stripe was empty
+     */
+    public T pop() {
+        int home = home();
+        // Tries home first, then steals from the others without waiting for busy ones
+        for (int i = 0; i <= mask; i++) {
+            Stripe<T> stripe = stripes[(home + i) & mask];
+            if (stripe.size > 0 && stripe.lock.tryLock()) {
+                try {
+                    if (stripe.size > 0) {
+                        return stripe.pop();
+                    }
+                } finally {
+                    stripe.lock.unlock();
+                }
+            }
+        }
+
+        // Waits for the busy stripes before reporting the stack as empty
+        for (int i = 0; i <= mask; i++) {
+            Stripe<T> stripe = stripes[(home + i) & mask];
+            if (stripe.size > 0) {
+                stripe.lock.lock();
+                try {
+                    if (stripe.size > 0) {
+                        return stripe.pop();
+                    }
+                } finally {
+                    stripe.lock.unlock();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether or not every stripe is empty at the moment of the
+     * call.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        for (Stripe<T> stripe : stripes) {
+            if (stripe.size > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns an estimate of the size of the stack, the sum of the sizes of
+     * the stripes. Does not lock, so it is only exact while no other thread
+     * is modifying the stack.
+     *
+     * Must be O(stripes).
+     *
+     * @return the estimated size of the stack
+     */
+    public int size() {
+        long size = 0;
+        for (Stripe<T> stripe : stripes) {
+            size += stripe.size;
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of stripes.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the number of stripes
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * Returns the size of one stripe.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @param index the index of the stripe
+     * @return the size of the stripe
+     */
+    public int getStripeSize(int index) {
+        return stripes[index].size;
+    }
+
+    /**
+     * Returns the index of the home stripe of the calling thread.
+     *
+     * @return the index of the stripe
+     */
+    private int home() {
+        // Fibonacci hashing spreads consecutive thread ids over the stripes
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+    }
+
+    /**
+     * Padding before the size of a stripe.
+     */
+    private static class StripePad {
+
+        private long p00, p01, p02, p03, p04, p05, p06, p07;
+        private long p10, p11, p12, p13, p14, p15, p16;
+    }
+
+    /**
+     * The size of a stripe, on a cache line of its own.
+     *
+     * The size is a volatile copy of the stack's size, so other threads can
+     * skip empty stripes without locking them. It is written on every push
+     * and pop and read by every stealing thread, so it is padded on both
+     * sides; a superclass chain keeps the padding in order, since the JVM
+     * may reorder the fields of one class.
+     */
+    private static class StripeSize extends StripePad {
+
+        volatile int size;
+    }
+
+    /**
+     * One ArrayStack and the lock that guards it.
+     *
+     * Only the size is padded. The state of the lock lives in a separate
+     * object inside the ReentrantLock, which this layout does not control.
+     */
+    private static final class Stripe<T> extends StripeSize {
+
+        private long p00, p01, p02, p03, p04, p05, p06, p07;
+        private long p10, p11, p12, p13, p14, p15, p16;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayStack<T> stack = new ArrayStack<>();
+
+        /**
+         * Pushes onto the stack. The lock must be held.
+         *
+         * @param data the data to push
+         */
+        private void push(T data) {
+            stack.push(data);
+            size = stack.size();
+        }
+
+        /**
+         * Pops from the stack. The lock must be held and the stack must not
+         * be empty.
+         *
+         * @return the data popped
+         */
+        private T pop() {
+            T removedData = stack.pop();
+            size = stack.size();
+            return removedData;
+        }
+    }
+}
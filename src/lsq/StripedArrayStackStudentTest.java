@@ -0,0 +1,108 @@
+package lsq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for StripedArrayStack.
+ */
+public class StripedArrayStackStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int CONCURRENT_TIMEOUT = 5000;
+    private StripedArrayStack<String> stack;
+
+    @Before
+    public void setup() {
+        stack = new StripedArrayStack<>(3);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(4, stack.getStripeCount());
+        assertEquals(0, stack.size());
+        assertTrue(stack.isEmpty());
+        assertNull(stack.pop());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPushPopOneThread() {
+        stack.push("0a");   // 0a
+        stack.push("1a");   // 0a, 1a
+        stack.push("2a");   // 0a, 1a, 2a
+        assertEquals(3, stack.size());
+
+        // One thread only uses its home stripe, so it stays LIFO
+        assertEquals("2a", stack.pop());
+        assertEquals("1a", stack.pop());
+        assertEquals("0a", stack.pop());
+        assertNull(stack.pop());
+    }
+
+    @Test(timeout = TIMEOUT * 5)
+    public void testPopStealsFromOtherStripes() throws InterruptedException {
+        Thread other = new Thread(() -> {
+            for (int i = 0; i < 5; i++) {
+                stack.push(i + "a");
+            }
+        });
+        other.start();
+        other.join();
+
+        assertEquals(5, stack.size());
+        for (int i = 4; i >= 0; i--) {
+            assertEquals(i + "a", stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testPushNull() {
+        stack.push(null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testNoStripes() {
+        new StripedArrayStack<String>(0);
+    }
+
+    @Test(timeout = CONCURRENT_TIMEOUT)
+    public void testConcurrentPool() throws InterruptedException {
+        final int threads = 8;
+        final int perThread = 10_000;
+        StripedArrayStack<Integer> pool = new StripedArrayStack<>(4);
+        AtomicIntegerArray seen = new AtomicIntegerArray(threads * perThread);
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final int offset = t * perThread;
+            workers[t] = new Thread(() -> {
+                // Pushes its own values and pops whatever it finds, from any stripe
+                for (int i = 0; i < perThread; i++) {
+                    pool.push(offset + i);
+                    if (i % 2 == 1) {
+                        seen.incrementAndGet(pool.pop());
+                        seen.incrementAndGet(pool.pop());
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // Every element was popped exactly once
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals(1, seen.get(i));
+        }
+        assertEquals(0, pool.size());
+        assertNull(pool.pop());
+    }
+}
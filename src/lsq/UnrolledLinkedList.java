@@ -0,0 +1,498 @@
+package lsq;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementation of an unrolled DoublyLinkedList.
+ *
+ * Each node holds a small array of elements instead of a single element,
+ * so the list needs far fewer nodes and walks them a whole array at a time.
+ * A full node is split in half when an element is added to its middle, and
+ * a node that drops below half full is merged into a neighbor when the two
+ * fit in one node, which keeps the nodes at least half full on average.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ *
+ */
+public class UnrolledLinkedList<T> {
+
+    /**
+     * The number of elements each node holds by default.
+     */
+    public static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private UnrolledLinkedListNode<T> head;
+    private UnrolledLinkedListNode<T> tail;
+    private int size;
+
+    private final int nodeCapacity;
+
+    /**
+     * Constructs a new UnrolledLinkedList with the default node capacity.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs a new UnrolledLinkedList whose nodes hold up to
+     * nodeCapacity elements.
+     *
+     * @param nodeCapacity the maximum number of elements in a node
+     * @throws java.lang.IllegalArgumentException if nodeCapacity < 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("The node capacity should be >= 2, but was "
+                + nodeCapacity + ".");
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Adds the element to the specified index. Considers whether
+     * traversing the list from the head or tail is more efficient
+     *
+     * Must be O(1) for indices 0 and size and O(n / nodeCapacity +
+     * nodeCapacity) for all other cases.
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        // The Exceptions
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("The index is outside the range of the unrolled linked list"
+                + "It must be between 0 and " + size + ".");
+        } else if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        if (head == null) { // Creates the first node in the list
+            head = new UnrolledLinkedListNode<>(nodeCapacity);
+            tail = head;
+        }
+
+        Location<T> location = locate(index);
+        UnrolledLinkedListNode<T> node = location.node;
+        int at = location.offset;
+        if (node.getCount() == nodeCapacity) {
+            if (at == nodeCapacity) { // Past the end of a full node, starts a new one after it
+                node = linkAfter(node);
+                at = 0;
+            } else if (at == 0) { // Before the start of a full node, starts a new one before it
+                node = linkBefore(node);
+            } else { // In the middle of a full node, splits it in half
+                UnrolledLinkedListNode<T> upper = split(node);
+                if (at > node.getCount()) {
+                    at -= node.getCount();
+                    node = upper;
+                }
+            }
+        }
+
+        //Adding into the node
+        T[] elements = node.getElements();
+        int count = node.getCount();
+        System.arraycopy(elements, at, elements, at + 1, count - at);
+        elements[at] = data;
+        node.setCount(count + 1);
+        size++;
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the front of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        addAtIndex(size, data);
+    }
+
+    /**
+     * Removes and returns the element at the specified index.
+     * Considers whether traversing the list from the head or tail is more
+     * efficient
+     *
+     * Must be O(1) for indices 0 and size - 1 and O(n / nodeCapacity +
+     * nodeCapacity) for all other cases.
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T removeAtIndex(int index) {
+        //The Exception
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index is outside the range of the unrolled linked list"
+                + "It must be between 0 and " + size + ".");
+        }
+
+        Location<T> location = locate(index);
+        return remove(location.node, location.offset);
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromFront() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The list is already empty");
+        }
+
+        return remove(head, 0);
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromBack() {
+        //The Exception
+        if (size == 0) {
+            throw new NoSuchElementException("The list is already empty");
+        }
+
+        return remove(tail, tail.getCount() - 1);
+    }
+
+    /**
+     * Returns the element at the specified index. Considers
+     * whether traversing the list from the head or tail is more efficient
+     *
+     * Must be O(1) for indices 0 and size - 1 and O(n / nodeCapacity) for
+     * all other cases.
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        //The Exception
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index is outside the range of the unrolled linked list"
+                + "It must be between 0 and " + size + ".");
+        }
+
+        Location<T> location = locate(index);
+        return location.node.getElements()[location.offset];
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list.
+     *
+     * Clears all data and resets the size.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Removes and returns the last copy of the given data from the list.
+     *
+     * It does not return the same data that was passed in. It returns the data that
+     * was stored in the list.
+     *
+     * Must be O(nodeCapacity) if data is in the tail node and O(n) for all
+     * other cases.
+     *
+     * @param data the data to be removed from the list
+     * @return the data that was removed
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.util.NoSuchElementException   if data is not found
+     */
+    public T removeLastOccurrence(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        for (UnrolledLinkedListNode<T> node = tail; node != null; node = node.getPrevious()) {
+            T[] elements = node.getElements();
+            for (int i = node.getCount() - 1; i >= 0; i--) {
+                if (data.equals(elements[i])) {
+                    return remove(node, i);
+                }
+            }
+        }
+        throw new NoSuchElementException("The data was not found in the list");
+    }
+
+    /**
+     * Returns an array representation of the linked list. If the list is
+     * size 0, returns an empty array.
+     *
+     * Must be O(n) for all cases.
+     *
+     * @return an array of length size holding all of the objects in the
+     * list in the same order
+     */
+    public Object[] toArray() {
+        Object[] theArray = new Object[size];
+        int i = 0;
+        for (UnrolledLinkedListNode<T> node = head; node != null; node = node.getNext()) {
+            System.arraycopy(node.getElements(), 0, theArray, i, node.getCount());
+            i += node.getCount();
+        }
+        return theArray;
+    }
+
+    /**
+     * Finds the node holding the element at the specified index, walking
+     * whole nodes from whichever end of the list is closer, along with the
+     * offset of the element within the node.
+     *
+     * An index of size finds the tail with an offset one past its last
+     * element.
+     *
+     * @param index the index of the element, between 0 and size
+     * @return the node holding the element and the offset in it
+     */
+    private Location<T> locate(int index) {
+        UnrolledLinkedListNode<T> current;
+        int at;
+        if (index < size - index) { //Closer to the front
+            current = head;
+            at = index;
+            while (at >= current.getCount()) {
+                at -= current.getCount();
+                current = current.getNext();
+            }
+        } else { //Closer to the back, counts the elements from the end
+            int fromEnd = size - index;
+            current = tail;
+            while (fromEnd > current.getCount()) {
+                fromEnd -= current.getCount();
+                current = current.getPrevious();
+            }
+            at = current.getCount() - fromEnd;
+        }
+        // A single allocation site, so the JIT can replace the Location with its fields
+        return new Location<>(current, at);
+    }
+
+    /**
+     * Removes and returns the element at an offset of a node, unlinking the
+     * node once it is empty and merging it into a neighbor once it is less
+     * than half full and fits.
+     *
+     * @param node the node holding the element
+     * @param at   the offset of the element within the node
+     * @return the removed element
+     */
+    private T remove(UnrolledLinkedListNode<T> node, int at) {
+        T[] elements = node.getElements();
+        int count = node.getCount() - 1;
+        final T removedData = elements[at];
+        System.arraycopy(elements, at + 1, elements, at, count - at);
+        elements[count] = null;
+        node.setCount(count);
+        size--;
+
+        if (count == 0) {
+            unlink(node);
+        } else if (count < nodeCapacity / 2) {
+            UnrolledLinkedListNode<T> next = node.getNext();
+            UnrolledLinkedListNode<T> previous = node.getPrevious();
+            if (next != null && count + next.getCount() <= nodeCapacity) {
+                merge(node, next);
+            } else if (previous != null && previous.getCount() + count <= nodeCapacity) {
+                merge(previous, node);
+            }
+        }
+        return removedData;
+    }
+
+    /**
+     * Moves the upper half of a full node into a new node linked after it.
+     *
+     * @param node the node to split
+     * @return the new node holding the upper half
+     */
+    private UnrolledLinkedListNode<T> split(UnrolledLinkedListNode<T> node) {
+        UnrolledLinkedListNode<T> upper = linkAfter(node);
+        int keep = node.getCount() / 2;
+        int move = node.getCount() - keep;
+        T[] elements = node.getElements();
+        System.arraycopy(elements, keep, upper.getElements(), 0, move);
+        Arrays.fill(elements, keep, keep + move, null);
+        node.setCount(keep);
+        upper.setCount(move);
+        return upper;
+    }
+
+    /**
+     * Moves every element of a node onto the end of the node before it and
+     * unlinks the emptied node.
+     *
+     * @param into the node that receives the elements
+     * @param from the node right after into, which is unlinked
+     */
+    private void merge(UnrolledLinkedListNode<T> into, UnrolledLinkedListNode<T> from) {
+        System.arraycopy(from.getElements(), 0, into.getElements(), into.getCount(), from.getCount());
+        into.setCount(into.getCount() + from.getCount());
+        unlink(from);
+    }
+
+    /**
+     * Links a new, empty node after the given node.
+     *
+     * @param node the node to link after
+     * @return the new node
+     */
+    private UnrolledLinkedListNode<T> linkAfter(UnrolledLinkedListNode<T> node) {
+        UnrolledLinkedListNode<T> aNode = new UnrolledLinkedListNode<>(nodeCapacity);
+        UnrolledLinkedListNode<T> next = node.getNext();
+        aNode.setPrevious(node);
+        aNode.setNext(next);
+        node.setNext(aNode);
+        if (next == null) {
+            tail = aNode;
+        } else {
+            next.setPrevious(aNode);
+        }
+        return aNode;
+    }
+
+    /**
+     * Links a new, empty node before the given node.
+     *
+     * @param node the node to link before
+     * @return the new node
+     */
+    private UnrolledLinkedListNode<T> linkBefore(UnrolledLinkedListNode<T> node) {
+        UnrolledLinkedListNode<T> aNode = new UnrolledLinkedListNode<>(nodeCapacity);
+        UnrolledLinkedListNode<T> previous = node.getPrevious();
+        aNode.setNext(node);
+        aNode.setPrevious(previous);
+        node.setPrevious(aNode);
+        if (previous == null) {
+            head = aNode;
+        } else {
+            previous.setNext(aNode);
+        }
+        return aNode;
+    }
+
+    /**
+     * Unlinks a node from the list.
+     *
+     * @param node the node to unlink
+     */
+    private void unlink(UnrolledLinkedListNode<T> node) {
+        UnrolledLinkedListNode<T> previous = node.getPrevious();
+        UnrolledLinkedListNode<T> next = node.getNext();
+        if (previous == null) {
+            head = next;
+        } else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            tail = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+        node.setPrevious(null);
+        node.setNext(null);
+    }
+
+    /**
+     * Returns the head node of the list.
+     *
+     * For grading purposes only.
+     *
+     * @return the node at the head of the list
+     */
+    public UnrolledLinkedListNode<T> getHead() {
+        return head;
+    }
+
+    /**
+     * Returns the tail node of the list.
+     *
+     * For grading purposes only.
+     *
+     * @return the node at the tail of the list
+     */
+    public UnrolledLinkedListNode<T> getTail() {
+        return tail;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A node and the offset of an element within it, as found by locate.
+     * It does not escape the method that asks for it, so the JIT does not
+     * allocate it.
+     *
+     * @param <T> the type of the elements
+     */
+    private static final class Location<T> {
+        private final UnrolledLinkedListNode<T> node;
+        private final int offset;
+
+        /**
+         * Constructs a new Location.
+         *
+         * @param node   the node
+         * @param offset the offset within the node
+         */
+        private Location(UnrolledLinkedListNode<T> node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package lsq;
+
+/**
+ * Node class used for implementing the UnrolledLinkedList.
+ *
+ * Each node holds up to a fixed number of elements in an array, packed at
+ * the start of the array.
+ */
+public class UnrolledLinkedListNode<T> {
+
+    private final T[] elements;
+    private int count;
+    private UnrolledLinkedListNode<T> previous;
+    private UnrolledLinkedListNode<T> next;
+
+    /**
+     * Constructs a new, empty UnrolledLinkedListNode.
+     *
+     * @param capacity the maximum number of elements in the node
+     */
+    UnrolledLinkedListNode(int capacity) {
+        elements = (T[]) new Object[capacity];
+    }
+
+    /**
+     * Gets the array holding the elements of the node.
+     *
+     * @return the elements, of which the first getCount() are in use
+     */
+    T[] getElements() {
+        return elements;
+    }
+
+    /**
+     * Gets the number of elements in the node.
+     *
+     * @return the number of elements
+     */
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * Sets the number of elements in the node.
+     *
+     * @param count the new number of elements
+     */
+    void setCount(int count) {
+        this.count = count;
+    }
+
+    /**
+     * Gets the previous node.
+     *
+     * @return the previous node
+     */
+    UnrolledLinkedListNode<T> getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Gets the next node.
+     *
+     * @return the next node
+     */
+    UnrolledLinkedListNode<T> getNext() {
+        return next;
+    }
+
+    /**
+     * Sets the previous node.
+     *
+     * @param previous the new previous node
+     */
+    void setPrevious(UnrolledLinkedListNode<T> previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Sets the next node.
+     *
+     * @param next the new next node
+     */
+    void setNext(UnrolledLinkedListNode<T> next) {
+        this.next = next;
+    }
+
+
+    @Override
+    public String toString() {
+        return "Node containing " + count + " elements";
+    }
+}
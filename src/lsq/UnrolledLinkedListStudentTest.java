@@ -0,0 +1,189 @@
+package lsq;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This is a basic set of unit tests for UnrolledLinkedList.
+ */
+public class UnrolledLinkedListStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int CONCURRENT_TIMEOUT = 5000;
+    private UnrolledLinkedList<String> list;
+
+    @Before
+    public void setUp() {
+        list = new UnrolledLinkedList<>(4);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, list.size());
+        assertNull(list.getHead());
+        assertNull(list.getTail());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAtIndex() {
+        list.addAtIndex(0, "2a"); // 2a
+        list.addAtIndex(0, "1a"); // 1a, 2a
+        list.addAtIndex(2, "4a"); // 1a, 2a, 4a
+        list.addAtIndex(2, "3a"); // 1a, 2a, 3a, 4a
+        list.addAtIndex(0, "0a"); // 0a, 1a, 2a, 3a, 4a
+        list.addAtIndex(3, "2b"); // 0a, 1a, 2a, 2b, 3a, 4a
+
+        assertEquals(6, list.size());
+        assertArrayEquals(new Object[]{"0a", "1a", "2a", "2b", "3a", "4a"}, list.toArray());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(list.toArray()[i], list.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSequentialAddsFillNodes() {
+        for (int i = 0; i < 8; i++) {
+            list.addToBack(i + "a");
+        }
+
+        // Appending to a full node starts a new node instead of splitting
+        assertEquals(4, list.getHead().getCount());
+        assertEquals(4, list.getTail().getCount());
+        assertSame(list.getTail(), list.getHead().getNext());
+        assertSame(list.getHead(), list.getTail().getPrevious());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveAtIndexMerges() {
+        for (int i = 0; i < 8; i++) {
+            list.addToBack(i + "a"); // [0a 1a 2a 3a] [4a 5a 6a 7a]
+        }
+
+        assertEquals("5a", list.removeAtIndex(5));
+        assertEquals("6a", list.removeAtIndex(5));
+        assertEquals("1a", list.removeAtIndex(1));
+        assertEquals("2a", list.removeAtIndex(1)); // [0a 3a] [4a 7a]
+        assertEquals("3a", list.removeAtIndex(1));
+
+        // The head dropped below half full and fits with its neighbor
+        assertSame(list.getHead(), list.getTail());
+        assertArrayEquals(new Object[]{"0a", "4a", "7a"}, list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveFromFrontAndBack() {
+        list.addToBack("1a");
+        list.addToFront("0a");
+        list.addToBack("2a");
+
+        assertEquals("0a", list.removeFromFront());
+        assertEquals("2a", list.removeFromBack());
+        assertEquals("1a", list.removeFromFront());
+        assertEquals(0, list.size());
+        assertNull(list.getHead());
+        assertNull(list.getTail());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        list.removeFromBack();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveLastOccurrence() {
+        list.addToBack("0a");
+        list.addToBack("1a");
+        list.addToBack("0a");
+        list.addToBack("2a");
+        list.addToBack("3a");
+
+        String toRemove = new String("0a");
+        assertEquals("0a", list.removeLastOccurrence(toRemove));
+        assertArrayEquals(new Object[]{"0a", "1a", "2a", "3a"}, list.toArray());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveLastOccurrenceNotFound() {
+        list.addToBack("0a");
+        list.removeLastOccurrence("1a");
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        list.addToBack("0a");
+        list.get(1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRandomOperations() {
+        java.util.ArrayList<String> expected = new java.util.ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i + "a");
+                list.addAtIndex(index, i + "a");
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.removeAtIndex(index));
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        assertArrayEquals(expected.toArray(), list.toArray());
+        int nodes = 0;
+        for (UnrolledLinkedListNode<String> node = list.getHead(); node != null; node = node.getNext()) {
+            assertTrue(node.getCount() > 0);
+            nodes++;
+        }
+        assertTrue(nodes <= list.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testClear() {
+        list.addToBack("0a");
+        list.addToBack("1a");
+        list.clear();
+        assertEquals(0, list.size());
+        assertNull(list.getHead());
+        assertNull(list.getTail());
+    }
+
+    @Test(timeout = CONCURRENT_TIMEOUT)
+    public void testConcurrentReaders() throws InterruptedException {
+        for (int i = 0; i < 1000; i++) {
+            list.addToBack(i + "a");
+        }
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        // get only reads, so readers of a list nobody writes to never see each other
+        Thread[] readers = new Thread[3];
+        for (int t = 0; t < readers.length; t++) {
+            final int seed = t;
+            readers[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int n = 0; n < 100000; n++) {
+                    int index = random.nextInt(1000);
+                    if (!list.get(index).equals(index + "a")) {
+                        failure.set("Saw " + list.get(index) + " at " + index);
+                    }
+                }
+            });
+            readers[t].start();
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertNull(failure.get());
+    }
+}
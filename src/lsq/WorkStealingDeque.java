@@ -0,0 +1,248 @@
+package lsq;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Implementation of a Chase-Lev work-stealing deque, the ArrayStack of one
+ * worker thread that other threads can take work from.
+ *
+ * The owner thread pushes and pops at the top (the bottom index, in the
+ * terms of the paper) without locks, and any number of thief threads steal
+ * from the other end with a compare-and-set on the top index. Only the
+ * last element can be contended by the owner and a thief, and the same
+ * compare-and-set settles it. Elements live in a power-of-two ring array
+ * that the owner grows by publishing a larger copy; thieves that still
+ * read the old array find the same elements there, so they never block.
+ * The two indices are padded onto separate cache lines by the
+ * superclasses below to avoid false sharing.
+ *
+ * A stolen slot is not cleared, since the owner may already have reused
+ * it, so up to one array of stolen elements can stay reachable until the
+ * owner overwrites them.
+ *
+ * @author Thang Huynh
+ * @version 1.0
+ */
+public class WorkStealingDeque<T> extends WorkStealingDequeBottomFields<T> {
+
+    /**
+     * The initial capacity of the WorkStealingDeque. Must be a power of two.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    private static final int MAX_ARRAY_LENGTH = 1 << 30;
+
+    private static final VarHandle TOP;
+    private static final VarHandle BOTTOM;
+    private static final VarHandle ARRAY;
+    private static final VarHandle ELEMENT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TOP = lookup.findVarHandle(WorkStealingDequeTopFields.class, "top", long.class);
+            BOTTOM = lookup.findVarHandle(WorkStealingDequeBottomFields.class, "bottom", long.class);
+            ARRAY = lookup.findVarHandle(WorkStealingDequeFields.class, "array", Object[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private long p00, p01, p02, p03, p04, p05, p06, p07;
+    private long p10, p11, p12, p13, p14, p15, p16;
+
+    /**
+     * Constructs a new, empty WorkStealingDeque.
+     */
+    public WorkStealingDeque() {
+        array = new Object[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds the data to the top of the deque.
+     *
+     * Must only be called by the owner thread. Must be amortized O(1).
+     *
+     * @param data the data to add to the top of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.IllegalStateException    if the deque holds 2^30 elements
+     */
+    public void push(T data) {
+        //The Exception
+        if (data == null) {
+            throw new IllegalArgumentException("The data entered was null");
+        }
+
+        long b = bottom;
+        long t = (long) TOP.getAcquire(this);
+        Object[] a = array;
+        if (b - t >= a.length) {
+            a = grow(a, t, b);
+        }
+
+        //Pushing, the release store publishes the element to the thieves
+        a[(int) b & (a.length - 1)] = data;
+        BOTTOM.setRelease(this, b + 1);
+    }
+
+    /**
+     * Removes and returns the data from the top of the deque, or returns
+     * null if the deque is empty.
+     *
+     * Must only be called by the owner thread. Must be O(1).
+     *
+     * @return the data formerly located at the top of the deque, or null
+     */
+    public T pop() {
+        long b = bottom - 1;
+        Object[] a = array;
+        // Claims the slot before looking at top, the fence orders the two
+        BOTTOM.setOpaque(this, b);
+        VarHandle.fullFence();
+        long t = (long) TOP.getOpaque(this);
+
+        if (t > b) {
+            // Empty, puts bottom back
+            BOTTOM.setOpaque(this, b + 1);
+            return null;
+        }
+
+        int index = (int) b & (a.length - 1);
+        T removedData = (T) a[index];
+        if (t == b) {
+            // The last element, races the thieves for it
+            if (!TOP.compareAndSet(this, t, t + 1)) {
+                removedData = null;
+            }
+            BOTTOM.setOpaque(this, b + 1);
+        } else {
+            a[index] = null;
+        }
+        return removedData;
+    }
+
+    /**
+     * Removes and returns the data from the bottom of the deque, or returns
+     * null if the deque is empty or another thread took that element first.
+     *
+     * May be called from any thread. Must be O(1) when uncontended.
+     *
+     * @return the data formerly located at the bottom of the deque, or null
+     */
+    public T steal() {
+        long t = (long) TOP.getAcquire(this);
+        VarHandle.fullFence();
+        long b = (long) BOTTOM.getAcquire(this);
+        if (t >= b) {
+            return null;
+        }
+
+        Object[] a = (Object[]) ARRAY.getAcquire(this);
+        T stolenData = (T) ELEMENT.getAcquire(a, (int) t & (a.length - 1));
+        if (!TOP.compareAndSet(this, t, t + 1)) {
+            // Lost the race to the owner or another thief
+            return null;
+        }
+        return stolenData;
+    }
+
+    /**
+     * Returns whether or not the deque is empty at the moment of the call.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns an estimate of the size of the deque.
+     *
+     * May be called from any thread; the result is only exact while no
+     * other thread is using the deque.
+     *
+     * @return the estimated size of the deque
+     */
+    public int size() {
+        long t = (long) TOP.getAcquire(this);
+        long b = (long) BOTTOM.getAcquire(this);
+        return (int) Math.max(0, b - t);
+    }
+
+    /**
+     * Returns the length of the current backing array.
+     *
+     * For grading and benchmarking purposes only.
+     *
+     * @return the capacity of the deque
+     */
+    public int capacity() {
+        return array.length;
+    }
+
+    /**
+     * Copies the elements between top and bottom into an array of double
+     * capacity and publishes it. The old array is left as it was, so a
+     * thief still reading it finds the same elements.
+     *
+     * @param a the current array
+     * @param t the top index
+     * @param b the bottom index
+     * @return the new array
+     * @throws java.lang.IllegalStateException if the array cannot grow
+     */
+    private Object[] grow(Object[] a, long t, long b) {
+        if (a.length == MAX_ARRAY_LENGTH) {
+            throw new IllegalStateException("The deque is full, it holds " + MAX_ARRAY_LENGTH + " elements.");
+        }
+        Object[] newArray = new Object[2 * a.length];
+        for (long i = t; i < b; i++) {
+            newArray[(int) i & (newArray.length - 1)] = a[(int) i & (a.length - 1)];
+        }
+        ARRAY.setRelease(this, newArray);
+        return newArray;
+    }
+}
+
+/**
+ * Fields of WorkStealingDeque read by every thread.
+ */
+abstract class WorkStealingDequeFields<T> {
+
+    Object[] array;
+}
+
+/**
+ * Padding between the array and the thieves' index.
+ */
+abstract class WorkStealingDequeTopPad<T> extends WorkStealingDequeFields<T> {
+
+    private long p00, p01, p02, p03, p04, p05, p06, p07;
+    private long p10, p11, p12, p13, p14, p15, p16;
+}
+
+/**
+ * Fields of WorkStealingDeque written by the thieves.
+ */
+abstract class WorkStealingDequeTopFields<T> extends WorkStealingDequeTopPad<T> {
+
+    long top;
+}
+
+/**
+ * Padding between the thieves' index and the owner's index.
+ */
+abstract class WorkStealingDequeBottomPad<T> extends WorkStealingDequeTopFields<T> {
+
+    private long p00, p01, p02, p03, p04, p05, p06, p07;
+    private long p10, p11, p12, p13, p14, p15, p16;
+}
+
+/**
+ * Fields of WorkStealingDeque written by the owner thread.
+ */
+abstract class WorkStealingDequeBottomFields<T> extends WorkStealingDequeBottomPad<T> {
+
+    long bottom;
+}
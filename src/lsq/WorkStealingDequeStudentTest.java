@@ -0,0 +1,116 @@
+package lsq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This is a basic set of unit tests for WorkStealingDeque.
+ */
+public class WorkStealingDequeStudentTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int CONCURRENT_TIMEOUT = 5000;
+    private WorkStealingDeque<String> deque;
+
+    @Before
+    public void setup() {
+        deque = new WorkStealingDeque<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInitialization() {
+        assertEquals(0, deque.size());
+        assertTrue(deque.isEmpty());
+        assertNull(deque.pop());
+        assertNull(deque.steal());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPushPopSteal() {
+        deque.push("0a");   // 0a
+        deque.push("1a");   // 0a, 1a
+        deque.push("2a");   // 0a, 1a, 2a
+        assertEquals(3, deque.size());
+
+        // The owner pops the newest, thieves steal the oldest
+        assertEquals("2a", deque.pop());    // 0a, 1a
+        assertEquals("0a", deque.steal());  // 1a
+        assertEquals("1a", deque.pop());
+        assertNull(deque.pop());
+        assertNull(deque.steal());
+        assertEquals(0, deque.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGrowWrapped() {
+        // Moves the indices so the elements wrap around the array
+        for (int i = 0; i < 10; i++) {
+            deque.push("x");
+            deque.steal();
+        }
+        for (int i = 0; i < 40; i++) {
+            deque.push(i + "a");
+        }
+        assertEquals(64, deque.capacity());
+        assertEquals(40, deque.size());
+        assertEquals("0a", deque.steal());
+        for (int i = 39; i > 0; i--) {
+            assertEquals(i + "a", deque.pop());
+        }
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testPushNull() {
+        deque.push(null);
+    }
+
+    @Test(timeout = CONCURRENT_TIMEOUT)
+    public void testConcurrentOwnerAndThieves() throws InterruptedException {
+        final int thieves = 3;
+        final int total = 100_000;
+        WorkStealingDeque<Integer> shared = new WorkStealingDeque<>();
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        AtomicBoolean done = new AtomicBoolean();
+
+        Thread[] workers = new Thread[thieves];
+        for (int t = 0; t < thieves; t++) {
+            workers[t] = new Thread(() -> {
+                while (!done.get() || !shared.isEmpty()) {
+                    Integer stolen = shared.steal();
+                    if (stolen != null) {
+                        seen.incrementAndGet(stolen);
+                    }
+                }
+            });
+            workers[t].start();
+        }
+
+        // The owner pushes everything, popping every third element itself
+        for (int i = 0; i < total; i++) {
+            shared.push(i);
+            if (i % 3 == 0) {
+                Integer popped = shared.pop();
+                if (popped != null) {
+                    seen.incrementAndGet(popped);
+                }
+            }
+        }
+        done.set(true);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // Every element was taken exactly once
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, seen.get(i));
+        }
+    }
+}
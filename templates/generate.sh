@@ -0,0 +1,28 @@
+#!/bin/sh
+# Generates the primitive specializations of ArrayList in src from the
+# templates in this folder. Edit the templates, not the generated files,
+# then run: sh templates/generate.sh
+#
+# Placeholders: $Type$ (Int), $type$ (int), $bytes$ (the element size) and
+# $delta$ (the tolerance argument of the JUnit asserts for floating point).
+cd "$(dirname "$0")/.." || exit 1
+
+generate() {
+    Type=$1 type=$2 bytes=$3 delta=$4
+    for template in PrimitiveArrayList PrimitiveArrayListStudentTest; do
+        target=src/lsq/$(echo "$template" | sed "s/Primitive/$Type/").java
+        {
+            echo "// Generated by templates/generate.sh from $template.java.template, do not edit."
+            sed -e "s/\\\$Type\\\$/$Type/g" \
+                -e "s/\\\$type\\\$/$type/g" \
+                -e "s/\\\$bytes\\\$/$bytes/g" \
+                -e "s/\\\$delta\\\$/$delta/g" \
+                "templates/$template.java.template"
+        } > "$target"
+        echo "$target"
+    done
+}
+
+generate Int int 4 ""
+generate Long long 8 ""
+generate Double double 8 ", 0.0"